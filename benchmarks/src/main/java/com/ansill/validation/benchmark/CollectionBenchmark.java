@@ -0,0 +1,218 @@
+package com.ansill.validation.benchmark;
+
+import com.ansill.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for array and collection checks. Invalid inputs have their null at the end so the whole input is scanned.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CollectionBenchmark{
+
+  /** Number of elements */
+  @Param({"10", "1000", "1000000"})
+  int size;
+
+  /** Variable name used in messages */
+  String variable_name = "list";
+
+  /** Array without nulls */
+  String[] valid_array;
+
+  /** Array with a null at the end */
+  String[] invalid_array;
+
+  /** Empty array */
+  String[] empty_array = new String[0];
+
+  /** List without nulls */
+  List<String> valid_list;
+
+  /** List with a null at the end */
+  List<String> invalid_list;
+
+  /** Empty list */
+  List<String> empty_list = Collections.emptyList();
+
+  /** Set without nulls */
+  Set<String> valid_set;
+
+  /** Set with a null */
+  Set<String> invalid_set;
+
+  @Setup
+  public void setup(){
+    valid_array = new String[size];
+    for(int i = 0; i < size; i++) valid_array[i] = Integer.toString(i);
+    invalid_array = valid_array.clone();
+    invalid_array[size - 1] = null;
+    valid_list = new ArrayList<>(Arrays.asList(valid_array));
+    invalid_list = new ArrayList<>(Arrays.asList(invalid_array));
+    valid_set = new HashSet<>(valid_list);
+    invalid_set = new HashSet<>(invalid_list);
+  }
+
+  @Benchmark
+  public Object validNonemptyArray(){
+    return Validation.assertNonempty(valid_array);
+  }
+
+  @Benchmark
+  public Object validNonemptyArrayWithVariableName(){
+    return Validation.assertNonempty(valid_array, variable_name);
+  }
+
+  @Benchmark
+  public Object invalidNonemptyArray(){
+    try{
+      return Validation.assertNonempty(empty_array);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidNonemptyArrayWithVariableName(){
+    try{
+      return Validation.assertNonempty(empty_array, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object validNonemptyCollection(){
+    return Validation.assertNonempty(valid_list);
+  }
+
+  @Benchmark
+  public Object validNonemptyCollectionWithVariableName(){
+    return Validation.assertNonempty(valid_list, variable_name);
+  }
+
+  @Benchmark
+  public Object invalidNonemptyCollection(){
+    try{
+      return Validation.assertNonempty(empty_list);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidNonemptyCollectionWithVariableName(){
+    try{
+      return Validation.assertNonempty(empty_list, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object validNonnullElementsArray(){
+    return Validation.assertNonnullElements(valid_array, false);
+  }
+
+  @Benchmark
+  public Object validNonnullElementsArrayWithVariableName(){
+    return Validation.assertNonnullElements(valid_array, variable_name, false);
+  }
+
+  @Benchmark
+  public Object invalidNonnullElementsArray(){
+    try{
+      return Validation.assertNonnullElements(invalid_array, false);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidNonnullElementsArrayWithVariableName(){
+    try{
+      return Validation.assertNonnullElements(invalid_array, variable_name, false);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object validNonnullElementsCollection(){
+    return Validation.assertNonnullElements((Collection<String>) valid_list, false);
+  }
+
+  @Benchmark
+  public Object validNonnullElementsCollectionWithVariableName(){
+    return Validation.assertNonnullElements((Collection<String>) valid_list, variable_name, false);
+  }
+
+  @Benchmark
+  public Object invalidNonnullElementsCollection(){
+    try{
+      return Validation.assertNonnullElements((Collection<String>) invalid_list, false);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidNonnullElementsCollectionWithVariableName(){
+    try{
+      return Validation.assertNonnullElements((Collection<String>) invalid_list, variable_name, false);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object validNonnullElementsSet(){
+    return Validation.assertNonnullElements(valid_set, false);
+  }
+
+  @Benchmark
+  public Object validNonnullElementsSetWithVariableName(){
+    return Validation.assertNonnullElements(valid_set, variable_name, false);
+  }
+
+  @Benchmark
+  public Object invalidNonnullElementsSet(){
+    try{
+      return Validation.assertNonnullElements(invalid_set, false);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidNonnullElementsSetWithVariableName(){
+    try{
+      return Validation.assertNonnullElements(invalid_set, variable_name, false);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+}
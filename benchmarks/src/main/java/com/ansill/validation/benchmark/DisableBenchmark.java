@@ -0,0 +1,92 @@
+package com.ansill.validation.benchmark;
+
+import com.ansill.validation.CheckKind;
+import com.ansill.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for enabled and disabled checks. Disabled checks are expected to match the baselines that return the
+ * argument without checking it. Overloads without variable name are used since overloads with one still check that
+ * the name is not null when the check is disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisableBenchmark{
+
+  /** True to run the checks, false to disable them */
+  @Param({"true", "false"})
+  boolean enabled;
+
+  /** Valid hostname */
+  String hostname = "subdomain.ansill.com";
+
+  /** Valid number */
+  long number = 8080L;
+
+  /** Array of non-negative numbers */
+  int[] array = new int[1000];
+
+  @Setup
+  public void setup(){
+    Arrays.fill(array, 1);
+    if(enabled) return;
+    Validation.disable(CheckKind.HOSTNAME);
+    Validation.disable(CheckKind.NATURAL_NUMBER);
+    Validation.disable(CheckKind.ALL_NONNEGATIVE);
+  }
+
+  @TearDown
+  public void tearDown(){
+    Validation.enable(CheckKind.HOSTNAME);
+    Validation.enable(CheckKind.NATURAL_NUMBER);
+    Validation.enable(CheckKind.ALL_NONNEGATIVE);
+  }
+
+  @Benchmark
+  public String baselineHostname(){
+    return hostname;
+  }
+
+  @Benchmark
+  public String validHostname(){
+    return Validation.assertValidHostname(hostname);
+  }
+
+  @Benchmark
+  public long baselineNaturalNumber(){
+    return number;
+  }
+
+  @Benchmark
+  public long validNaturalNumber(){
+    return Validation.assertNaturalNumber(number);
+  }
+
+  @Benchmark
+  public int[] baselineAllNonnegative(){
+    return array;
+  }
+
+  @Benchmark
+  public int[] validAllNonnegative(){
+    return Validation.assertAllNonnegative(array);
+  }
+}
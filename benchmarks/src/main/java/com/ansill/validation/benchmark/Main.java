@@ -0,0 +1,30 @@
+package com.ansill.validation.benchmark;
+
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+
+/**
+ * Benchmark entry point. Accepts the usual JMH command line options and always attaches GC/allocation profiler.
+ */
+public final class Main{
+
+  private Main(){
+    // Prevents any instantiation
+  }
+
+  /**
+   * Runs the benchmarks
+   *
+   * @param args JMH command line options
+   * @throws IOException     thrown if the benchmark list cannot be read
+   * @throws RunnerException thrown if the benchmark run fails
+   */
+  public static void main(String[] args) throws IOException, RunnerException{
+    String[] arguments = new String[args.length + 2];
+    arguments[0] = "-prof";
+    arguments[1] = "gc";
+    System.arraycopy(args, 0, arguments, 2, args.length);
+    org.openjdk.jmh.Main.main(arguments);
+  }
+}
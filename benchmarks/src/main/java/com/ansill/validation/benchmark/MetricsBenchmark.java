@@ -0,0 +1,65 @@
+package com.ansill.validation.benchmark;
+
+import com.ansill.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for checks with and without metrics, run on every available processor to expose contention on counters
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class MetricsBenchmark{
+
+  /** True to collect metrics */
+  @Param({"false", "true"})
+  boolean metrics;
+
+  /** Variable name used in messages */
+  String variable_name = "object";
+
+  /** Non-null object */
+  Object object = new Object();
+
+  /** Valid port */
+  int port = 8080;
+
+  @Setup
+  public void setup(){
+    Validation.setMetricsEnabled(metrics);
+  }
+
+  @TearDown
+  public void tearDown(){
+    Validation.setMetricsEnabled(false);
+    Validation.resetMetrics();
+  }
+
+  @Benchmark
+  public Object nonnull(){
+    return Validation.assertNonnull(object, variable_name);
+  }
+
+  @Benchmark
+  public int validPortNumber(){
+    return Validation.assertValidPortNumber(port, variable_name);
+  }
+}
@@ -0,0 +1,324 @@
+package com.ansill.validation.benchmark;
+
+import com.ansill.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for port number and numeric comparison checks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberBenchmark{
+
+  /** Variable name used in messages */
+  String variable_name = "number";
+
+  /** Valid port, natural number and non-negative number */
+  int valid_int = 8080;
+
+  /** Invalid port, natural number and non-negative number */
+  int invalid_int = -1;
+
+  /** Valid port, natural number and non-negative number */
+  long valid_long = 8080L;
+
+  /** Invalid port, natural number and non-negative number */
+  long invalid_long = -1L;
+
+  /** Number to be compared against */
+  long compare = 0L;
+
+  @Benchmark
+  public int validPortNumber(){
+    return Validation.assertValidPortNumber(valid_int);
+  }
+
+  @Benchmark
+  public int validPortNumberWithVariableName(){
+    return Validation.assertValidPortNumber(valid_int, variable_name);
+  }
+
+  @Benchmark
+  public Object invalidPortNumber(){
+    try{
+      return Validation.assertValidPortNumber(invalid_int);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidPortNumberWithVariableName(){
+    try{
+      return Validation.assertValidPortNumber(invalid_int, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public int validGreaterThanInt(){
+    return Validation.assertGreaterThan(valid_int, compare);
+  }
+
+  @Benchmark
+  public int validGreaterThanIntWithVariableName(){
+    return Validation.assertGreaterThan(valid_int, compare, variable_name);
+  }
+
+  @Benchmark
+  public long validGreaterThanLong(){
+    return Validation.assertGreaterThan(valid_long, compare);
+  }
+
+  @Benchmark
+  public long validGreaterThanLongWithVariableName(){
+    return Validation.assertGreaterThan(valid_long, compare, variable_name);
+  }
+
+  @Benchmark
+  public Object invalidGreaterThanInt(){
+    try{
+      return Validation.assertGreaterThan(invalid_int, compare);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidGreaterThanIntWithVariableName(){
+    try{
+      return Validation.assertGreaterThan(invalid_int, compare, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidGreaterThanLong(){
+    try{
+      return Validation.assertGreaterThan(invalid_long, compare);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidGreaterThanLongWithVariableName(){
+    try{
+      return Validation.assertGreaterThan(invalid_long, compare, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public int validLesserThanInt(){
+    return Validation.assertLesserThan(invalid_int, compare);
+  }
+
+  @Benchmark
+  public int validLesserThanIntWithVariableName(){
+    return Validation.assertLesserThan(invalid_int, compare, variable_name);
+  }
+
+  @Benchmark
+  public long validLesserThanLong(){
+    return Validation.assertLesserThan(invalid_long, compare);
+  }
+
+  @Benchmark
+  public long validLesserThanLongWithVariableName(){
+    return Validation.assertLesserThan(invalid_long, compare, variable_name);
+  }
+
+  @Benchmark
+  public Object invalidLesserThanInt(){
+    try{
+      return Validation.assertLesserThan(valid_int, compare);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidLesserThanIntWithVariableName(){
+    try{
+      return Validation.assertLesserThan(valid_int, compare, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidLesserThanLong(){
+    try{
+      return Validation.assertLesserThan(valid_long, compare);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidLesserThanLongWithVariableName(){
+    try{
+      return Validation.assertLesserThan(valid_long, compare, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public int validGreaterThanOrEqualInt(){
+    return Validation.assertGreaterThanOrEqual(valid_int, compare);
+  }
+
+  @Benchmark
+  public int validGreaterThanOrEqualIntWithVariableName(){
+    return Validation.assertGreaterThanOrEqual(valid_int, compare, variable_name);
+  }
+
+  @Benchmark
+  public long validGreaterThanOrEqualLong(){
+    return Validation.assertGreaterThanOrEqual(valid_long, compare);
+  }
+
+  @Benchmark
+  public long validGreaterThanOrEqualLongWithVariableName(){
+    return Validation.assertGreaterThanOrEqual(valid_long, compare, variable_name);
+  }
+
+  @Benchmark
+  public Object invalidGreaterThanOrEqualInt(){
+    try{
+      return Validation.assertGreaterThanOrEqual(invalid_int, compare);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidGreaterThanOrEqualIntWithVariableName(){
+    try{
+      return Validation.assertGreaterThanOrEqual(invalid_int, compare, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidGreaterThanOrEqualLong(){
+    try{
+      return Validation.assertGreaterThanOrEqual(invalid_long, compare);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidGreaterThanOrEqualLongWithVariableName(){
+    try{
+      return Validation.assertGreaterThanOrEqual(invalid_long, compare, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public int validNaturalNumberInt(){
+    return Validation.assertNaturalNumber(valid_int);
+  }
+
+  @Benchmark
+  public int validNaturalNumberIntWithVariableName(){
+    return Validation.assertNaturalNumber(valid_int, variable_name);
+  }
+
+  @Benchmark
+  public long validNaturalNumberLong(){
+    return Validation.assertNaturalNumber(valid_long);
+  }
+
+  @Benchmark
+  public long validNaturalNumberLongWithVariableName(){
+    return Validation.assertNaturalNumber(valid_long, variable_name);
+  }
+
+  @Benchmark
+  public Object invalidNaturalNumberInt(){
+    try{
+      return Validation.assertNaturalNumber(invalid_int);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidNaturalNumberIntWithVariableName(){
+    try{
+      return Validation.assertNaturalNumber(invalid_int, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidNaturalNumberLong(){
+    try{
+      return Validation.assertNaturalNumber(invalid_long);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidNaturalNumberLongWithVariableName(){
+    try{
+      return Validation.assertNaturalNumber(invalid_long, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public long validNonnegative(){
+    return Validation.assertNonnegative(valid_long);
+  }
+
+  @Benchmark
+  public long validNonnegativeWithVariableName(){
+    return Validation.assertNonnegative(valid_long, variable_name);
+  }
+
+  @Benchmark
+  public Object invalidNonnegative(){
+    try{
+      return Validation.assertNonnegative(invalid_long);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidNonnegativeWithVariableName(){
+    try{
+      return Validation.assertNonnegative(invalid_long, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.ansill.validation.benchmark;
+
+import com.ansill.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for primitive array checks. Each check is compared against an early exit loop, which is what the check
+ * looks like without the branch-free loop that the JIT is able to vectorize.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PrimitiveArrayBenchmark{
+
+  /** Number of elements */
+  @Param({"10", "1000", "1000000"})
+  int size;
+
+  /** Variable name used in messages */
+  String variable_name = "array";
+
+  /** Natural numbers */
+  int[] ints;
+
+  /** Natural numbers */
+  long[] longs;
+
+  /** Valid port numbers */
+  int[] ports;
+
+  @Setup
+  public void setup(){
+    Random random = new Random(0);
+    ints = new int[size];
+    longs = new long[size];
+    ports = new int[size];
+    for(int i = 0; i < size; i++){
+      ints[i] = random.nextInt(Integer.MAX_VALUE - 1) + 1;
+      longs[i] = random.nextLong() >>> 1 | 1;
+      ports[i] = random.nextInt(65535) + 1;
+    }
+  }
+
+  @Benchmark
+  public boolean isAllGreaterThanInt(){
+    return Validation.isAllGreaterThan(ints, 0);
+  }
+
+  @Benchmark
+  public boolean earlyExitGreaterThanInt(){
+    for(int number : ints) if(number <= 0) return false;
+    return true;
+  }
+
+  @Benchmark
+  public boolean isAllGreaterThanLong(){
+    return Validation.isAllGreaterThan(longs, 0);
+  }
+
+  @Benchmark
+  public boolean earlyExitGreaterThanLong(){
+    for(long number : longs) if(number <= 0) return false;
+    return true;
+  }
+
+  @Benchmark
+  public boolean isAllLesserThanLong(){
+    return Validation.isAllLesserThan(longs, Long.MAX_VALUE);
+  }
+
+  @Benchmark
+  public boolean earlyExitLesserThanLong(){
+    for(long number : longs) if(number >= Long.MAX_VALUE) return false;
+    return true;
+  }
+
+  @Benchmark
+  public boolean isAllNonnegativeLong(){
+    return Validation.isAllNonnegative(longs);
+  }
+
+  @Benchmark
+  public boolean earlyExitNonnegativeLong(){
+    for(long number : longs) if(number < 0) return false;
+    return true;
+  }
+
+  @Benchmark
+  public boolean isAllValidPortNumbers(){
+    return Validation.isAllValidPortNumbers(ports);
+  }
+
+  @Benchmark
+  public boolean earlyExitValidPortNumbers(){
+    for(int port : ports) if(port < 1 || port > 65535) return false;
+    return true;
+  }
+
+  @Benchmark
+  public Object validAllNaturalNumbersInt(){
+    return Validation.assertAllNaturalNumbers(ints);
+  }
+
+  @Benchmark
+  public Object validAllNaturalNumbersIntWithVariableName(){
+    return Validation.assertAllNaturalNumbers(ints, variable_name);
+  }
+
+  @Benchmark
+  public Object validAllNaturalNumbersLong(){
+    return Validation.assertAllNaturalNumbers(longs);
+  }
+
+  @Benchmark
+  public Object validAllNaturalNumbersLongWithVariableName(){
+    return Validation.assertAllNaturalNumbers(longs, variable_name);
+  }
+}
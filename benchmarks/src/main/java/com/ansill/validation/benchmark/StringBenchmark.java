@@ -0,0 +1,182 @@
+package com.ansill.validation.benchmark;
+
+import com.ansill.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for null, string, hostname and email address checks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringBenchmark{
+
+  /** Capacity of hostname and email address caches, 0 to disable */
+  @Param({"0", "1024"})
+  int cache_size;
+
+  /** Variable name used in messages */
+  String variable_name = "value";
+
+  /** Non-null object */
+  Object object = new Object();
+
+  /** Null object */
+  Object null_object = null;
+
+  /** Valid hostname */
+  String valid_hostname = "foo.bar.something.example.com";
+
+  /** Invalid hostname */
+  String invalid_hostname = "foo.ba$$#r.something.example.com";
+
+  /** Valid email address */
+  String valid_email_address = "firstname.lastname@subdomain.example.com";
+
+  /** Invalid email address */
+  String invalid_email_address = "firstname..lastname@subdomain.example.com";
+
+  /** Non-empty string */
+  String nonempty_string = "  something  ";
+
+  /** Empty string */
+  String empty_string = "    ";
+
+  @Setup
+  public void setup(){
+    Validation.setCacheSize(cache_size);
+  }
+
+  @TearDown
+  public void tearDown(){
+    Validation.setCacheSize(0);
+  }
+
+  @Benchmark
+  public Object validNonnull(){
+    return Validation.assertNonnull(object);
+  }
+
+  @Benchmark
+  public Object validNonnullWithVariableName(){
+    return Validation.assertNonnull(object, variable_name);
+  }
+
+  @Benchmark
+  public Object invalidNonnull(){
+    try{
+      return Validation.assertNonnull(null_object);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidNonnullWithVariableName(){
+    try{
+      return Validation.assertNonnull(null_object, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public String validHostname(){
+    return Validation.assertValidHostname(valid_hostname);
+  }
+
+  @Benchmark
+  public String validHostnameWithVariableName(){
+    return Validation.assertValidHostname(valid_hostname, variable_name);
+  }
+
+  @Benchmark
+  public Object invalidHostname(){
+    try{
+      return Validation.assertValidHostname(invalid_hostname);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidHostnameWithVariableName(){
+    try{
+      return Validation.assertValidHostname(invalid_hostname, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public String validEmailAddress(){
+    return Validation.assertValidEmailAddress(valid_email_address);
+  }
+
+  @Benchmark
+  public String validEmailAddressWithVariableName(){
+    return Validation.assertValidEmailAddress(valid_email_address, variable_name);
+  }
+
+  @Benchmark
+  public Object invalidEmailAddress(){
+    try{
+      return Validation.assertValidEmailAddress(invalid_email_address);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidEmailAddressWithVariableName(){
+    try{
+      return Validation.assertValidEmailAddress(invalid_email_address, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public String validNonemptyString(){
+    return Validation.assertNonemptyString(nonempty_string);
+  }
+
+  @Benchmark
+  public String validNonemptyStringWithVariableName(){
+    return Validation.assertNonemptyString(nonempty_string, variable_name);
+  }
+
+  @Benchmark
+  public Object invalidNonemptyString(){
+    try{
+      return Validation.assertNonemptyString(empty_string);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object invalidNonemptyStringWithVariableName(){
+    try{
+      return Validation.assertNonemptyString(empty_string, variable_name);
+    }catch(IllegalArgumentException e){
+      return e;
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package com.ansill.validation.benchmark;
+
+import com.ansill.validation.Rules;
+import com.ansill.validation.Validation;
+import com.ansill.validation.Validator;
+import com.ansill.validation.annotation.Natural;
+import com.ansill.validation.annotation.NonEmpty;
+import com.ansill.validation.annotation.Port;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for validators created from annotations against a handwritten validator and against reading the members
+ * with {@link Field#get(Object)}. Checks are cheap, so the cost of reading members dominates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark{
+
+  /** Handwritten validator */
+  private static final Validator<PublicConfig> HANDWRITTEN = Validator.of(PublicConfig.class)
+                                                                      .field("port", config -> config.port, Rules.portNumber())
+                                                                      .field("workers", config -> config.workers, Rules.naturalNumber())
+                                                                      .field("aliases", config -> config.aliases, Rules.nonempty())
+                                                                      .build();
+
+  /** Validator created from annotations on public fields */
+  private static final Validator<PublicConfig> PUBLIC_FIELDS = Validator.fromAnnotations(PublicConfig.class);
+
+  /** Validator created from annotations on private fields */
+  private static final Validator<PrivateConfig> PRIVATE_FIELDS = Validator.fromAnnotations(PrivateConfig.class);
+
+  /** Validator created from annotations on package-private getters */
+  private static final Validator<GetterConfig> GETTERS = Validator.fromAnnotations(GetterConfig.class);
+
+  /** Fields of private configuration read with reflection */
+  private static final Field[] FIELDS = PrivateConfig.fields();
+
+  /** Configuration with public fields */
+  PublicConfig public_config = new PublicConfig();
+
+  /** Configuration with private fields */
+  PrivateConfig private_config = new PrivateConfig();
+
+  /** Configuration with getters */
+  GetterConfig getter_config = new GetterConfig();
+
+  @Benchmark
+  public PublicConfig handwritten(){
+    return HANDWRITTEN.validate(public_config);
+  }
+
+  @Benchmark
+  public PublicConfig annotatedPublicFields(){
+    return PUBLIC_FIELDS.validate(public_config);
+  }
+
+  @Benchmark
+  public PrivateConfig annotatedPrivateFields(){
+    return PRIVATE_FIELDS.validate(private_config);
+  }
+
+  @Benchmark
+  public GetterConfig annotatedGetters(){
+    return GETTERS.validate(getter_config);
+  }
+
+  @Benchmark
+  public PrivateConfig reflection() throws IllegalAccessException{
+    Validation.assertValidPortNumber(FIELDS[0].getInt(private_config), "port");
+    Validation.assertNaturalNumber(FIELDS[1].getLong(private_config), "workers");
+    Validation.assertNonempty((List<?>) FIELDS[2].get(private_config), "aliases");
+    return private_config;
+  }
+
+  /**
+   * Configuration with public fields
+   */
+  public static class PublicConfig{
+
+    @Port
+    public int port = 8080;
+
+    @Natural
+    public long workers = 4;
+
+    @NonEmpty
+    public List<String> aliases = Collections.singletonList("a");
+  }
+
+  /**
+   * Configuration with private fields
+   */
+  public static class PrivateConfig{
+
+    @Port
+    private int port = 8080;
+
+    @Natural
+    private long workers = 4;
+
+    @NonEmpty
+    private List<String> aliases = Collections.singletonList("a");
+
+    /**
+     * Returns accessible fields in the order they are declared
+     *
+     * @return fields
+     */
+    static Field[] fields(){
+      try{
+        Field[] fields = {
+          PrivateConfig.class.getDeclaredField("port"),
+          PrivateConfig.class.getDeclaredField("workers"),
+          PrivateConfig.class.getDeclaredField("aliases")
+        };
+        for(Field field : fields) field.setAccessible(true);
+        return fields;
+      }catch(NoSuchFieldException e){
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  /**
+   * Configuration with package-private getters
+   */
+  public static class GetterConfig{
+
+    private int port = 8080;
+
+    private long workers = 4;
+
+    private List<String> aliases = Collections.singletonList("a");
+
+    @Port
+    int getPort(){
+      return port;
+    }
+
+    @Natural
+    long getWorkers(){
+      return workers;
+    }
+
+    @NonEmpty
+    List<String> getAliases(){
+      return aliases;
+    }
+  }
+}
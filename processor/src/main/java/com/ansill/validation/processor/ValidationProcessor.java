@@ -0,0 +1,333 @@
+package com.ansill.validation.processor;
+
+import com.ansill.validation.annotation.Email;
+import com.ansill.validation.annotation.Hostname;
+import com.ansill.validation.annotation.Natural;
+import com.ansill.validation.annotation.NonEmpty;
+import com.ansill.validation.annotation.NonnullElements;
+import com.ansill.validation.annotation.Port;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a {@code <Type>Validator} class for every type with validation annotations. Generated validators call the
+ * checks of {@code Validation} directly, like handwritten code would, so no reflection happens at runtime.
+ */
+@SupportedAnnotationTypes({
+  "com.ansill.validation.annotation.Hostname",
+  "com.ansill.validation.annotation.Email",
+  "com.ansill.validation.annotation.Port",
+  "com.ansill.validation.annotation.Natural",
+  "com.ansill.validation.annotation.NonEmpty",
+  "com.ansill.validation.annotation.NonnullElements"
+})
+public final class ValidationProcessor extends AbstractProcessor{
+
+  /** Class that contains the checks */
+  private static final String VALIDATION = "com.ansill.validation.Validation";
+
+  /** Annotations that are processed, checks of a member are generated in this order */
+  private static final List<Class<? extends Annotation>> ANNOTATIONS = Arrays.asList(
+    Hostname.class,
+    Email.class,
+    Port.class,
+    Natural.class,
+    NonEmpty.class,
+    NonnullElements.class
+  );
+
+  @Override
+  public SourceVersion getSupportedSourceVersion(){
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round){
+
+    // Collect types with annotated members
+    Set<TypeElement> types = new LinkedHashSet<>();
+    for(Class<? extends Annotation> annotation : ANNOTATIONS){
+      for(Element element : round.getElementsAnnotatedWith(annotation)){
+        types.add((TypeElement) element.getEnclosingElement());
+      }
+    }
+
+    // Generate validator for each of them
+    for(TypeElement type : types) generate(type);
+    return true;
+  }
+
+  /**
+   * Generates validator of type
+   *
+   * @param type type with annotated members
+   */
+  private void generate(@Nonnull TypeElement type){
+
+    StringBuilder assertions = new StringBuilder();
+    StringBuilder conditions = new StringBuilder();
+    boolean valid = true;
+
+    // Type has to be reachable from generated validator
+    for(Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()){
+      if(!element.getModifiers().contains(Modifier.PRIVATE)) continue;
+      error(type, "Type with validation annotations cannot be private or be nested in a private type");
+      valid = false;
+    }
+
+    // Generate checks of every member in the order they are declared
+    for(Element member : type.getEnclosedElements()){
+      for(Class<? extends Annotation> annotation_type : ANNOTATIONS){
+        Annotation annotation = member.getAnnotation(annotation_type);
+        if(annotation != null) valid &= generateCheck(member, annotation, assertions, conditions);
+      }
+    }
+
+    // Exit if there are errors, they were reported already
+    if(!valid) return;
+
+    // Name validator after the type, nested type names are joined by underscores
+    String validator_name = type.getSimpleName() + "Validator";
+    for(Element element = type.getEnclosingElement(); element instanceof TypeElement; element = element.getEnclosingElement()){
+      validator_name = element.getSimpleName() + "_" + validator_name;
+    }
+
+    // Refer type with wildcards if it's generic
+    StringBuilder type_name = new StringBuilder(type.getQualifiedName());
+    for(int i = 0; i < type.getTypeParameters().size(); i++) type_name.append(i == 0 ? "<?" : ", ?");
+    if(!type.getTypeParameters().isEmpty()) type_name.append('>');
+
+    PackageElement package_element = processingEnv.getElementUtils().getPackageOf(type);
+    String package_name = package_element.isUnnamed() ? null : package_element.getQualifiedName().toString();
+    String qualified_name = package_name == null ? validator_name : package_name + "." + validator_name;
+
+    // Write it
+    try{
+      JavaFileObject file = processingEnv.getFiler().createSourceFile(qualified_name, type);
+      try(Writer writer = file.openWriter()){
+        writer.write("// Generated by " + ValidationProcessor.class.getName() + ", do not edit\n");
+        if(package_name != null) writer.write("package " + package_name + ";\n");
+        writer.write("\n");
+        writer.write("/**\n");
+        writer.write(" * Validator of {@link " + type.getQualifiedName() + "} generated from its validation annotations\n");
+        writer.write(" */\n");
+        writer.write("public final class " + validator_name + " implements com.ansill.validation.Validator<" + type_name + ">{\n");
+        writer.write("\n");
+        writer.write("  @Override\n");
+        writer.write("  public " + type_name + " validate(" + type_name + " object) throws IllegalArgumentException{\n");
+        writer.write("    " + VALIDATION + ".assertNonnull(object);\n");
+        writer.write(assertions.toString());
+        writer.write("    return object;\n");
+        writer.write("  }\n");
+        writer.write("\n");
+        writer.write("  @Override\n");
+        writer.write("  public boolean isValid(" + type_name + " object){\n");
+        writer.write("    if(object == null) return false;\n");
+        writer.write(conditions.toString());
+        writer.write("    return true;\n");
+        writer.write("  }\n");
+        writer.write("}\n");
+      }
+    }catch(IOException e){
+      error(type, "Failed to write validator " + qualified_name + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Generates check of an annotated member
+   *
+   * @param member     annotated member
+   * @param annotation annotation on member
+   * @param assertions generated assertions that throw if member is invalid
+   * @param conditions generated statements that return false if member is invalid
+   * @return true if check was generated, false if member cannot be checked and error was reported
+   */
+  private boolean generateCheck(
+    @Nonnull Element member,
+    @Nonnull Annotation annotation,
+    @Nonnull StringBuilder assertions,
+    @Nonnull StringBuilder conditions
+  ){
+    String annotation_name = "@" + annotation.annotationType().getSimpleName();
+
+    // Member has to be readable from generated validator
+    if(member.getModifiers().contains(Modifier.PRIVATE) || member.getModifiers().contains(Modifier.STATIC)){
+      error(member, annotation_name + " cannot be placed on private or static members");
+      return false;
+    }
+
+    // Find out how to read it
+    String accessor;
+    String variable_name;
+    TypeMirror type;
+    if(member.getKind() == ElementKind.FIELD){
+      accessor = "object." + member.getSimpleName();
+      variable_name = member.getSimpleName().toString();
+      type = member.asType();
+    }else{
+      ExecutableElement method = (ExecutableElement) member;
+      if(!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID){
+        error(member, annotation_name + " can only be placed on methods without parameters that return a value");
+        return false;
+      }
+      accessor = "object." + member.getSimpleName() + "()";
+      variable_name = toPropertyName(member.getSimpleName().toString());
+      type = method.getReturnType();
+    }
+
+    // Find the check
+    String assertion = null;
+    String condition = null;
+    boolean read_once = false;
+    if(annotation instanceof Hostname && isString(type)){
+      assertion = "assertValidHostname(" + accessor + ", \"" + variable_name + "\")";
+      condition = "!" + VALIDATION + ".isValidHostname(" + accessor + ")";
+    }else if(annotation instanceof Email && isString(type)){
+      assertion = "assertValidEmailAddress(" + accessor + ", \"" + variable_name + "\")";
+      condition = "!" + VALIDATION + ".isValidEmailAddress(" + accessor + ")";
+    }else if(annotation instanceof Port && isKind(type, TypeKind.BYTE, TypeKind.SHORT, TypeKind.CHAR, TypeKind.INT)){
+      assertion = "assertValidPortNumber(" + accessor + ", \"" + variable_name + "\")";
+      condition = "!" + VALIDATION + ".isValidPortNumber(" + accessor + ")";
+    }else if(annotation instanceof Natural && isKind(type, TypeKind.BYTE, TypeKind.SHORT, TypeKind.INT, TypeKind.LONG)){
+      assertion = "assertNaturalNumber(" + accessor + ", \"" + variable_name + "\")";
+      condition = "!" + VALIDATION + ".isNaturalNumber(" + accessor + ")";
+    }else if(annotation instanceof NonEmpty && isString(type)){
+      assertion = "assertNonemptyString(" + accessor + ", \"" + variable_name + "\")";
+      condition = "!" + VALIDATION + ".isNonemptyString(" + accessor + ")";
+    }else if(annotation instanceof NonEmpty && (isCollection(type) || isArray(type, false))){
+      assertion = "assertNonempty(" + accessor + ", \"" + variable_name + "\")";
+      condition = "!" + VALIDATION + ".isNonempty(" + accessor + ")";
+    }else if(annotation instanceof NonEmpty && isArray(type, true)){
+      assertion = "assertNonempty(" + accessor + ", \"" + variable_name + "\")";
+      condition = "value == null || value.length == 0";
+      read_once = true;
+    }else if(annotation instanceof NonnullElements && (isCollection(type) || isArray(type, false))){
+      boolean empty_allowed = ((NonnullElements) annotation).emptyAllowed();
+      assertion = "assertNonnullElements(" + accessor + ", \"" + variable_name + "\", " + empty_allowed + ")";
+      condition = (empty_allowed ? "value == null" : "!" + VALIDATION + ".isNonempty(value)") +
+                  " || " + VALIDATION + ".hasNullElements(value)";
+      read_once = true;
+    }
+
+    // Exit if type is not supported
+    if(assertion == null){
+      error(member, annotation_name + " cannot be placed on members of type " + type);
+      return false;
+    }
+
+    assertions.append("    ").append(VALIDATION).append('.').append(assertion).append(";\n");
+
+    // Conditions that use the member more than once read it once into a local in its own block
+    if(read_once){
+      conditions.append("    {\n");
+      conditions.append("      ").append(processingEnv.getTypeUtils().erasure(type)).append(" value = ");
+      conditions.append(accessor).append(";\n");
+      conditions.append("      if(").append(condition).append(") return false;\n");
+      conditions.append("    }\n");
+    }else{
+      conditions.append("    if(").append(condition).append(") return false;\n");
+    }
+    return true;
+  }
+
+  /**
+   * Converts getter name to property name, e.g. getHost to host
+   *
+   * @param method_name name of getter
+   * @return property name or method name if it does not follow getter naming
+   */
+  @Nonnull
+  static String toPropertyName(@Nonnull String method_name){
+    for(String prefix : new String[]{"get", "is"}){
+      if(method_name.length() <= prefix.length() || !method_name.startsWith(prefix)) continue;
+      char first = method_name.charAt(prefix.length());
+      if(!Character.isUpperCase(first)) continue;
+      return Character.toLowerCase(first) + method_name.substring(prefix.length() + 1);
+    }
+    return method_name;
+  }
+
+  /**
+   * Checks if type is a string
+   *
+   * @param type type to be checked
+   * @return true if string, false otherwise
+   */
+  private boolean isString(@Nonnull TypeMirror type){
+    TypeElement string = processingEnv.getElementUtils().getTypeElement(String.class.getCanonicalName());
+    return processingEnv.getTypeUtils().isSameType(type, string.asType());
+  }
+
+  /**
+   * Checks if type is a collection
+   *
+   * @param type type to be checked
+   * @return true if collection, false otherwise
+   */
+  private boolean isCollection(@Nonnull TypeMirror type){
+    TypeElement collection = processingEnv.getElementUtils().getTypeElement("java.util.Collection");
+    return type.getKind() == TypeKind.DECLARED && processingEnv.getTypeUtils().isAssignable(
+      processingEnv.getTypeUtils().erasure(type),
+      processingEnv.getTypeUtils().erasure(collection.asType())
+    );
+  }
+
+  /**
+   * Checks if type is an array that is supported by the checks
+   *
+   * @param type      type to be checked
+   * @param primitive true to check for int, long, byte and double arrays, false to check for arrays of objects
+   * @return true if supported array, false otherwise
+   */
+  private static boolean isArray(@Nonnull TypeMirror type, boolean primitive){
+    if(type.getKind() != TypeKind.ARRAY) return false;
+    TypeMirror component = ((ArrayType) type).getComponentType();
+    if(!primitive) return !component.getKind().isPrimitive();
+    return isKind(component, TypeKind.INT, TypeKind.LONG, TypeKind.BYTE, TypeKind.DOUBLE);
+  }
+
+  /**
+   * Checks if type is one of kinds
+   *
+   * @param type  type to be checked
+   * @param kinds kinds to be matched
+   * @return true if type is one of kinds, false otherwise
+   */
+  private static boolean isKind(@Nonnull TypeMirror type, @Nonnull TypeKind... kinds){
+    for(TypeKind kind : kinds) if(type.getKind() == kind) return true;
+    return false;
+  }
+
+  /**
+   * Reports an error
+   *
+   * @param element element that caused the error
+   * @param message error message
+   */
+  private void error(@Nullable Element element, @Nonnull String message){
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+}
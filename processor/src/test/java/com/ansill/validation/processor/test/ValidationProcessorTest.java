@@ -0,0 +1,245 @@
+package com.ansill.validation.processor.test;
+
+import com.ansill.validation.Validator;
+import com.ansill.validation.processor.ValidationProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationProcessorTest{
+
+  private static final String CONFIG = String.join(
+    "\n",
+    "package sample;",
+    "",
+    "import com.ansill.validation.annotation.*;",
+    "import java.util.List;",
+    "",
+    "public class Config{",
+    "  @Hostname public String host = \"ansill.com\";",
+    "  @Port public int port = 8080;",
+    "  @Email public String admin = \"admin@ansill.com\";",
+    "  @Natural public long workers = 4;",
+    "  @NonEmpty @NonnullElements public List<String> aliases = java.util.Arrays.asList(\"a\", \"b\");",
+    "  @NonnullElements(emptyAllowed = false) public String[] names = {\"a\"};",
+    "  @NonEmpty public int[] ports = {1};",
+    "  public String name = \"name\";",
+    "",
+    "  @NonEmpty",
+    "  public String getName(){",
+    "    return name;",
+    "  }",
+    "",
+    "  public static class Inner{",
+    "    @Port public int port;",
+    "  }",
+    "}"
+  );
+
+  @DisplayName("Test generating validators")
+  @Test
+  void testGeneratedValidator(@TempDir Path directory) throws Exception{
+
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(directory, "sample/Config.java", CONFIG);
+    assertTrue(diagnostics.isEmpty(), diagnostics::toString);
+    assertTrue(Files.exists(directory.resolve("sample/ConfigValidator.java")));
+    assertTrue(Files.exists(directory.resolve("sample/Config_InnerValidator.java")));
+
+    try(URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader())){
+
+      Class<?> config_class = loader.loadClass("sample.Config");
+      @SuppressWarnings("unchecked")
+      Validator<Object> validator = (Validator<Object>) loader.loadClass("sample.ConfigValidator").newInstance();
+
+      Object config = config_class.newInstance();
+      assertTrue(validator.isValid(config));
+      assertSame(config, validator.validate(config));
+      assertFalse(validator.isValid(null));
+
+      assertInvalid(validator, config, "host", "google.$$#com",
+        "Value in variable 'host' is expected to be a valid hostname/IP address but it is actually not a valid hostname/IP address"
+      );
+      assertInvalid(validator, config, "port", 0,
+        "Value in variable 'port' is expected to be within 1-65535 range but is found to be out of the range"
+      );
+      assertInvalid(validator, config, "admin", null,
+        "Value in variable 'admin' is expected to be non-null but is found to be null"
+      );
+      assertInvalid(validator, config, "workers", 0L,
+        "Value in variable 'workers' is expected to be a natural number (1, 2, ..., N-1, N) but it is actually not a natural number"
+      );
+      assertInvalid(validator, config, "aliases", Collections.emptyList(),
+        "Value in variable 'aliases' is expected to be non-empty but value is actually empty"
+      );
+      assertInvalid(validator, config, "aliases", Arrays.asList("a", null),
+        "Value in variable 'aliases' is expected to have all of its list members to be non-null but the list contains null members. The invalid member is at index 1"
+      );
+      assertInvalid(validator, config, "names", new String[0],
+        "Value in variable 'names' is expected to be non-empty but value is actually empty"
+      );
+      assertInvalid(validator, config, "ports", new int[0],
+        "Value in variable 'ports' is expected to be non-empty but value is actually empty"
+      );
+      assertInvalid(validator, config, "name", " ",
+        "Value in variable 'name' is expected to be non-empty but value is actually a empty string"
+      );
+    }
+  }
+
+  @DisplayName("Test that generated validators read members once when checking")
+  @Test
+  void testMembersReadOnce(@TempDir Path directory) throws Exception{
+
+    String source = String.join(
+      "\n",
+      "package sample;",
+      "",
+      "import com.ansill.validation.annotation.*;",
+      "import java.util.List;",
+      "",
+      "public class Counted<T>{",
+      "  public int reads;",
+      "  @NonnullElements public T[] items;",
+      "",
+      "  @NonEmpty",
+      "  public int[] getPorts(){",
+      "    reads++;",
+      "    return reads == 1 ? new int[]{1} : null;",
+      "  }",
+      "",
+      "  @NonnullElements(emptyAllowed = false)",
+      "  public List<String> getNames(){",
+      "    reads++;",
+      "    return java.util.Collections.singletonList(reads == 2 ? \"a\" : null);",
+      "  }",
+      "}"
+    );
+
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(directory, "sample/Counted.java", source);
+    assertTrue(diagnostics.isEmpty(), diagnostics::toString);
+
+    try(URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader())){
+
+      Class<?> counted_class = loader.loadClass("sample.Counted");
+      @SuppressWarnings("unchecked")
+      Validator<Object> validator = (Validator<Object>) loader.loadClass("sample.CountedValidator").newInstance();
+
+      Object counted = counted_class.newInstance();
+      counted_class.getField("items").set(counted, new String[]{"a"});
+      assertTrue(validator.isValid(counted));
+      assertEquals(2, counted_class.getField("reads").getInt(counted));
+    }
+  }
+
+  @DisplayName("Test generating validators for unsupported members")
+  @Test
+  void testUnsupportedMembers(@TempDir Path directory) throws Exception{
+
+    String source = String.join(
+      "\n",
+      "package sample;",
+      "",
+      "import com.ansill.validation.annotation.*;",
+      "",
+      "public class Invalid{",
+      "  @Hostname private String host;",
+      "  @Port String port;",
+      "  @Natural static int workers;",
+      "  @NonEmpty short[] shorts;",
+      "",
+      "  @Email",
+      "  String email(String argument){",
+      "    return argument;",
+      "  }",
+      "}"
+    );
+
+    List<String> errors = compile(directory, "sample/Invalid.java", source)
+      .stream()
+      .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+      .map(diagnostic -> diagnostic.getMessage(null))
+      .collect(Collectors.toList());
+
+    assertEquals(
+      Arrays.asList(
+        "@Hostname cannot be placed on private or static members",
+        "@Port cannot be placed on members of type java.lang.String",
+        "@Natural cannot be placed on private or static members",
+        "@NonEmpty cannot be placed on members of type short[]",
+        "@Email can only be placed on methods without parameters that return a value"
+      ),
+      errors
+    );
+    assertFalse(Files.exists(directory.resolve("sample/InvalidValidator.java")));
+  }
+
+  private static void assertInvalid(
+    Validator<Object> validator,
+    Object config,
+    String field_name,
+    Object value,
+    String message
+  ) throws ReflectiveOperationException{
+
+    java.lang.reflect.Field field = config.getClass().getField(field_name);
+    Object original = field.get(config);
+    field.set(config, value);
+
+    try{
+      assertFalse(validator.isValid(config));
+      IllegalArgumentException iae = assertThrows(IllegalArgumentException.class, () -> validator.validate(config));
+      assertEquals(message, iae.getMessage());
+    }finally{
+      field.set(config, original);
+    }
+  }
+
+  private static List<Diagnostic<? extends JavaFileObject>> compile(Path directory, String path, String source)
+  throws IOException{
+
+    Path file = directory.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    try(StandardJavaFileManager manager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)){
+      JavaCompiler.CompilationTask task = compiler.getTask(
+        null,
+        manager,
+        diagnostics,
+        Arrays.asList(
+          "-classpath", System.getProperty("java.class.path"),
+          "-d", directory.toString(),
+          "-s", directory.toString()
+        ),
+        null,
+        manager.getJavaFileObjects(file.toFile())
+      );
+      task.setProcessors(Collections.singletonList(new ValidationProcessor()));
+      task.call();
+    }
+
+    return diagnostics.getDiagnostics();
+  }
+}
@@ -0,0 +1,45 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.lang.reflect.AccessibleObject;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hooks for accessors of members of validated classes. This base version creates none, since Java 8 cannot define
+ * classes next to the validated class. Java 11 and newer runtimes load the version in the multi-release layer that
+ * generates them.
+ */
+@Immutable
+final class Accessors{
+
+  private Accessors(){
+    // Prevents any instantiation
+  }
+
+  /**
+   * Creates accessor that reads member
+   *
+   * @param type   class that declares member
+   * @param member member to be read, field or method
+   * @return accessor or null if it cannot be created
+   */
+  @Nullable
+  static Function<Object, Object> bind(@Nonnull Class<?> type, @Nonnull AccessibleObject member){
+    return null;
+  }
+
+  /**
+   * Creates accessor that reads numeric member without boxing
+   *
+   * @param type   class that declares member
+   * @param member member to be read, field or method
+   * @return accessor or null if it cannot be created
+   */
+  @Nullable
+  static ToLongFunction<Object> bindNumber(@Nonnull Class<?> type, @Nonnull AccessibleObject member){
+    return null;
+  }
+}
@@ -0,0 +1,350 @@
+package com.ansill.validation;
+
+import com.ansill.validation.annotation.Email;
+import com.ansill.validation.annotation.Hostname;
+import com.ansill.validation.annotation.Natural;
+import com.ansill.validation.annotation.NonEmpty;
+import com.ansill.validation.annotation.NonnullElements;
+import com.ansill.validation.annotation.Port;
+
+import javax.annotation.Nonnull;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Creates validators from validation annotations at runtime. Each class is introspected once and its validator is
+ * cached. Members are bound into functions so validating does not go through reflection. On Java 11 and newer every
+ * member gets a generated accessor, see {@link Accessors}.
+ */
+final class AnnotatedValidators{
+
+  /** Annotations that are processed, checks of a member are created in this order */
+  @Nonnull
+  private static final List<Class<? extends Annotation>> ANNOTATIONS = Arrays.asList(
+    Hostname.class,
+    Email.class,
+    Port.class,
+    Natural.class,
+    NonEmpty.class,
+    NonnullElements.class
+  );
+
+  /** Rule for primitive arrays that are not empty */
+  @Nonnull
+  private static final Rule<Object> NONEMPTY_PRIMITIVE_ARRAY = new Rule<Object>(Validation.EMPTY_ARRAY_MESSAGE){
+    @Override
+    boolean test(@Nonnull Object value){
+      return Array.getLength(value) != 0;
+    }
+  };
+
+  /** Validators of classes */
+  @Nonnull
+  private static final ClassValue<Validator<?>> VALIDATORS = new ClassValue<Validator<?>>(){
+    @Override
+    protected Validator<?> computeValue(Class<?> type){
+      return create(type);
+    }
+  };
+
+  private AnnotatedValidators(){
+    // Prevents any instantiation
+  }
+
+  /**
+   * Returns validator of class, creating it on first call
+   *
+   * @param <T>  type of validated objects
+   * @param type class of validated objects
+   * @return validator
+   * @throws IllegalArgumentException thrown if annotations cannot be applied to members of class
+   */
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  static <T> Validator<T> get(@Nonnull Class<T> type) throws IllegalArgumentException{
+    return (Validator<T>) VALIDATORS.get(type);
+  }
+
+  /**
+   * Creates validator of class. Annotated fields are checked first, then annotated getters, each in the order of their
+   * names. The order in which the class declares them is not available through reflection.
+   *
+   * @param <T>  type of validated objects
+   * @param type class of validated objects
+   * @return validator
+   * @throws IllegalArgumentException thrown if annotations cannot be applied to members of class
+   */
+  @Nonnull
+  private static <T> Validator<T> create(@Nonnull Class<T> type) throws IllegalArgumentException{
+    ValidatorBuilder<T> builder = new ValidatorBuilder<>();
+    Field[] fields = type.getDeclaredFields();
+    Arrays.sort(fields, Comparator.comparing(Field::getName));
+    for(Field field : fields) addChecks(builder, type, field, field.getName(), field.getType());
+    Method[] methods = type.getDeclaredMethods();
+    Arrays.sort(methods, Comparator.comparing(Method::getName));
+    for(Method method : methods){
+      if(method.isSynthetic() || method.isBridge()) continue;
+      addChecks(builder, type, method, toPropertyName(method.getName()), method.getReturnType());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Adds checks of an annotated member to builder
+   *
+   * @param <T>           type of validated objects
+   * @param builder       builder of validator
+   * @param type          class of validated objects
+   * @param member        member to be checked, field or method
+   * @param variable_name name of member used in messages
+   * @param member_type   type of member value
+   * @throws IllegalArgumentException thrown if annotations cannot be applied to member
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> void addChecks(
+    @Nonnull ValidatorBuilder<T> builder,
+    @Nonnull Class<T> type,
+    @Nonnull AccessibleObject member,
+    @Nonnull String variable_name,
+    @Nonnull Class<?> member_type
+  ) throws IllegalArgumentException{
+    for(Class<? extends Annotation> annotation_type : ANNOTATIONS){
+      Annotation annotation = member.getAnnotation(annotation_type);
+      if(annotation == null) continue;
+      String annotation_name = "@" + annotation_type.getSimpleName();
+
+      // Member has to be an instance member that can be read
+      if(Modifier.isStatic(((Member) member).getModifiers())){
+        throw new IllegalArgumentException(annotation_name + " cannot be placed on static members: " + member);
+      }
+      if(member instanceof Method && (((Method) member).getParameterCount() != 0 || member_type == void.class)){
+        throw new IllegalArgumentException(
+          annotation_name + " can only be placed on methods without parameters that return a value: " + member
+        );
+      }
+
+      // Find the rule, non-empty rule precedes null element rule when empty members are not allowed
+      Rule<?> empty_rule = null;
+      Rule<?> rule = null;
+      NumberRule number_rule = null;
+      boolean empty_allowed = !(annotation instanceof NonnullElements) || ((NonnullElements) annotation).emptyAllowed();
+      if(annotation instanceof Hostname && member_type == String.class) rule = Rules.hostname();
+      else if(annotation instanceof Email && member_type == String.class) rule = Rules.emailAddress();
+      else if(annotation instanceof Port && isOneOf(member_type, byte.class, short.class, char.class, int.class)){
+        number_rule = Rules.portNumber();
+      }else if(annotation instanceof Natural && isOneOf(member_type, byte.class, short.class, int.class, long.class)){
+        number_rule = Rules.naturalNumber();
+      }else if(annotation instanceof NonEmpty && member_type == String.class) rule = Rules.nonemptyString();
+      else if(annotation instanceof NonEmpty && Collection.class.isAssignableFrom(member_type)) rule = Rules.nonempty();
+      else if(annotation instanceof NonEmpty && isObjectArray(member_type)) rule = Rules.nonemptyArray();
+      else if(annotation instanceof NonEmpty && isPrimitiveArray(member_type)) rule = NONEMPTY_PRIMITIVE_ARRAY;
+      else if(annotation instanceof NonnullElements && Collection.class.isAssignableFrom(member_type)){
+        if(!empty_allowed) empty_rule = Rules.nonempty();
+        rule = Rules.nonnullElements();
+      }else if(annotation instanceof NonnullElements && isObjectArray(member_type)){
+        if(!empty_allowed) empty_rule = Rules.nonemptyArray();
+        rule = Rules.nonnullArrayElements();
+      }
+
+      // Add the checks, member is read once for both rules
+      if(rule != null && empty_rule != null){
+        builder.field(variable_name, bind(type, member), (Rule<Object>) empty_rule, (Rule<Object>) rule);
+      }else if(rule != null) builder.field(variable_name, bind(type, member), (Rule<Object>) rule);
+      else if(number_rule != null) builder.field(variable_name, bindNumber(type, member), number_rule);
+      else throw new IllegalArgumentException(
+          annotation_name + " cannot be placed on members of type " + member_type.getTypeName() + ": " + member
+        );
+    }
+  }
+
+  /**
+   * Binds member into a function that reads it. Public getters of classes visible to this library are bound
+   * through {@link LambdaMetafactory}, other members through generated accessors if the runtime supports them and
+   * through method handles otherwise.
+   *
+   * @param <T>    type of validated objects
+   * @param type   class of validated objects
+   * @param member member to be read, field or method
+   * @return function that reads member
+   */
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  private static <T> Function<T, Object> bind(@Nonnull Class<T> type, @Nonnull AccessibleObject member){
+    MethodHandle handle = unreflect(member);
+    if(isBindable(type, member)){
+      try{
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        CallSite site = LambdaMetafactory.metafactory(
+          lookup,
+          "apply",
+          MethodType.methodType(Function.class),
+          MethodType.methodType(Object.class, Object.class),
+          handle,
+          handle.type().wrap()
+        );
+        return (Function<T, Object>) site.getTarget().invokeExact();
+      }catch(Throwable ignored){
+        // Fall back to generated accessor
+      }
+    }
+    Function<Object, Object> accessor = Accessors.bind(type, member);
+    if(accessor != null) return (Function<T, Object>) (Function<?, Object>) accessor;
+    MethodHandle getter = handle.asType(MethodType.methodType(Object.class, Object.class));
+    return object -> {
+      try{
+        return getter.invokeExact(object);
+      }catch(RuntimeException | Error e){
+        throw e;
+      }catch(Throwable t){
+        throw new UndeclaredThrowableException(t);
+      }
+    };
+  }
+
+  /**
+   * Binds numeric member into a function that reads it without boxing. Public getters of classes visible to this
+   * library are bound through {@link LambdaMetafactory}, other members through generated accessors if the runtime
+   * supports them and through method handles otherwise.
+   *
+   * @param <T>    type of validated objects
+   * @param type   class of validated objects
+   * @param member member to be read, field or method
+   * @return function that reads member
+   */
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  private static <T> ToLongFunction<T> bindNumber(@Nonnull Class<T> type, @Nonnull AccessibleObject member){
+    MethodHandle handle = unreflect(member);
+    if(isBindable(type, member)){
+      try{
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        CallSite site = LambdaMetafactory.metafactory(
+          lookup,
+          "applyAsLong",
+          MethodType.methodType(ToLongFunction.class),
+          MethodType.methodType(long.class, Object.class),
+          handle,
+          handle.type().changeReturnType(long.class)
+        );
+        return (ToLongFunction<T>) site.getTarget().invokeExact();
+      }catch(Throwable ignored){
+        // Fall back to generated accessor
+      }
+    }
+    ToLongFunction<Object> accessor = Accessors.bindNumber(type, member);
+    if(accessor != null) return (ToLongFunction<T>) (ToLongFunction<?>) accessor;
+    MethodHandle getter = handle.asType(MethodType.methodType(long.class, Object.class));
+    return object -> {
+      try{
+        return (long) getter.invokeExact(object);
+      }catch(RuntimeException | Error e){
+        throw e;
+      }catch(Throwable t){
+        throw new UndeclaredThrowableException(t);
+      }
+    };
+  }
+
+  /**
+   * Creates method handle that reads member
+   *
+   * @param member member to be read, field or method
+   * @return method handle
+   * @throws IllegalArgumentException thrown if member cannot be accessed
+   */
+  @Nonnull
+  private static MethodHandle unreflect(@Nonnull AccessibleObject member) throws IllegalArgumentException{
+    try{
+      member.setAccessible(true);
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      if(member instanceof Field) return lookup.unreflectGetter((Field) member);
+      return lookup.unreflect((Method) member);
+    }catch(IllegalAccessException | RuntimeException e){
+      throw new IllegalArgumentException("Cannot access " + member, e);
+    }
+  }
+
+  /**
+   * Checks if member can be bound through {@link LambdaMetafactory}. The generated function can only call public
+   * methods of public classes and it has to be able to see the class.
+   *
+   * @param type   class of validated objects
+   * @param member member to be read
+   * @return true if member can be bound, false otherwise
+   */
+  private static boolean isBindable(@Nonnull Class<?> type, @Nonnull AccessibleObject member){
+    if(!(member instanceof Method)) return false;
+    if(!Modifier.isPublic(type.getModifiers()) || !Modifier.isPublic(((Method) member).getModifiers())) return false;
+    try{
+      return Class.forName(type.getName(), false, AnnotatedValidators.class.getClassLoader()) == type;
+    }catch(ClassNotFoundException | LinkageError e){
+      return false;
+    }
+  }
+
+  /**
+   * Converts getter name to property name, e.g. getHost to host
+   *
+   * @param method_name name of getter
+   * @return property name or method name if it does not follow getter naming
+   */
+  @Nonnull
+  private static String toPropertyName(@Nonnull String method_name){
+    for(String prefix : new String[]{"get", "is"}){
+      if(method_name.length() <= prefix.length() || !method_name.startsWith(prefix)) continue;
+      char first = method_name.charAt(prefix.length());
+      if(!Character.isUpperCase(first)) continue;
+      return Character.toLowerCase(first) + method_name.substring(prefix.length() + 1);
+    }
+    return method_name;
+  }
+
+  /**
+   * Checks if class is one of classes
+   *
+   * @param type    class to be checked
+   * @param classes classes to be matched
+   * @return true if class is one of classes, false otherwise
+   */
+  private static boolean isOneOf(@Nonnull Class<?> type, @Nonnull Class<?>... classes){
+    for(Class<?> match : classes) if(type == match) return true;
+    return false;
+  }
+
+  /**
+   * Checks if class is an array of objects
+   *
+   * @param type class to be checked
+   * @return true if array of objects, false otherwise
+   */
+  private static boolean isObjectArray(@Nonnull Class<?> type){
+    return type.isArray() && !type.getComponentType().isPrimitive();
+  }
+
+  /**
+   * Checks if class is an int, long, byte or double array
+   *
+   * @param type class to be checked
+   * @return true if supported primitive array, false otherwise
+   */
+  private static boolean isPrimitiveArray(@Nonnull Class<?> type){
+    return type.isArray() && isOneOf(type.getComponentType(), int.class, long.class, byte.class, double.class);
+  }
+}
@@ -0,0 +1,52 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Character sequence view of bytes in a buffer so the scanners can read bytes without decoding them to a string. Each
+ * byte is one character, bytes outside of ASCII become characters outside of ASCII which no scanner accepts. It uses
+ * absolute indices of the buffer and never moves its position.
+ */
+@NotThreadSafe
+final class AsciiSequence implements CharSequence{
+
+  /** Viewed buffer */
+  @Nonnull
+  private final ByteBuffer buffer;
+
+  /**
+   * Creates a view
+   *
+   * @param buffer buffer to be viewed
+   */
+  AsciiSequence(@Nonnull ByteBuffer buffer){
+    this.buffer = buffer;
+  }
+
+  @Override
+  public int length(){
+    return buffer.limit();
+  }
+
+  @Override
+  public char charAt(int index){
+    return (char) (buffer.get(index) & 0xFF);
+  }
+
+  @Nonnull
+  @Override
+  public CharSequence subSequence(int start, int end){
+    return toString().substring(start, end);
+  }
+
+  @Nonnull
+  @Override
+  public String toString(){
+    byte[] bytes = new byte[buffer.limit()];
+    for(int i = 0; i < bytes.length; i++) bytes[i] = buffer.get(i);
+    return new String(bytes, StandardCharsets.ISO_8859_1);
+  }
+}
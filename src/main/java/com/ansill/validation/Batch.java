@@ -0,0 +1,346 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Collects violations of many checks and reports all of them at once. Checks do not throw on violations, they are
+ * recorded and {@link #validate()} throws a single exception that describes every violation. Obtain one with
+ * {@link Validation#batch()}.
+ */
+@NotThreadSafe
+public final class Batch{
+
+  /** Default number of violations that fit before the storage grows */
+  static final int DEFAULT_CAPACITY = 8;
+
+  /** Variable names of violations */
+  @Nonnull
+  private String[] variable_names;
+
+  /** Message constants of violations */
+  @Nonnull
+  private String[] messages;
+
+  /** Indices of invalid members of violations, null for violations that are not about members */
+  @Nonnull
+  private IndexBuffer[] indices;
+
+  /** Number of violations */
+  @Nonnegative
+  private int count = 0;
+
+  /**
+   * Creates an empty batch
+   *
+   * @param capacity number of violations that fit before the storage grows
+   */
+  Batch(@Nonnegative int capacity){
+    this.variable_names = new String[capacity];
+    this.messages = new String[capacity];
+    this.indices = new IndexBuffer[capacity];
+  }
+
+  /**
+   * Chooses message for a string that failed to be scanned
+   *
+   * @param value   string that failed the check
+   * @param message message constant of the check
+   * @return message constant of the violation
+   */
+  @Nonnull
+  private static String invalid(@Nonnull String value, @Nonnull String message){
+    return ScanBudget.exceeds(value) ? Validation.SCAN_BUDGET_MESSAGE : message;
+  }
+
+  /**
+   * Records a violation
+   *
+   * @param variable_name name of variable
+   * @param message       message constant
+   * @param indices       indices of invalid members or null if not applicable
+   */
+  private void add(@Nonnull String variable_name, @Nonnull String message, @Nullable IndexBuffer indices){
+    if(count == messages.length){
+      int size = Math.max(DEFAULT_CAPACITY, count * 2);
+      variable_names = Arrays.copyOf(variable_names, size);
+      messages = Arrays.copyOf(messages, size);
+      this.indices = Arrays.copyOf(this.indices, size);
+    }
+    variable_names[count] = variable_name;
+    messages[count] = message;
+    this.indices[count++] = indices;
+  }
+
+  /**
+   * Checks that object is not null
+   *
+   * @param object        object to be checked
+   * @param variable_name name of variable
+   * @return this batch
+   * @throws IllegalArgumentException thrown if variable name is null
+   */
+  @Nonnull
+  public Batch nonnull(@Nullable Object object, @Nonnull String variable_name) throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    if(object == null) add(variable_name, Validation.OBJECT_NULL_MESSAGE, null);
+    return this;
+  }
+
+  /**
+   * Checks that port number is valid
+   *
+   * @param port          port number to be checked
+   * @param variable_name name of variable
+   * @return this batch
+   * @throws IllegalArgumentException thrown if variable name is null
+   */
+  @Nonnull
+  public Batch validPortNumber(int port, @Nonnull String variable_name) throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    if(!Validation.isValidPortNumber(port)) add(variable_name, Validation.INVALID_PORT_MESSAGE, null);
+    return this;
+  }
+
+  /**
+   * Checks that hostname is valid
+   *
+   * @param hostname      hostname to be checked
+   * @param variable_name name of variable
+   * @return this batch
+   * @throws IllegalArgumentException thrown if variable name is null
+   */
+  @Nonnull
+  public Batch validHostname(@Nullable String hostname, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    if(hostname == null) add(variable_name, Validation.OBJECT_NULL_MESSAGE, null);
+    else if(!Validation.isValidHostname(hostname)){
+      add(variable_name, invalid(hostname, Validation.INVALID_HOSTNAME_MESSAGE), null);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that email address is valid
+   *
+   * @param email_address email address to be checked
+   * @param variable_name name of variable
+   * @return this batch
+   * @throws IllegalArgumentException thrown if variable name is null
+   */
+  @Nonnull
+  public Batch validEmailAddress(@Nullable String email_address, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    if(email_address == null) add(variable_name, Validation.OBJECT_NULL_MESSAGE, null);
+    else if(!Validation.isValidEmailAddress(email_address)){
+      add(variable_name, invalid(email_address, Validation.INVALID_EMAIL_MESSAGE), null);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that number is a natural number
+   *
+   * @param number        number to be checked
+   * @param variable_name name of variable
+   * @return this batch
+   * @throws IllegalArgumentException thrown if variable name is null
+   */
+  @Nonnull
+  public Batch naturalNumber(long number, @Nonnull String variable_name) throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    if(!Validation.isNaturalNumber(number)) add(variable_name, Validation.NATURAL_NUMBER_MESSAGE, null);
+    return this;
+  }
+
+  /**
+   * Checks that number is not a negative number
+   *
+   * @param number        number to be checked
+   * @param variable_name name of variable
+   * @return this batch
+   * @throws IllegalArgumentException thrown if variable name is null
+   */
+  @Nonnull
+  public Batch nonnegative(long number, @Nonnull String variable_name) throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    if(!Validation.isNonnegative(number)) add(variable_name, Validation.NONNEGATIVE_NUMBER_MESSAGE, null);
+    return this;
+  }
+
+  /**
+   * Checks that number is greater than compared number
+   *
+   * @param number        number to be checked
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return this batch
+   * @throws IllegalArgumentException thrown if variable name is null
+   */
+  @Nonnull
+  public Batch greaterThan(long number, long compare, @Nonnull String variable_name) throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    if(number <= compare) add(variable_name, Validation.GREATER_NUMBER_MESSAGE, null);
+    return this;
+  }
+
+  /**
+   * Checks that number is lesser than compared number
+   *
+   * @param number        number to be checked
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return this batch
+   * @throws IllegalArgumentException thrown if variable name is null
+   */
+  @Nonnull
+  public Batch lesserThan(long number, long compare, @Nonnull String variable_name) throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    if(number >= compare) add(variable_name, Validation.LESSER_NUMBER_MESSAGE, null);
+    return this;
+  }
+
+  /**
+   * Checks that string is not an empty string. White space is considered empty space.
+   *
+   * @param string        string to be checked
+   * @param variable_name name of variable
+   * @return this batch
+   * @throws IllegalArgumentException thrown if variable name is null
+   */
+  @Nonnull
+  public Batch nonemptyString(@Nullable String string, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    if(string == null) add(variable_name, Validation.OBJECT_NULL_MESSAGE, null);
+    else if(!Validation.isNonemptyString(string)) add(variable_name, Validation.EMPTY_STRING_MESSAGE, null);
+    return this;
+  }
+
+  /**
+   * Checks that collection is not empty
+   *
+   * @param collection    collection to be checked
+   * @param variable_name name of variable
+   * @return this batch
+   * @throws IllegalArgumentException thrown if variable name is null
+   */
+  @Nonnull
+  public Batch nonempty(@Nullable Collection<?> collection, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    if(collection == null) add(variable_name, Validation.OBJECT_NULL_MESSAGE, null);
+    else if(!Validation.isNonempty(collection)) add(variable_name, Validation.EMPTY_ARRAY_MESSAGE, null);
+    return this;
+  }
+
+  /**
+   * Checks that array is not empty
+   *
+   * @param array         array to be checked
+   * @param variable_name name of variable
+   * @return this batch
+   * @throws IllegalArgumentException thrown if variable name is null
+   */
+  @Nonnull
+  public Batch nonempty(@Nullable Object[] array, @Nonnull String variable_name) throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    if(array == null) add(variable_name, Validation.OBJECT_NULL_MESSAGE, null);
+    else if(!Validation.isNonempty(array)) add(variable_name, Validation.EMPTY_ARRAY_MESSAGE, null);
+    return this;
+  }
+
+  /**
+   * Checks that collection does not contain any null elements. Additionally, it can check if collection is non-empty.
+   *
+   * @param collection    collection to be checked
+   * @param variable_name name of variable
+   * @param empty_allowed true to allow an empty collection, false to check for a non-empty collection
+   * @return this batch
+   * @throws IllegalArgumentException thrown if variable name is null
+   */
+  @Nonnull
+  public Batch nonnullElements(
+    @Nullable Collection<?> collection,
+    @Nonnull String variable_name,
+    boolean empty_allowed
+  ) throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    if(collection == null) add(variable_name, Validation.OBJECT_NULL_MESSAGE, null);
+    else if(!empty_allowed && collection.isEmpty()) add(variable_name, Validation.EMPTY_ARRAY_MESSAGE, null);
+    else{
+      IndexBuffer nulls = Validation.findNulls(collection);
+      if(nulls != null) add(variable_name, Validation.NULLS_IN_ARRAY_MESSAGE, nulls);
+    }
+    return this;
+  }
+
+  /**
+   * Checks that array does not contain any null elements. Additionally, it can check if array is non-empty.
+   *
+   * @param array         array to be checked
+   * @param variable_name name of variable
+   * @param empty_allowed true to allow an empty array, false to check for a non-empty array
+   * @return this batch
+   * @throws IllegalArgumentException thrown if variable name is null
+   */
+  @Nonnull
+  public Batch nonnullElements(@Nullable Object[] array, @Nonnull String variable_name, boolean empty_allowed)
+  throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    if(array == null) add(variable_name, Validation.OBJECT_NULL_MESSAGE, null);
+    else if(!empty_allowed && array.length == 0) add(variable_name, Validation.EMPTY_ARRAY_MESSAGE, null);
+    else{
+      IndexBuffer nulls = Validation.findNulls(array);
+      if(nulls != null) add(variable_name, Validation.NULLS_IN_ARRAY_MESSAGE, nulls);
+    }
+    return this;
+  }
+
+  /**
+   * Checks if no violations have been recorded
+   *
+   * @return true if there are no violations, false otherwise
+   */
+  public boolean isValid(){
+    return count == 0;
+  }
+
+  /**
+   * Returns number of recorded violations
+   *
+   * @return number of violations
+   */
+  @Nonnegative
+  public int getViolationCount(){
+    return count;
+  }
+
+  /**
+   * Throws an exception that describes every recorded violation, if there are any
+   *
+   * @throws BatchValidationException thrown if any violations have been recorded
+   */
+  public void validate() throws BatchValidationException{
+
+    // Exit if valid
+    if(count == 0) return;
+
+    // Otherwise go ahead and throw exception
+    BatchValidationException bve = new BatchValidationException(
+      Arrays.copyOf(variable_names, count),
+      Arrays.copyOf(messages, count),
+      Arrays.copyOf(indices, count)
+    );
+
+    // Update stacktrace if there's any and throw it
+    if(!Validation.isStacklessExceptions()) throw Validation.updateStackTrace(bve, -1);
+    throw bve;
+  }
+}
@@ -0,0 +1,102 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exception thrown when a batch of validations fails. It describes every violation in the batch.
+ */
+public class BatchValidationException extends ValidationException{
+
+  private static final long serialVersionUID = 1L;
+
+  /** Variable names of violations */
+  @Nonnull
+  private final String[] variable_names;
+
+  /** Message constants of violations */
+  @Nullable
+  private final transient String[] messages;
+
+  /** Indices of invalid members of violations */
+  @Nullable
+  private final transient IndexBuffer[] indices;
+
+  /** Composed message, created lazily */
+  @Nullable
+  private String composed_message;
+
+  /**
+   * Creates an exception
+   *
+   * @param variable_names variable names of violations
+   * @param messages       message constants of violations
+   * @param indices        indices of invalid members of violations, null for violations that are not about members
+   */
+  BatchValidationException(
+    @Nonnull String[] variable_names,
+    @Nonnull String[] messages,
+    @Nonnull IndexBuffer[] indices
+  ){
+    super();
+    this.variable_names = variable_names;
+    this.messages = messages;
+    this.indices = indices;
+  }
+
+  /**
+   * Returns number of violations
+   *
+   * @return number of violations
+   */
+  @Nonnegative
+  public int getViolationCount(){
+    return variable_names.length;
+  }
+
+  /**
+   * Returns variable names of violations, in order of the checks
+   *
+   * @return variable names
+   */
+  @Nonnull
+  public List<String> getVariableNames(){
+    return Collections.unmodifiableList(Arrays.asList(variable_names));
+  }
+
+  /**
+   * Returns the message, composing it on first call
+   *
+   * @return message
+   */
+  @Override
+  public String getMessage(){
+    String composed_message = this.composed_message;
+    if(composed_message != null || messages == null || indices == null) return composed_message;
+    StringBuilder sb = new StringBuilder().append(variable_names.length).append(" violation(s) found: ");
+    for(int i = 0; i < variable_names.length; i++){
+      if(i != 0) sb.append("; ");
+      sb.append(indices[i] == null ?
+                Validation.composeMessage(variable_names[i], messages[i]) :
+                Validation.composeMessageWithArrays(variable_names[i], messages[i], indices[i]));
+    }
+    composed_message = sb.toString();
+    this.composed_message = composed_message;
+    return composed_message;
+  }
+
+  /**
+   * Captures stacktrace only if stackless exceptions are disabled
+   *
+   * @return this exception
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace(){
+    if(Validation.isStacklessExceptions()) return this;
+    return super.fillInStackTrace();
+  }
+}
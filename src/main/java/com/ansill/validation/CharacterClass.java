@@ -0,0 +1,70 @@
+package com.ansill.validation;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Lookup table of ASCII character classes used by the hand-written scanners
+ */
+@Immutable
+final class CharacterClass{
+
+  /** Flag for ASCII letters and digits */
+  static final int ALPHANUMERIC = 1;
+
+  /** Flag for ASCII digits */
+  static final int DIGIT = 1 << 1;
+
+  /** Flag for hyphen */
+  static final int HYPHEN = 1 << 2;
+
+  /** Flag for characters allowed in unquoted local part of email address, letters are case-insensitive */
+  static final int ATEXT = 1 << 3;
+
+  /** Flag for characters allowed unescaped in quoted local part of email address */
+  static final int QTEXT = 1 << 4;
+
+  /** Flag for characters allowed after backslash in quoted local part or address literal of email address */
+  static final int QPAIR = 1 << 5;
+
+  /** Flag for characters allowed unescaped in general address literal of email address */
+  static final int DTEXT = 1 << 6;
+
+  /** Flag for hexadecimal digits, letters are case-insensitive */
+  static final int HEXDIGIT = 1 << 7;
+
+  /** Table of flags, indexed by character. Characters outside of ASCII have no flags */
+  private static final byte[] TABLE = new byte[128];
+
+  static{
+    for(char c = 'a'; c <= 'z'; c++) TABLE[c] |= ALPHANUMERIC;
+    for(char c = 'A'; c <= 'Z'; c++) TABLE[c] |= ALPHANUMERIC;
+    for(char c = '0'; c <= '9'; c++) TABLE[c] |= ALPHANUMERIC | DIGIT;
+    for(char c = 'a'; c <= 'f'; c++) TABLE[c] |= HEXDIGIT;
+    for(char c = 'A'; c <= 'F'; c++) TABLE[c] |= HEXDIGIT;
+    for(char c = '0'; c <= '9'; c++) TABLE[c] |= HEXDIGIT;
+    TABLE['-'] |= HYPHEN;
+    for(char c = 1; c < 128; c++){
+      if((TABLE[c] & ALPHANUMERIC) != 0 || "!#$%&'*+/=?^_`{|}~-".indexOf(c) != -1) TABLE[c] |= ATEXT;
+      if(c == '\n' || c == '\r') continue;
+      TABLE[c] |= QPAIR;
+      if(c == '\t' || c == ' ') continue;
+      TABLE[c] |= DTEXT;
+      if(c != '"' && c != '\\') TABLE[c] |= QTEXT;
+    }
+  }
+
+  private CharacterClass(){
+    // Prevents any instantiation
+  }
+
+  /**
+   * Checks if character belongs to any of the classes in the flag mask
+   *
+   * @param c     character to be checked
+   * @param flags mask of class flags
+   * @return true if character belongs to at least one of the classes, false otherwise
+   */
+  static boolean is(char c, int flags){
+    return c < 128 && (TABLE[c] & flags) != 0;
+  }
+}
@@ -0,0 +1,257 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Switches that turn kinds of checks on and off and count the checks when metrics are enabled. Each switch is a call
+ * site whose target returns a constant, counting the check first if metrics are enabled. Since the handles are static
+ * final, the JIT compiler folds the target into compiled checks, so a disabled check is removed entirely and an enabled
+ * check without metrics does not test anything. Flipping a switch deoptimizes the code that depends on it.
+ */
+@ThreadSafe
+final class CheckGuards{
+
+  /** Target of enabled switches */
+  @Nonnull
+  private static final MethodHandle ENABLED = MethodHandles.constant(boolean.class, true);
+
+  /** Target of disabled switches */
+  @Nonnull
+  private static final MethodHandle DISABLED = MethodHandles.constant(boolean.class, false);
+
+  /** Target that counts a check and returns true, bound to each kind */
+  @Nonnull
+  private static final MethodHandle COUNTING = findCounting();
+
+  /** Kinds that are disabled at startup */
+  @Nonnull
+  private static final Set<String> INITIALLY_DISABLED = parseKinds(
+    System.getProperty("com.ansill.validation.disabledChecks", "")
+  );
+
+  /** Disabled kinds, indexed by ordinal of kind */
+  @Nonnull
+  private static final boolean[] DISABLED_KINDS = new boolean[CheckKind.values().length];
+
+  /** True if checks are counted */
+  private static boolean counting = Boolean.getBoolean("com.ansill.validation.metrics");
+
+  /** Call sites of switches, indexed by ordinal of kind */
+  @Nonnull
+  private static final MutableCallSite[] SITES = createSites();
+
+  /** Switch of null checks */
+  @Nonnull
+  static final MethodHandle NONNULL = guard(CheckKind.NONNULL);
+
+  /** Switch of port number checks */
+  @Nonnull
+  static final MethodHandle PORT_NUMBER = guard(CheckKind.PORT_NUMBER);
+
+  /** Switch of hostname checks */
+  @Nonnull
+  static final MethodHandle HOSTNAME = guard(CheckKind.HOSTNAME);
+
+  /** Switch of IP address checks */
+  @Nonnull
+  static final MethodHandle IP_ADDRESS = guard(CheckKind.IP_ADDRESS);
+
+  /** Switch of host and port checks, they cannot be disabled */
+  @Nonnull
+  static final MethodHandle HOST_AND_PORT = guard(CheckKind.HOST_AND_PORT);
+
+  /** Switch of email address checks */
+  @Nonnull
+  static final MethodHandle EMAIL_ADDRESS = guard(CheckKind.EMAIL_ADDRESS);
+
+  /** Switch of natural number checks */
+  @Nonnull
+  static final MethodHandle NATURAL_NUMBER = guard(CheckKind.NATURAL_NUMBER);
+
+  /** Switch of non-negative number checks */
+  @Nonnull
+  static final MethodHandle NONNEGATIVE = guard(CheckKind.NONNEGATIVE);
+
+  /** Switch of greater number checks */
+  @Nonnull
+  static final MethodHandle GREATER_THAN = guard(CheckKind.GREATER_THAN);
+
+  /** Switch of lesser number checks */
+  @Nonnull
+  static final MethodHandle LESSER_THAN = guard(CheckKind.LESSER_THAN);
+
+  /** Switch of non-empty string checks */
+  @Nonnull
+  static final MethodHandle NONEMPTY_STRING = guard(CheckKind.NONEMPTY_STRING);
+
+  /** Switch of non-empty array and collection checks */
+  @Nonnull
+  static final MethodHandle NONEMPTY = guard(CheckKind.NONEMPTY);
+
+  /** Switch of null element checks */
+  @Nonnull
+  static final MethodHandle NONNULL_ELEMENTS = guard(CheckKind.NONNULL_ELEMENTS);
+
+  /** Switch of non-negative number checks of primitive arrays */
+  @Nonnull
+  static final MethodHandle ALL_NONNEGATIVE = guard(CheckKind.ALL_NONNEGATIVE);
+
+  /** Switch of port number checks of primitive arrays */
+  @Nonnull
+  static final MethodHandle ALL_PORT_NUMBERS = guard(CheckKind.ALL_PORT_NUMBERS);
+
+  /** Switch of natural number checks of primitive arrays */
+  @Nonnull
+  static final MethodHandle ALL_NATURAL_NUMBERS = guard(CheckKind.ALL_NATURAL_NUMBERS);
+
+  /** Switch of greater number checks of primitive arrays */
+  @Nonnull
+  static final MethodHandle ALL_GREATER_THAN = guard(CheckKind.ALL_GREATER_THAN);
+
+  /** Switch of lesser number checks of primitive arrays */
+  @Nonnull
+  static final MethodHandle ALL_LESSER_THAN = guard(CheckKind.ALL_LESSER_THAN);
+
+  private CheckGuards(){
+    // Prevents any instantiation
+  }
+
+  /**
+   * Parses comma-separated names of kinds. Unknown names are ignored, host and port checks cannot be disabled.
+   *
+   * @param names comma-separated names
+   * @return names of kinds
+   */
+  @Nonnull
+  private static Set<String> parseKinds(@Nonnull String names){
+    Set<String> kinds = new HashSet<>();
+    for(String name : names.split(",")) kinds.add(name.trim());
+    return kinds;
+  }
+
+  /**
+   * Finds target that counts a check
+   *
+   * @return handle that takes kind of check and returns true
+   */
+  @Nonnull
+  private static MethodHandle findCounting(){
+    try{
+      return MethodHandles.lookup().findStatic(
+        CheckGuards.class,
+        "count",
+        MethodType.methodType(boolean.class, CheckKind.class)
+      );
+    }catch(NoSuchMethodException | IllegalAccessException e){
+      throw new AssertionError(e);
+    }
+  }
+
+  /**
+   * Counts a check
+   *
+   * @param kind kind of check
+   * @return true
+   */
+  private static boolean count(@Nonnull CheckKind kind){
+    ValidationMetrics.countCall(kind);
+    return true;
+  }
+
+  /**
+   * Creates call sites of switches
+   *
+   * @return call sites indexed by ordinal of kind
+   */
+  @Nonnull
+  private static MutableCallSite[] createSites(){
+    CheckKind[] kinds = CheckKind.values();
+    MutableCallSite[] sites = new MutableCallSite[kinds.length];
+    for(CheckKind kind : kinds){
+      DISABLED_KINDS[kind.ordinal()] = kind != CheckKind.HOST_AND_PORT && INITIALLY_DISABLED.contains(kind.name());
+      sites[kind.ordinal()] = new MutableCallSite(targetOf(kind));
+    }
+    return sites;
+  }
+
+  /**
+   * Returns target of a switch for current state
+   *
+   * @param kind kind of check
+   * @return target
+   */
+  @Nonnull
+  private static MethodHandle targetOf(@Nonnull CheckKind kind){
+    if(DISABLED_KINDS[kind.ordinal()]) return DISABLED;
+    return counting ? MethodHandles.insertArguments(COUNTING, 0, kind) : ENABLED;
+  }
+
+  /**
+   * Creates a switch
+   *
+   * @param kind kind of check
+   * @return handle that returns true if the kind is enabled
+   */
+  @Nonnull
+  private static MethodHandle guard(@Nonnull CheckKind kind){
+    return SITES[kind.ordinal()].dynamicInvoker();
+  }
+
+  /**
+   * Enters a check. Check is counted if metrics are enabled. Handle must be one of the constants in this class so it
+   * can be folded.
+   *
+   * @param guard switch
+   * @return true if the check is enabled, false otherwise
+   */
+  static boolean enter(@Nonnull MethodHandle guard){
+    try{
+      return (boolean) guard.invokeExact();
+    }catch(Throwable throwable){
+      throw new AssertionError(throwable);
+    }
+  }
+
+  /**
+   * Checks if kind of checks is enabled
+   *
+   * @param kind kind of check
+   * @return true if enabled, false otherwise
+   */
+  static synchronized boolean isEnabled(@Nonnull CheckKind kind){
+    return !DISABLED_KINDS[kind.ordinal()];
+  }
+
+  /**
+   * Enables or disables kind of checks
+   *
+   * @param kind    kind of check
+   * @param enabled true to enable, false to disable
+   */
+  static synchronized void setEnabled(@Nonnull CheckKind kind, boolean enabled){
+    if(DISABLED_KINDS[kind.ordinal()] != enabled) return;
+    DISABLED_KINDS[kind.ordinal()] = !enabled;
+    MutableCallSite site = SITES[kind.ordinal()];
+    site.setTarget(targetOf(kind));
+    MutableCallSite.syncAll(new MutableCallSite[]{site});
+  }
+
+  /**
+   * Starts or stops counting checks of every kind
+   *
+   * @param counting true to count checks, false to stop counting them
+   */
+  static synchronized void setCounting(boolean counting){
+    if(CheckGuards.counting == counting) return;
+    CheckGuards.counting = counting;
+    for(CheckKind kind : CheckKind.values()) SITES[kind.ordinal()].setTarget(targetOf(kind));
+    MutableCallSite.syncAll(SITES);
+  }
+}
@@ -0,0 +1,77 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Kinds of checks performed by {@link Validation}. Overloads of the same check share one kind, for example every
+ * {@code assertValidHostname} overload and {@code isValidHostname} are {@link #HOSTNAME} checks.
+ */
+public enum CheckKind{
+
+  /** Null checks */
+  NONNULL(Validation.OBJECT_NULL_MESSAGE),
+
+  /** Port number checks */
+  PORT_NUMBER(Validation.INVALID_PORT_MESSAGE),
+
+  /** Hostname checks */
+  HOSTNAME(Validation.INVALID_HOSTNAME_MESSAGE),
+
+  /** IPv4 and IPv6 address checks */
+  IP_ADDRESS(Validation.INVALID_IP_MESSAGE),
+
+  /** Host and port checks */
+  HOST_AND_PORT(Validation.INVALID_HOST_AND_PORT_MESSAGE),
+
+  /** Email address checks */
+  EMAIL_ADDRESS(Validation.INVALID_EMAIL_MESSAGE),
+
+  /** Natural number checks */
+  NATURAL_NUMBER(Validation.NATURAL_NUMBER_MESSAGE),
+
+  /** Non-negative number checks */
+  NONNEGATIVE(Validation.NONNEGATIVE_NUMBER_MESSAGE),
+
+  /** Greater number checks, including greater or equal */
+  GREATER_THAN(Validation.GREATER_NUMBER_MESSAGE),
+
+  /** Lesser number checks */
+  LESSER_THAN(Validation.LESSER_NUMBER_MESSAGE),
+
+  /** Non-empty string checks */
+  NONEMPTY_STRING(Validation.EMPTY_STRING_MESSAGE),
+
+  /** Non-empty array and collection checks */
+  NONEMPTY(Validation.EMPTY_ARRAY_MESSAGE),
+
+  /** Null element checks of arrays and collections */
+  NONNULL_ELEMENTS(Validation.NULLS_IN_ARRAY_MESSAGE),
+
+  /** Non-negative number checks of primitive arrays */
+  ALL_NONNEGATIVE(Validation.NEGATIVES_IN_ARRAY_MESSAGE),
+
+  /** Port number checks of primitive arrays */
+  ALL_PORT_NUMBERS(Validation.INVALID_PORTS_IN_ARRAY_MESSAGE),
+
+  /** Natural number checks of primitive arrays */
+  ALL_NATURAL_NUMBERS(Validation.NATURAL_NUMBERS_IN_ARRAY_MESSAGE),
+
+  /** Greater number checks of primitive arrays */
+  ALL_GREATER_THAN(Validation.GREATER_NUMBERS_IN_ARRAY_MESSAGE),
+
+  /** Lesser number checks of primitive arrays */
+  ALL_LESSER_THAN(Validation.LESSER_NUMBERS_IN_ARRAY_MESSAGE);
+
+  /** Message constant of a value that fails the check */
+  @Nonnull
+  final String message;
+
+  /**
+   * Creates a kind of check
+   *
+   * @param message message constant of a value that fails the check
+   */
+  CheckKind(@Nonnull String message){
+    this.message = message;
+  }
+}
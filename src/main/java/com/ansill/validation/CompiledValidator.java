@@ -0,0 +1,236 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Validator built by {@link ValidatorBuilder}. Messages are composed when the validator is built, so validating only
+ * runs the checks.
+ *
+ * @param <T> type of validated objects
+ */
+@Immutable
+final class CompiledValidator<T> implements Validator<T>{
+
+  /** Composed message for null objects */
+  @Nonnull
+  private static final String NULL_OBJECT_MESSAGE = Validation.composeMessage(null, Validation.OBJECT_NULL_MESSAGE);
+
+  /** Fields to be checked */
+  @Nonnull
+  private final Field<T>[] fields;
+
+  /**
+   * Creates a validator
+   *
+   * @param fields fields to be checked
+   */
+  CompiledValidator(@Nonnull Field<T>[] fields){
+    this.fields = fields;
+  }
+
+  /**
+   * Creates an exception with composed message, stacktrace is trimmed to the caller of {@link #validate(Object)}
+   *
+   * @param variable_name    name of variable
+   * @param composed_message composed message
+   * @param level            level of calls between validate and this method. This is used to adjust the stacktrace.
+   * @return exception
+   */
+  @Nonnull
+  static ValidationException createException(
+    @Nullable String variable_name,
+    @Nonnull String composed_message,
+    int level
+  ){
+    if(Validation.isStacklessExceptions()) return new StacklessValidationException(variable_name, composed_message);
+    return Validation.updateStackTrace(new ValidationException(variable_name, composed_message), level);
+  }
+
+  @Nonnull
+  @Override
+  public T validate(@Nullable T object) throws IllegalArgumentException{
+
+    // Assert non null
+    if(object == null) throw createException(null, NULL_OBJECT_MESSAGE, 0);
+
+    // Exit if valid, otherwise throw exception of the first invalid field
+    for(Field<T> field : fields){
+      ValidationException exception = field.check(object);
+      if(exception != null) throw exception;
+    }
+    return object;
+  }
+
+  @Override
+  public boolean isValid(@Nullable T object){
+    if(object == null) return false;
+    for(Field<T> field : fields) if(!field.isValid(object)) return false;
+    return true;
+  }
+
+  /**
+   * Field of validated object
+   *
+   * @param <T> type of validated objects
+   */
+  @Immutable
+  abstract static class Field<T>{
+
+    /** Name of field */
+    @Nonnull
+    final String variable_name;
+
+    /** Composed message for null values */
+    @Nonnull
+    final String null_message;
+
+    /**
+     * Creates a field
+     *
+     * @param variable_name name of field
+     */
+    Field(@Nonnull String variable_name){
+      this.variable_name = variable_name;
+      this.null_message = Validation.composeMessage(variable_name, Validation.OBJECT_NULL_MESSAGE);
+    }
+
+    /**
+     * Checks if field of object is valid
+     *
+     * @param object object to be checked
+     * @return true if valid, false otherwise
+     */
+    abstract boolean isValid(@Nonnull T object);
+
+    /**
+     * Checks field of object and creates an exception that describes it if it's invalid. Field is read once, so the
+     * exception describes the same value that failed the check. Stacktrace is trimmed to the caller of
+     * {@link CompiledValidator#validate(Object)}.
+     *
+     * @param object object to be checked
+     * @return exception or null if field is valid
+     */
+    @Nullable
+    abstract ValidationException check(@Nonnull T object);
+  }
+
+  /**
+   * Field with object value. Field may have to satisfy several rules, it is read once for all of them.
+   *
+   * @param <T> type of validated objects
+   * @param <V> type of field
+   */
+  @Immutable
+  static final class ObjectField<T, V> extends Field<T>{
+
+    /** Function that reads field from object */
+    @Nonnull
+    private final Function<? super T, ? extends V> getter;
+
+    /** Rules to be satisfied in this order */
+    @Nonnull
+    private final Rule<? super V>[] rules;
+
+    /** Composed messages for violations of rules */
+    @Nonnull
+    private final String[] messages;
+
+    /**
+     * Creates a field
+     *
+     * @param variable_name name of field
+     * @param getter        function that reads field from object
+     * @param rules         rules to be satisfied in this order
+     */
+    ObjectField(
+      @Nonnull String variable_name,
+      @Nonnull Function<? super T, ? extends V> getter,
+      @Nonnull Rule<? super V>[] rules
+    ){
+      super(variable_name);
+      this.getter = getter;
+      this.rules = rules;
+      this.messages = new String[rules.length];
+      for(int i = 0; i < rules.length; i++) messages[i] = Validation.composeMessage(variable_name, rules[i].message);
+    }
+
+    @Override
+    boolean isValid(@Nonnull T object){
+      V value = getter.apply(object);
+      if(value == null) return false;
+      for(Rule<? super V> rule : rules) if(!rule.test(value)) return false;
+      return true;
+    }
+
+    @Nullable
+    @Override
+    ValidationException check(@Nonnull T object){
+      V value = getter.apply(object);
+      if(value == null) return CompiledValidator.createException(variable_name, null_message, 1);
+      for(int i = 0; i < rules.length; i++){
+        Rule<? super V> rule = rules[i];
+        if(rule.test(value)) continue;
+        IndexBuffer indices = rule.findInvalidMembers(value);
+        if(indices == null) return CompiledValidator.createException(variable_name, messages[i], 1);
+
+        // Members have to be listed so the message cannot be composed beforehand
+        if(Validation.isStacklessExceptions()){
+          return new StacklessValidationException(variable_name, rule.message, indices);
+        }
+        return Validation.updateStackTrace(new ValidationException(variable_name, rule.message, indices), 0);
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Field with numeric value
+   *
+   * @param <T> type of validated objects
+   */
+  @Immutable
+  static final class NumberField<T> extends Field<T>{
+
+    /** Function that reads field from object */
+    @Nonnull
+    private final ToLongFunction<? super T> getter;
+
+    /** Rule to be satisfied */
+    @Nonnull
+    private final NumberRule rule;
+
+    /** Composed message for violations */
+    @Nonnull
+    private final String message;
+
+    /**
+     * Creates a field
+     *
+     * @param variable_name name of field
+     * @param getter        function that reads field from object
+     * @param rule          rule to be satisfied
+     */
+    NumberField(@Nonnull String variable_name, @Nonnull ToLongFunction<? super T> getter, @Nonnull NumberRule rule){
+      super(variable_name);
+      this.getter = getter;
+      this.rule = rule;
+      this.message = Validation.composeMessage(variable_name, rule.message);
+    }
+
+    @Override
+    boolean isValid(@Nonnull T object){
+      return rule.test(getter.applyAsLong(object));
+    }
+
+    @Nullable
+    @Override
+    ValidationException check(@Nonnull T object){
+      if(rule.test(getter.applyAsLong(object))) return null;
+      return CompiledValidator.createException(variable_name, message, 1);
+    }
+  }
+}
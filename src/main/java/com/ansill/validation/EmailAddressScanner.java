@@ -0,0 +1,176 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import static com.ansill.validation.CharacterClass.ALPHANUMERIC;
+import static com.ansill.validation.CharacterClass.ATEXT;
+import static com.ansill.validation.CharacterClass.DTEXT;
+import static com.ansill.validation.CharacterClass.HYPHEN;
+import static com.ansill.validation.CharacterClass.QPAIR;
+import static com.ansill.validation.CharacterClass.QTEXT;
+
+/**
+ * Single-pass and allocation-free scanner for email addresses. Letters are matched case-insensitively.
+ * Local part is either dot-separated atoms or a quoted string. Domain is either a hostname with at least two labels or
+ * a bracketed address literal. Every character is visited a constant number of times so the time is linear.
+ */
+@Immutable
+final class EmailAddressScanner{
+
+  /** Tag of IPv6 address literal, matched case-insensitively */
+  private static final String IPV6_TAG = "IPv6:";
+
+  private EmailAddressScanner(){
+    // Prevents any instantiation
+  }
+
+  /**
+   * Checks if the whole input is a valid email address
+   *
+   * @param input input to be checked
+   * @return true if valid, false otherwise
+   */
+  static boolean isValid(@Nonnull CharSequence input){
+    return isValid(input, 0, input.length());
+  }
+
+  /**
+   * Checks if the range of input is a valid email address. Ranges longer than {@link ScanBudget} allows are not scanned.
+   *
+   * @param input input to be checked
+   * @param start start index, inclusive
+   * @param end   end index, exclusive
+   * @return true if valid, false otherwise
+   */
+  static boolean isValid(@Nonnull CharSequence input, int start, int end){
+
+    // Empty email address is invalid and too long one is not scanned
+    if(start >= end || !ScanBudget.allows(start, end)) return false;
+
+    // Scan local part
+    int index = input.charAt(start) == '"' ?
+                scanQuotedString(input, start + 1, end) :
+                scanDotAtom(input, start, end);
+
+    // Local part must be followed by '@'
+    if(index == -1 || index == end || input.charAt(index) != '@') return false;
+    index++;
+
+    // Scan domain
+    if(index < end && input.charAt(index) == '[') return isValidAddressLiteral(input, index + 1, end);
+    return HostnameScanner.countLabels(input, index, end) >= 2;
+  }
+
+  /**
+   * Scans dot-separated atoms
+   *
+   * @param input input to be scanned
+   * @param start start index, inclusive
+   * @param end   end index, exclusive
+   * @return index of first character after the atoms or -1 if atoms are malformed
+   */
+  private static int scanDotAtom(@Nonnull CharSequence input, int start, int end){
+    int index = start;
+    while(true){
+
+      // Atom must not be empty
+      int atom_start = index;
+      while(index < end && CharacterClass.is(input.charAt(index), ATEXT)) index++;
+      if(index == atom_start) return -1;
+
+      // Continue with next atom if there's a dot
+      if(index == end || input.charAt(index) != '.') return index;
+      index++;
+    }
+  }
+
+  /**
+   * Scans quoted string
+   *
+   * @param input input to be scanned
+   * @param start start index right after opening quote, inclusive
+   * @param end   end index, exclusive
+   * @return index of first character after the closing quote or -1 if quoted string is malformed
+   */
+  private static int scanQuotedString(@Nonnull CharSequence input, int start, int end){
+    int index = start;
+    while(index < end){
+      char c = input.charAt(index);
+      if(c == '"') return index + 1;
+      if(c == '\\'){
+        if(index + 1 == end || !CharacterClass.is(input.charAt(index + 1), QPAIR)) return -1;
+        index += 2;
+      }else if(CharacterClass.is(c, QTEXT)) index++;
+      else return -1;
+    }
+
+    // No closing quote
+    return -1;
+  }
+
+  /**
+   * Checks if the rest of input is a valid address literal. It is either an IPv4 address, an IPv6 address tagged with
+   * "IPv6:" or three IPv4 octets followed by a tagged general address literal.
+   *
+   * @param input input to be checked
+   * @param start start index right after opening bracket, inclusive
+   * @param end   end index, exclusive
+   * @return true if valid, false otherwise
+   */
+  private static boolean isValidAddressLiteral(@Nonnull CharSequence input, int start, int end){
+
+    // Closing bracket must be at the end
+    if(end - start < 2 || input.charAt(end - 1) != ']') return false;
+    end--;
+
+    // IPv6 address literal
+    if(isIpv6Tag(input, start, end)) return IpAddressScanner.isValidIpv6(input, start + IPV6_TAG.length(), end, false);
+
+    // Scan three octets with dots
+    int index = start;
+    for(int octet = 0; octet < 3; octet++){
+      int octet_end = IpAddressScanner.scanOctet(input, index, end);
+      if(octet_end == -1 || octet_end == end || input.charAt(octet_end) != '.') return false;
+      index = octet_end + 1;
+    }
+
+    // Fourth octet fills the rest
+    int octet_end = IpAddressScanner.scanOctet(input, index, end);
+    if(octet_end == end) return true;
+
+    // Otherwise it's a tag followed by colon
+    int tag_start = index;
+    while(index < end && CharacterClass.is(input.charAt(index), ALPHANUMERIC | HYPHEN)) index++;
+    if(index == tag_start || index == end || input.charAt(index) != ':') return false;
+    if(!CharacterClass.is(input.charAt(index - 1), ALPHANUMERIC)) return false;
+    index++;
+
+    // Content must not be empty
+    if(index == end) return false;
+
+    // Tab and space are only allowed when escaped, backslash itself is allowed by itself
+    for(int i = index; i < end; i++){
+      char c = input.charAt(i);
+      if(CharacterClass.is(c, DTEXT)) continue;
+      if(!CharacterClass.is(c, QPAIR) || i == index || input.charAt(i - 1) != '\\') return false;
+    }
+    return true;
+  }
+
+  /**
+   * Checks if the range of input starts with IPv6 tag
+   *
+   * @param input input to be checked
+   * @param start start index, inclusive
+   * @param end   end index, exclusive
+   * @return true if it starts with the tag, false otherwise
+   */
+  private static boolean isIpv6Tag(@Nonnull CharSequence input, int start, int end){
+    if(end - start < IPV6_TAG.length()) return false;
+    for(int i = 0; i < IPV6_TAG.length(); i++){
+      if(Character.toLowerCase(input.charAt(start + i)) != Character.toLowerCase(IPV6_TAG.charAt(i))) return false;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,161 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Host and port that were validated together, obtained with {@link Validation#assertValidHostAndPort(CharSequence)}.
+ * It keeps the validated input and offsets of the host in it, so the host is not copied until it is asked for. Inputs
+ * that are not strings are copied to a string before they are validated, so later changes to them are not seen.
+ */
+@Immutable
+public final class HostAndPort{
+
+  /** Longest port number in digits */
+  private static final int MAX_PORT_DIGITS = 5;
+
+  /** Validated input */
+  @Nonnull
+  private final String source;
+
+  /** Index of first character of host, after the bracket if there's any */
+  @Nonnegative
+  private final int host_start;
+
+  /** Index right after last character of host, before the bracket if there's any */
+  @Nonnegative
+  private final int host_end;
+
+  /** Port number */
+  private final int port;
+
+  /**
+   * Creates host and port
+   *
+   * @param source     validated input
+   * @param host_start index of first character of host
+   * @param host_end   index right after last character of host
+   * @param port       port number
+   */
+  private HostAndPort(@Nonnull String source, @Nonnegative int host_start, @Nonnegative int host_end, int port){
+    this.source = source;
+    this.host_start = host_start;
+    this.host_end = host_end;
+    this.port = port;
+  }
+
+  /**
+   * Parses "host:port" where host is a hostname, an IPv4 address or an IPv6 address in brackets. Each part is
+   * scanned once without creating substrings. Inputs longer than {@link ScanBudget} allows are not scanned.
+   *
+   * @param source input to be parsed
+   * @return host and port or null if input is invalid
+   */
+  @Nullable
+  static HostAndPort parse(@Nonnull CharSequence source){
+    int end = source.length();
+    if(!ScanBudget.allows(0, end)) return null;
+
+    // Copy input that is not a string once, so it cannot change after it's validated
+    String input = source.toString();
+
+    // Find colon before port number from the end, port number has at most five digits
+    int colon = end - 1;
+    while(colon >= 0 && end - colon <= MAX_PORT_DIGITS && CharacterClass.is(input.charAt(colon), CharacterClass.DIGIT)){
+      colon--;
+    }
+    if(colon < 0 || colon == end - 1 || input.charAt(colon) != ':') return null;
+
+    // Parse port number
+    int port = 0;
+    for(int i = colon + 1; i < end; i++) port = port * 10 + input.charAt(i) - '0';
+    if(!Validation.isValidPortNumber(port)) return null;
+
+    // Host is either IPv6 address in brackets or hostname
+    if(colon > 0 && input.charAt(0) == '['){
+      if(input.charAt(colon - 1) != ']' || !IpAddressScanner.isValidIpv6(input, 1, colon - 1, true)) return null;
+      return new HostAndPort(input, 1, colon - 1, port);
+    }
+    if(HostnameScanner.countLabels(input, 0, colon) <= 0) return null;
+    return new HostAndPort(input, 0, colon, port);
+  }
+
+  /**
+   * Returns the host. IPv6 address is returned without brackets.
+   *
+   * @return host
+   */
+  @Nonnull
+  public String getHost(){
+    return source.substring(host_start, host_end);
+  }
+
+  /**
+   * Returns index of first character of host in the validated input
+   *
+   * @return index
+   */
+  @Nonnegative
+  public int getHostStart(){
+    return host_start;
+  }
+
+  /**
+   * Returns index right after last character of host in the validated input
+   *
+   * @return index
+   */
+  @Nonnegative
+  public int getHostEnd(){
+    return host_end;
+  }
+
+  /**
+   * Returns the port number
+   *
+   * @return port number, within 1-65535 range
+   */
+  public int getPort(){
+    return port;
+  }
+
+  /**
+   * Checks if host is an IPv6 address in brackets
+   *
+   * @return true if host is IPv6 address, false otherwise
+   */
+  public boolean isIpv6Address(){
+    return host_start == 1;
+  }
+
+  /**
+   * Returns the validated input, inputs that were not strings are returned as copies made before validation
+   *
+   * @return input
+   */
+  @Nonnull
+  public CharSequence getSource(){
+    return source;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object object){
+    if(this == object) return true;
+    if(!(object instanceof HostAndPort)) return false;
+    HostAndPort other = (HostAndPort) object;
+    return port == other.port && getHost().equals(other.getHost());
+  }
+
+  @Override
+  public int hashCode(){
+    return getHost().hashCode() * 31 + port;
+  }
+
+  @Nonnull
+  @Override
+  public String toString(){
+    return source;
+  }
+}
@@ -0,0 +1,86 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import static com.ansill.validation.CharacterClass.ALPHANUMERIC;
+import static com.ansill.validation.CharacterClass.HYPHEN;
+
+/**
+ * Single-pass and allocation-free scanner for hostnames and IP addresses.
+ * It accepts dot-separated RFC-1123 labels where each label starts and ends with letter or digit and may contain
+ * hyphens in between. Dotted-quad IPv4 addresses consist only of digit labels so they are accepted by the same pass.
+ * Inputs that are not hostnames are checked again as IPv6 addresses.
+ */
+@Immutable
+final class HostnameScanner{
+
+  private HostnameScanner(){
+    // Prevents any instantiation
+  }
+
+  /**
+   * Checks if the whole input is a valid hostname or IP address
+   *
+   * @param input input to be checked
+   * @return true if valid, false otherwise
+   */
+  static boolean isValid(@Nonnull CharSequence input){
+    return isValid(input, 0, input.length());
+  }
+
+  /**
+   * Checks if the range of input is a valid hostname or IP address. IPv6 addresses are not enclosed in brackets and may
+   * have a zone ID. Ranges longer than {@link ScanBudget} allows are not scanned.
+   *
+   * @param input input to be checked
+   * @param start start index, inclusive
+   * @param end   end index, exclusive
+   * @return true if valid, false otherwise
+   */
+  static boolean isValid(@Nonnull CharSequence input, int start, int end){
+    if(!ScanBudget.allows(start, end)) return false;
+    return countLabels(input, start, end) > 0 || IpAddressScanner.isValidIpv6(input, start, end, true);
+  }
+
+  /**
+   * Scans the range of input as a hostname and counts its labels
+   *
+   * @param input input to be scanned
+   * @param start start index, inclusive
+   * @param end   end index, exclusive
+   * @return number of labels in the hostname or -1 if the range is not a valid hostname
+   */
+  static int countLabels(@Nonnull CharSequence input, int start, int end){
+
+    // Empty hostname is invalid
+    if(start >= end) return -1;
+
+    // Previous character, '.' at the start to require a letter or digit
+    char previous = '.';
+
+    // Number of labels
+    int labels = 1;
+
+    // Scan it
+    for(int i = start; i < end; i++){
+      char c = input.charAt(i);
+      if(c == '.'){
+
+        // Labels cannot be empty or end with hyphen
+        if(previous == '.' || previous == '-') return -1;
+        labels++;
+
+      }else if(CharacterClass.is(c, HYPHEN)){
+
+        // Labels cannot start with hyphen
+        if(previous == '.') return -1;
+
+      }else if(!CharacterClass.is(c, ALPHANUMERIC)) return -1;
+      previous = c;
+    }
+
+    // Last label cannot be empty or end with hyphen
+    return previous != '.' && previous != '-' ? labels : -1;
+  }
+}
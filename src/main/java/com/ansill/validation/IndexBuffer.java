@@ -0,0 +1,105 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.Arrays;
+
+/**
+ * Growable buffer of primitive indices. Only first few indices up to the capacity limit are stored but all of them are
+ * counted.
+ */
+@NotThreadSafe
+final class IndexBuffer{
+
+  /** Initial size of the storage */
+  private static final int INITIAL_SIZE = 8;
+
+  /** Maximum number of indices to be stored */
+  @Nonnegative
+  private final int limit;
+
+  /** Stored indices */
+  @Nonnull
+  private int[] indices;
+
+  /** Number of stored indices */
+  @Nonnegative
+  private int stored = 0;
+
+  /** Number of all added indices, stored or not */
+  @Nonnegative
+  private int count = 0;
+
+  /**
+   * Creates an empty buffer
+   *
+   * @param limit maximum number of indices to be stored
+   */
+  IndexBuffer(@Nonnegative int limit){
+    this.limit = limit;
+    this.indices = new int[Math.min(INITIAL_SIZE, limit)];
+  }
+
+  /**
+   * Adds an index. If buffer is full, index is counted but not stored.
+   *
+   * @param index index to be added
+   */
+  void add(int index){
+    count++;
+    if(stored == limit) return;
+    if(stored == indices.length) indices = Arrays.copyOf(indices, (int) Math.min((long) stored * 2, limit));
+    indices[stored++] = index;
+  }
+
+  /**
+   * Adds all indices of another buffer. Indices in another buffer must be greater than indices in this buffer.
+   *
+   * @param other buffer to be added
+   */
+  void addAll(@Nonnull IndexBuffer other){
+    int added = 0;
+    for(; added < other.stored && stored < limit; added++) add(other.indices[added]);
+    count += other.count - added;
+  }
+
+  /**
+   * Returns number of all added indices
+   *
+   * @return number of indices
+   */
+  @Nonnegative
+  int count(){
+    return count;
+  }
+
+  /**
+   * Returns number of stored indices
+   *
+   * @return number of stored indices
+   */
+  @Nonnegative
+  int stored(){
+    return stored;
+  }
+
+  /**
+   * Returns stored index at position
+   *
+   * @param position position of stored index
+   * @return index
+   */
+  int get(@Nonnegative int position){
+    return indices[position];
+  }
+
+  /**
+   * Checks if buffer has no indices
+   *
+   * @return true if empty, false otherwise
+   */
+  boolean isEmpty(){
+    return count == 0;
+  }
+}
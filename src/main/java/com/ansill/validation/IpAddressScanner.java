@@ -0,0 +1,158 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import static com.ansill.validation.CharacterClass.ALPHANUMERIC;
+import static com.ansill.validation.CharacterClass.DIGIT;
+import static com.ansill.validation.CharacterClass.HEXDIGIT;
+
+/**
+ * Single-pass and allocation-free scanner for IPv4 and IPv6 addresses. IPv4 addresses are dotted quads. IPv6 addresses
+ * follow RFC 4291 text representation with optional "::" compression and optional embedded IPv4 address in the last
+ * 32 bits, and may end with an RFC 4007 zone ID such as "%eth0" where zone IDs are allowed.
+ */
+@Immutable
+final class IpAddressScanner{
+
+  /** Number of 16-bit groups in IPv6 address */
+  private static final int IPV6_GROUPS = 8;
+
+  private IpAddressScanner(){
+    // Prevents any instantiation
+  }
+
+  /**
+   * Checks if input is a valid IPv6 address with optional zone ID or, if allowed, a valid IPv4 address. Inputs longer
+   * than {@link ScanBudget} allows are not scanned.
+   *
+   * @param input        input to be checked
+   * @param ipv4_allowed true to accept IPv4 addresses as well, false to accept only IPv6 addresses
+   * @return true if valid, false otherwise
+   */
+  static boolean isValid(@Nonnull CharSequence input, boolean ipv4_allowed){
+    int end = input.length();
+    if(!ScanBudget.allows(0, end)) return false;
+    return ipv4_allowed && isValidIpv4(input, 0, end) || isValidIpv6(input, 0, end, true);
+  }
+
+  /**
+   * Checks if the range of input is a valid IPv4 address
+   *
+   * @param input input to be checked
+   * @param start start index, inclusive
+   * @param end   end index, exclusive
+   * @return true if valid, false otherwise
+   */
+  static boolean isValidIpv4(@Nonnull CharSequence input, int start, int end){
+    int index = start;
+    for(int octet = 0; octet < 3; octet++){
+      index = scanOctet(input, index, end);
+      if(index == -1 || index == end || input.charAt(index) != '.') return false;
+      index++;
+    }
+    return scanOctet(input, index, end) == end;
+  }
+
+  /**
+   * Checks if the range of input is a valid IPv6 address
+   *
+   * @param input        input to be checked
+   * @param start        start index, inclusive
+   * @param end          end index, exclusive
+   * @param zone_allowed true to allow a zone ID after '%', false otherwise
+   * @return true if valid, false otherwise
+   */
+  static boolean isValidIpv6(@Nonnull CharSequence input, int start, int end, boolean zone_allowed){
+
+    // Scan address, it stops at zone ID
+    int index = scanIpv6(input, start, end);
+    if(index == end) return true;
+    if(index == -1 || !zone_allowed || input.charAt(index) != '%') return false;
+
+    // Zone ID must not be empty
+    if(++index == end) return false;
+    for(; index < end; index++){
+      char c = input.charAt(index);
+      if(!CharacterClass.is(c, ALPHANUMERIC) && c != '-' && c != '.' && c != '_' && c != '~') return false;
+    }
+    return true;
+  }
+
+  /**
+   * Scans an IPv6 address without zone ID
+   *
+   * @param input input to be scanned
+   * @param start start index, inclusive
+   * @param end   end index, exclusive
+   * @return index of first character after the address or -1 if address is malformed
+   */
+  private static int scanIpv6(@Nonnull CharSequence input, int start, int end){
+
+    // Number of groups before and after "::"
+    int groups = 0;
+    boolean compressed = false;
+
+    // Leading "::"
+    int index = start;
+    if(index < end && input.charAt(index) == ':'){
+      if(index + 1 == end || input.charAt(index + 1) != ':') return -1;
+      compressed = true;
+      index += 2;
+      if(index == end || !CharacterClass.is(input.charAt(index), HEXDIGIT)) return index;
+    }
+
+    while(true){
+
+      // Scan group of one to four hex digits
+      int group_start = index;
+      while(index < end && index - group_start < 4 && CharacterClass.is(input.charAt(index), HEXDIGIT)) index++;
+      if(index == group_start) return -1;
+
+      // Embedded IPv4 address takes last two groups
+      if(index < end && input.charAt(index) == '.'){
+        if(compressed ? groups + 2 >= IPV6_GROUPS : groups + 2 != IPV6_GROUPS) return -1;
+        int ipv4_end = group_start;
+        while(ipv4_end < end && input.charAt(ipv4_end) != '%') ipv4_end++;
+        return isValidIpv4(input, group_start, ipv4_end) ? ipv4_end : -1;
+      }
+
+      // Group must not have more than four hex digits
+      if(index < end && CharacterClass.is(input.charAt(index), HEXDIGIT)) return -1;
+      if(++groups > IPV6_GROUPS) return -1;
+      if(index == end || input.charAt(index) != ':') break;
+
+      // Colon must be followed by another group or it's "::" that can appear only once
+      index++;
+      if(index < end && input.charAt(index) == ':'){
+        if(compressed) return -1;
+        compressed = true;
+        index++;
+        if(index == end || !CharacterClass.is(input.charAt(index), HEXDIGIT)) break;
+      }
+    }
+
+    // Compressed address must leave at least one group for "::"
+    if(compressed ? groups >= IPV6_GROUPS : groups != IPV6_GROUPS) return -1;
+    return index;
+  }
+
+  /**
+   * Scans an IPv4 octet, one to three digits with value at most 255
+   *
+   * @param input input to be scanned
+   * @param start start index, inclusive
+   * @param end   end index, exclusive
+   * @return index of first character after the octet or -1 if octet is malformed
+   */
+  static int scanOctet(@Nonnull CharSequence input, int start, int end){
+    int value = 0;
+    int index = start;
+    while(index < end && index - start < 3 && CharacterClass.is(input.charAt(index), DIGIT)){
+      value = value * 10 + input.charAt(index++) - '0';
+    }
+    if(index == start || value > 255) return -1;
+    if(index < end && CharacterClass.is(input.charAt(index), DIGIT)) return -1;
+    return index;
+  }
+}
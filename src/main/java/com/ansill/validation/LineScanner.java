@@ -0,0 +1,221 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Validates newline-delimited bytes line by line. Lines end with '\n' or "\r\n", and the last line may end without
+ * either. Lines are validated in place in the buffer so no string is created for them. Lines longer than
+ * {@link #MAX_LINE_LENGTH} are invalid without being checked, and channels skip them without buffering them.
+ */
+@NotThreadSafe
+final class LineScanner{
+
+  /** Size of the buffer used to read channels */
+  static final int BUFFER_SIZE = 1 << 16;
+
+  /** Maximum length of valid line without line ending, it is the length of the longest email address */
+  static final int MAX_LINE_LENGTH = 254;
+
+  /** Check for a range of characters */
+  interface RangeCheck{
+
+    /**
+     * Checks if the range of input is valid
+     *
+     * @param input input to be checked
+     * @param start start index, inclusive
+     * @param end   end index, exclusive
+     * @return true if valid, false otherwise
+     */
+    boolean isValid(@Nonnull CharSequence input, int start, int end);
+  }
+
+  /** Check for each line */
+  @Nonnull
+  private final RangeCheck check;
+
+  /** Maximum number of invalid lines to be reported */
+  @Nonnegative
+  private final int limit;
+
+  /** View of current buffer */
+  @Nonnull
+  private final AsciiSequence sequence;
+
+  /** Byte offset of index 0 of current buffer */
+  private long base;
+
+  /** Number of scanned lines */
+  @Nonnegative
+  private long line_count = 0;
+
+  /** Number of invalid lines */
+  @Nonnegative
+  private long invalid_line_count = 0;
+
+  /** Line numbers of reported invalid lines */
+  @Nonnull
+  private long[] invalid_line_numbers = new long[8];
+
+  /** Byte offsets of reported invalid lines */
+  @Nonnull
+  private long[] invalid_line_offsets = new long[8];
+
+  /** Number of reported invalid lines */
+  @Nonnegative
+  private int reported = 0;
+
+  /** True if the rest of current line is skipped because it is too long */
+  private boolean skipping = false;
+
+  /**
+   * Creates a scanner
+   *
+   * @param check  check for each line
+   * @param limit  maximum number of invalid lines to be reported
+   * @param buffer first buffer to be scanned
+   */
+  private LineScanner(@Nonnull RangeCheck check, @Nonnegative int limit, @Nonnull ByteBuffer buffer){
+    this.check = check;
+    this.limit = limit;
+    this.sequence = new AsciiSequence(buffer);
+    this.base = -buffer.position();
+  }
+
+  /**
+   * Validates every line between position and limit of the buffer. The buffer is not modified.
+   *
+   * @param buffer buffer to be scanned
+   * @param check  check for each line
+   * @param limit  maximum number of invalid lines to be reported
+   * @return report
+   */
+  @Nonnull
+  static ScanReport scan(@Nonnull ByteBuffer buffer, @Nonnull RangeCheck check, @Nonnegative int limit){
+    LineScanner scanner = new LineScanner(check, limit, buffer);
+    scanner.scanLines(buffer, buffer.position(), true);
+    return scanner.report();
+  }
+
+  /**
+   * Validates every line read from the channel until the end of stream. The channel is not closed.
+   *
+   * @param channel channel to be read, must be in blocking mode
+   * @param check   check for each line
+   * @param limit   maximum number of invalid lines to be reported
+   * @return report
+   * @throws IOException thrown if reading fails
+   */
+  @Nonnull
+  static ScanReport scan(@Nonnull ReadableByteChannel channel, @Nonnull RangeCheck check, @Nonnegative int limit)
+  throws IOException{
+    ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    LineScanner scanner = new LineScanner(check, limit, buffer);
+    while(true){
+
+      // Fill the buffer and scan complete lines
+      int read = channel.read(buffer);
+      buffer.flip();
+      int consumed = scanner.scanLines(buffer, 0, read == -1);
+      if(read == -1) return scanner.report();
+
+      // Move incomplete line to the start, it is never longer than a valid line so it always fits
+      buffer.position(consumed);
+      buffer.compact();
+      scanner.base += consumed;
+    }
+  }
+
+  /**
+   * Validates complete lines in the buffer. Incomplete line that is already too long is recorded as invalid, and the
+   * rest of it is skipped in this and next buffers.
+   *
+   * @param buffer buffer to be scanned
+   * @param start  index where first line starts
+   * @param last   true if there's no more input so remaining bytes are the last line
+   * @return index of first byte that was not scanned
+   */
+  private int scanLines(@Nonnull ByteBuffer buffer, int start, boolean last){
+    int end = buffer.limit();
+    int i = start;
+
+    // Skip the rest of oversized line
+    if(skipping){
+      while(i < end && buffer.get(i) != '\n') i++;
+      if(i == end) return end;
+      skipping = false;
+      start = ++i;
+    }
+
+    // Scan complete lines
+    for(; i < end; i++){
+      if(buffer.get(i) != '\n') continue;
+      scanLine(buffer, start, i);
+      start = i + 1;
+    }
+    if(start == end) return start;
+    if(last){
+      scanLine(buffer, start, end);
+      return end;
+    }
+
+    // Keep incomplete line unless it is too long even with "\r"
+    if(end - start <= MAX_LINE_LENGTH + 1) return start;
+    line_count++;
+    recordInvalidLine(start);
+    skipping = true;
+    return end;
+  }
+
+  /**
+   * Validates a line
+   *
+   * @param buffer buffer to be scanned
+   * @param start  start index, inclusive
+   * @param end    end index without '\n', exclusive
+   */
+  private void scanLine(@Nonnull ByteBuffer buffer, int start, int end){
+    line_count++;
+    if(end > start && buffer.get(end - 1) == '\r') end--;
+    if(end - start <= MAX_LINE_LENGTH && check.isValid(sequence, start, end)) return;
+    recordInvalidLine(start);
+  }
+
+  /**
+   * Records current line as invalid
+   *
+   * @param start start index of the line
+   */
+  private void recordInvalidLine(int start){
+    invalid_line_count++;
+    if(reported == limit) return;
+    if(reported == invalid_line_numbers.length){
+      int size = (int) Math.min((long) reported * 2, limit);
+      invalid_line_numbers = Arrays.copyOf(invalid_line_numbers, size);
+      invalid_line_offsets = Arrays.copyOf(invalid_line_offsets, size);
+    }
+    invalid_line_numbers[reported] = line_count;
+    invalid_line_offsets[reported++] = base + start;
+  }
+
+  /**
+   * Creates the report of scanned lines
+   *
+   * @return report
+   */
+  @Nonnull
+  private ScanReport report(){
+    return new ScanReport(
+      line_count,
+      invalid_line_count,
+      Arrays.copyOf(invalid_line_numbers, reported),
+      Arrays.copyOf(invalid_line_offsets, reported)
+    );
+  }
+}
@@ -0,0 +1,112 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Task that splits search for null elements across the common {@link ForkJoinPool}. Indices found by each part are
+ * merged in order so the result is identical to a sequential scan.
+ */
+final class NullScanTask extends RecursiveTask<IndexBuffer>{
+
+  private static final long serialVersionUID = 1L;
+
+  /** Number of elements below which the list is scanned without splitting */
+  static final int THRESHOLD = 1 << 16;
+
+  /** List to be scanned, must be random access */
+  @Nonnull
+  private final List<?> list;
+
+  /** Start index, inclusive */
+  @Nonnegative
+  private final int start;
+
+  /** End index, exclusive */
+  @Nonnegative
+  private final int end;
+
+  /** Maximum number of indices to be stored */
+  @Nonnegative
+  private final int limit;
+
+  /** Number of elements below which the range is scanned without splitting */
+  @Nonnegative
+  private final int leaf_size;
+
+  /**
+   * Creates a task
+   *
+   * @param list      list to be scanned, must be random access
+   * @param start     start index, inclusive
+   * @param end       end index, exclusive
+   * @param limit     maximum number of indices to be stored
+   * @param leaf_size number of elements below which the range is scanned without splitting
+   */
+  private NullScanTask(
+    @Nonnull List<?> list,
+    @Nonnegative int start,
+    @Nonnegative int end,
+    @Nonnegative int limit,
+    @Nonnegative int leaf_size
+  ){
+    this.list = list;
+    this.start = start;
+    this.end = end;
+    this.limit = limit;
+    this.leaf_size = leaf_size;
+  }
+
+  /**
+   * Finds indices of null elements in list
+   *
+   * @param list  list to be scanned, must be random access
+   * @param limit maximum number of indices to be stored
+   * @return indices of null elements or null if there is none
+   */
+  @Nullable
+  static IndexBuffer findNulls(@Nonnull List<?> list, @Nonnegative int limit){
+    int size = list.size();
+    int leaf_size = Math.max(THRESHOLD, size / (ForkJoinPool.getCommonPoolParallelism() * 4));
+    NullScanTask task = new NullScanTask(list, 0, size, limit, leaf_size);
+
+    // Don't bother the pool with small lists
+    if(size <= leaf_size) return task.compute();
+    return ForkJoinPool.commonPool().invoke(task);
+  }
+
+  /**
+   * Scans the range, splitting it if it's large
+   *
+   * @return indices of null elements or null if there is none
+   */
+  @Nullable
+  @Override
+  protected IndexBuffer compute(){
+
+    // Split it in half if it's large
+    if(end - start > leaf_size){
+      int middle = (start + end) >>> 1;
+      NullScanTask right = new NullScanTask(list, middle, end, limit, leaf_size);
+      right.fork();
+      IndexBuffer left_nulls = new NullScanTask(list, start, middle, limit, leaf_size).compute();
+      IndexBuffer right_nulls = right.join();
+      if(left_nulls == null) return right_nulls;
+      if(right_nulls != null) left_nulls.addAll(right_nulls);
+      return left_nulls;
+    }
+
+    // Otherwise scan it
+    IndexBuffer nulls = null;
+    for(int i = start; i < end; i++){
+      if(list.get(i) != null) continue;
+      if(nulls == null) nulls = new IndexBuffer(limit);
+      nulls.add(i);
+    }
+    return nulls;
+  }
+}
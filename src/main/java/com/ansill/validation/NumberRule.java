@@ -0,0 +1,32 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Rule that numeric field of {@link Validator} has to satisfy. Rules are obtained from {@link Rules}.
+ */
+@Immutable
+public abstract class NumberRule{
+
+  /** Message constant describing the violation */
+  @Nonnull
+  final String message;
+
+  /**
+   * Creates a rule
+   *
+   * @param message message constant describing the violation
+   */
+  NumberRule(@Nonnull String message){
+    this.message = message;
+  }
+
+  /**
+   * Checks if number satisfies rule
+   *
+   * @param number number to be checked
+   * @return true if satisfied, false otherwise
+   */
+  abstract boolean test(long number);
+}
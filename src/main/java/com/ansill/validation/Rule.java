@@ -0,0 +1,47 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Rule that field of {@link Validator} has to satisfy. Rules are obtained from {@link Rules}. Null values never
+ * satisfy a rule.
+ *
+ * @param <V> type of field
+ */
+@Immutable
+public abstract class Rule<V>{
+
+  /** Message constant describing the violation */
+  @Nonnull
+  final String message;
+
+  /**
+   * Creates a rule
+   *
+   * @param message message constant describing the violation
+   */
+  Rule(@Nonnull String message){
+    this.message = message;
+  }
+
+  /**
+   * Checks if value satisfies rule
+   *
+   * @param value value to be checked
+   * @return true if satisfied, false otherwise
+   */
+  abstract boolean test(@Nonnull V value);
+
+  /**
+   * Finds indices of members that violate rule. It is only called when the value does not satisfy rule.
+   *
+   * @param value value to be checked
+   * @return indices of invalid members or null if rule is not about members
+   */
+  @Nullable
+  IndexBuffer findInvalidMembers(@Nonnull V value){
+    return null;
+  }
+}
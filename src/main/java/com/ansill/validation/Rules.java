@@ -0,0 +1,270 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+
+/**
+ * Rules to be used with {@link ValidatorBuilder}. Rules mirror the checks of {@link Validation} and produce the same
+ * messages.
+ */
+public final class Rules{
+
+  /** Rule for nonnull objects */
+  @Nonnull
+  private static final Rule<Object> NONNULL = new Rule<Object>(Validation.OBJECT_NULL_MESSAGE){
+    @Override
+    boolean test(@Nonnull Object value){
+      return true;
+    }
+  };
+
+  /** Rule for hostnames */
+  @Nonnull
+  private static final Rule<String> HOSTNAME = new Rule<String>(Validation.INVALID_HOSTNAME_MESSAGE){
+    @Override
+    boolean test(@Nonnull String value){
+      return Validation.isValidHostname(value);
+    }
+  };
+
+  /** Rule for email addresses */
+  @Nonnull
+  private static final Rule<String> EMAIL_ADDRESS = new Rule<String>(Validation.INVALID_EMAIL_MESSAGE){
+    @Override
+    boolean test(@Nonnull String value){
+      return Validation.isValidEmailAddress(value);
+    }
+  };
+
+  /** Rule for non-empty strings */
+  @Nonnull
+  private static final Rule<String> NONEMPTY_STRING = new Rule<String>(Validation.EMPTY_STRING_MESSAGE){
+    @Override
+    boolean test(@Nonnull String value){
+      return Validation.isNonemptyString(value);
+    }
+  };
+
+  /** Rule for non-empty collections */
+  @Nonnull
+  private static final Rule<Collection<?>> NONEMPTY = new Rule<Collection<?>>(Validation.EMPTY_ARRAY_MESSAGE){
+    @Override
+    boolean test(@Nonnull Collection<?> value){
+      return !value.isEmpty();
+    }
+  };
+
+  /** Rule for non-empty arrays */
+  @Nonnull
+  private static final Rule<Object[]> NONEMPTY_ARRAY = new Rule<Object[]>(Validation.EMPTY_ARRAY_MESSAGE){
+    @Override
+    boolean test(@Nonnull Object[] value){
+      return value.length != 0;
+    }
+  };
+
+  /** Rule for collections without null elements */
+  @Nonnull
+  private static final Rule<Collection<?>> NONNULL_ELEMENTS = new Rule<Collection<?>>(
+    Validation.NULLS_IN_ARRAY_MESSAGE
+  ){
+    @Override
+    boolean test(@Nonnull Collection<?> value){
+      return !Validation.hasNullElements(value);
+    }
+
+    @Override
+    IndexBuffer findInvalidMembers(@Nonnull Collection<?> value){
+      return Validation.findNulls(value);
+    }
+  };
+
+  /** Rule for arrays without null elements */
+  @Nonnull
+  private static final Rule<Object[]> NONNULL_ARRAY_ELEMENTS = new Rule<Object[]>(Validation.NULLS_IN_ARRAY_MESSAGE){
+    @Override
+    boolean test(@Nonnull Object[] value){
+      return !Validation.hasNullElements(value);
+    }
+
+    @Override
+    IndexBuffer findInvalidMembers(@Nonnull Object[] value){
+      return Validation.findNulls(value);
+    }
+  };
+
+  /** Rule for port numbers */
+  @Nonnull
+  private static final NumberRule PORT_NUMBER = new NumberRule(Validation.INVALID_PORT_MESSAGE){
+    @Override
+    boolean test(long number){
+      return number == (int) number && Validation.isValidPortNumber((int) number);
+    }
+  };
+
+  /** Rule for natural numbers */
+  @Nonnull
+  private static final NumberRule NATURAL_NUMBER = new NumberRule(Validation.NATURAL_NUMBER_MESSAGE){
+    @Override
+    boolean test(long number){
+      return Validation.isNaturalNumber(number);
+    }
+  };
+
+  /** Rule for non-negative numbers */
+  @Nonnull
+  private static final NumberRule NONNEGATIVE = new NumberRule(Validation.NONNEGATIVE_NUMBER_MESSAGE){
+    @Override
+    boolean test(long number){
+      return Validation.isNonnegative(number);
+    }
+  };
+
+  private Rules(){
+    // Prevents any instantiation
+  }
+
+  /**
+   * Rule that is satisfied by any nonnull object
+   *
+   * @return rule
+   */
+  @Nonnull
+  public static Rule<Object> nonnull(){
+    return NONNULL;
+  }
+
+  /**
+   * Rule that is satisfied by valid hostnames, see {@link Validation#assertValidHostname(String)}
+   *
+   * @return rule
+   */
+  @Nonnull
+  public static Rule<String> hostname(){
+    return HOSTNAME;
+  }
+
+  /**
+   * Rule that is satisfied by valid email addresses, see {@link Validation#assertValidEmailAddress(String)}
+   *
+   * @return rule
+   */
+  @Nonnull
+  public static Rule<String> emailAddress(){
+    return EMAIL_ADDRESS;
+  }
+
+  /**
+   * Rule that is satisfied by strings that are not empty, see {@link Validation#assertNonemptyString(String)}
+   *
+   * @return rule
+   */
+  @Nonnull
+  public static Rule<String> nonemptyString(){
+    return NONEMPTY_STRING;
+  }
+
+  /**
+   * Rule that is satisfied by collections that are not empty
+   *
+   * @return rule
+   */
+  @Nonnull
+  public static Rule<Collection<?>> nonempty(){
+    return NONEMPTY;
+  }
+
+  /**
+   * Rule that is satisfied by arrays that are not empty
+   *
+   * @return rule
+   */
+  @Nonnull
+  public static Rule<Object[]> nonemptyArray(){
+    return NONEMPTY_ARRAY;
+  }
+
+  /**
+   * Rule that is satisfied by collections without null elements. Empty collections satisfy it, combine it with
+   * {@link #nonempty()} to reject them.
+   *
+   * @return rule
+   */
+  @Nonnull
+  public static Rule<Collection<?>> nonnullElements(){
+    return NONNULL_ELEMENTS;
+  }
+
+  /**
+   * Rule that is satisfied by arrays without null elements. Empty arrays satisfy it, combine it with
+   * {@link #nonemptyArray()} to reject them.
+   *
+   * @return rule
+   */
+  @Nonnull
+  public static Rule<Object[]> nonnullArrayElements(){
+    return NONNULL_ARRAY_ELEMENTS;
+  }
+
+  /**
+   * Rule that is satisfied by valid port numbers, see {@link Validation#assertValidPortNumber(int)}
+   *
+   * @return rule
+   */
+  @Nonnull
+  public static NumberRule portNumber(){
+    return PORT_NUMBER;
+  }
+
+  /**
+   * Rule that is satisfied by natural numbers, see {@link Validation#assertNaturalNumber(long)}
+   *
+   * @return rule
+   */
+  @Nonnull
+  public static NumberRule naturalNumber(){
+    return NATURAL_NUMBER;
+  }
+
+  /**
+   * Rule that is satisfied by non-negative numbers, see {@link Validation#assertNonnegative(long)}
+   *
+   * @return rule
+   */
+  @Nonnull
+  public static NumberRule nonnegative(){
+    return NONNEGATIVE;
+  }
+
+  /**
+   * Rule that is satisfied by numbers greater than compared number, see {@link Validation#assertGreaterThan(long, long)}
+   *
+   * @param compare number being compared
+   * @return rule
+   */
+  @Nonnull
+  public static NumberRule greaterThan(long compare){
+    return new NumberRule(Validation.GREATER_NUMBER_MESSAGE){
+      @Override
+      boolean test(long number){
+        return number > compare;
+      }
+    };
+  }
+
+  /**
+   * Rule that is satisfied by numbers lesser than compared number, see {@link Validation#assertLesserThan(long, long)}
+   *
+   * @param compare number being compared
+   * @return rule
+   */
+  @Nonnull
+  public static NumberRule lesserThan(long compare){
+    return new NumberRule(Validation.LESSER_NUMBER_MESSAGE){
+      @Override
+      boolean test(long number){
+        return number < compare;
+      }
+    };
+  }
+}
@@ -0,0 +1,83 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.nio.ByteBuffer;
+
+/**
+ * Budget of characters that scanners may visit for one input. Scanners make a single pass, so the length of the input
+ * bounds their work. Inputs longer than the budget are rejected before they are scanned, so a crafted input cannot
+ * hold a thread for longer than the budget allows. Budget is unlimited by default.
+ */
+@ThreadSafe
+final class ScanBudget{
+
+  /** Default maximum number of characters scanned for one input, it is unlimited */
+  @Nonnegative
+  static final int DEFAULT_MAX_LENGTH = Integer.MAX_VALUE;
+
+  /** Maximum number of characters scanned for one input */
+  @Nonnegative
+  private static volatile int max_length = Validation.getNaturalNumberProperty(
+    "com.ansill.validation.maxScanLength",
+    DEFAULT_MAX_LENGTH
+  );
+
+  private ScanBudget(){
+    // Prevents any instantiation
+  }
+
+  /**
+   * Checks if the range fits in the budget. Aborted scans are counted when it does not.
+   *
+   * @param start start index, inclusive
+   * @param end   end index, exclusive
+   * @return true if the range may be scanned, false if the scan is aborted
+   */
+  static boolean allows(int start, int end){
+    if(end - start <= max_length) return true;
+    ValidationMetrics.countAbortedScan();
+    return false;
+  }
+
+  /**
+   * Checks if value is a string or a buffer that is too long to be scanned
+   *
+   * @param value value to be checked
+   * @return true if it exceeds the budget, false otherwise
+   */
+  static boolean exceeds(@Nullable Object value){
+    if(value instanceof CharSequence) return ((CharSequence) value).length() > max_length;
+    return value instanceof ByteBuffer && ((ByteBuffer) value).remaining() > max_length;
+  }
+
+  /**
+   * Checks if the length exceeds the budget
+   *
+   * @param length length of input
+   * @return true if it exceeds the budget, false otherwise
+   */
+  static boolean exceeds(int length){
+    return length > max_length;
+  }
+
+  /**
+   * Returns maximum number of characters scanned for one input
+   *
+   * @return maximum number of characters
+   */
+  @Nonnegative
+  static int getMaxLength(){
+    return max_length;
+  }
+
+  /**
+   * Sets maximum number of characters scanned for one input
+   *
+   * @param max_length maximum number of characters
+   */
+  static void setMaxLength(@Nonnegative int max_length){
+    ScanBudget.max_length = max_length;
+  }
+}
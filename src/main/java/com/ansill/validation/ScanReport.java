@@ -0,0 +1,105 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Result of validating newline-delimited input line by line. Every line is counted but only first few invalid lines,
+ * up to {@link Validation#getMaxReportedIndices()}, are reported with their line numbers and byte offsets.
+ */
+@Immutable
+public final class ScanReport{
+
+  /** Number of scanned lines */
+  @Nonnegative
+  private final long line_count;
+
+  /** Number of invalid lines */
+  @Nonnegative
+  private final long invalid_line_count;
+
+  /** Line numbers of reported invalid lines, starting from 1 */
+  @Nonnull
+  private final long[] invalid_line_numbers;
+
+  /** Byte offsets of starts of reported invalid lines */
+  @Nonnull
+  private final long[] invalid_line_offsets;
+
+  /**
+   * Creates a report
+   *
+   * @param line_count           number of scanned lines
+   * @param invalid_line_count   number of invalid lines
+   * @param invalid_line_numbers line numbers of reported invalid lines
+   * @param invalid_line_offsets byte offsets of reported invalid lines
+   */
+  ScanReport(
+    @Nonnegative long line_count,
+    @Nonnegative long invalid_line_count,
+    @Nonnull long[] invalid_line_numbers,
+    @Nonnull long[] invalid_line_offsets
+  ){
+    this.line_count = line_count;
+    this.invalid_line_count = invalid_line_count;
+    this.invalid_line_numbers = invalid_line_numbers;
+    this.invalid_line_offsets = invalid_line_offsets;
+  }
+
+  /**
+   * Checks if every line is valid
+   *
+   * @return true if valid, false otherwise
+   */
+  public boolean isValid(){
+    return invalid_line_count == 0;
+  }
+
+  /**
+   * Returns number of scanned lines
+   *
+   * @return number of lines
+   */
+  @Nonnegative
+  public long getLineCount(){
+    return line_count;
+  }
+
+  /**
+   * Returns number of invalid lines, reported or not
+   *
+   * @return number of invalid lines
+   */
+  @Nonnegative
+  public long getInvalidLineCount(){
+    return invalid_line_count;
+  }
+
+  /**
+   * Returns line numbers of reported invalid lines in ascending order. First line is line 1.
+   *
+   * @return line numbers
+   */
+  @Nonnull
+  public long[] getInvalidLineNumbers(){
+    return invalid_line_numbers.clone();
+  }
+
+  /**
+   * Returns byte offsets of starts of reported invalid lines in ascending order, in the same order as
+   * {@link #getInvalidLineNumbers()}
+   *
+   * @return byte offsets
+   */
+  @Nonnull
+  public long[] getInvalidLineOffsets(){
+    return invalid_line_offsets.clone();
+  }
+
+  @Nonnull
+  @Override
+  public String toString(){
+    return "ScanReport{line_count=" + line_count + ", invalid_line_count=" + invalid_line_count + "}";
+  }
+}
@@ -0,0 +1,43 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Exception thrown when a validation fails that does not capture stacktrace
+ */
+final class StacklessValidationException extends ValidationException{
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates an exception
+   *
+   * @param variable_name name of variable that failed the validation
+   * @param message       message constant describing the failure
+   * @param indices       indices of invalid members or null if not applicable
+   */
+  StacklessValidationException(@Nullable String variable_name, @Nonnull String message, @Nullable IndexBuffer indices){
+    super(variable_name, message, indices);
+  }
+
+  /**
+   * Creates an exception with a message that is already composed
+   *
+   * @param variable_name    name of variable that failed the validation
+   * @param composed_message composed message
+   */
+  StacklessValidationException(@Nullable String variable_name, @Nonnull String composed_message){
+    super(variable_name, composed_message);
+  }
+
+  /**
+   * Does not capture stacktrace
+   *
+   * @return this exception
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace(){
+    return this;
+  }
+}
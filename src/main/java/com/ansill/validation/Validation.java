@@ -4,13 +4,18 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 /**
  * Validation class
@@ -26,6 +31,22 @@ public final class Validation{
   @Nonnull
   static final String INVALID_HOSTNAME_MESSAGE = "is expected to be a valid hostname/IP address but it is actually not a valid hostname/IP address";
 
+  /** Message for invalid IPv6 address */
+  @Nonnull
+  static final String INVALID_IPV6_MESSAGE = "is expected to be a valid IPv6 address but it is actually not a valid IPv6 address";
+
+  /** Message for invalid IP address */
+  @Nonnull
+  static final String INVALID_IP_MESSAGE = "is expected to be a valid IP address but it is actually not a valid IP address";
+
+  /** Message for invalid host and port */
+  @Nonnull
+  static final String INVALID_HOST_AND_PORT_MESSAGE = "is expected to be a valid host and port but it is actually not a valid host and port";
+
+  /** Message for input that is too long to be scanned */
+  @Nonnull
+  static final String SCAN_BUDGET_MESSAGE = "is expected to be short enough to be validated but its length exceeds the scan budget";
+
   /** Message for invalid port numbers */
   @Nonnull
   static final String INVALID_PORT_MESSAGE = "is expected to be within 1-65535 range but is found to be out of the range";
@@ -62,25 +83,340 @@ public final class Validation{
   @Nonnull
   static final String NULLS_IN_ARRAY_MESSAGE = "is expected to have all of its list members to be non-null but the list contains null members";
 
-  /** Regex pattern for valid hostname */
+  /** Message for negative numbers in array error */
   @Nonnull
-  private static final Pattern VALID_HOSTNAME_REGEX = Pattern.compile(
-    "^(([0-9]|[1-9][0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])\\.){3}([0-9]|[1-9][0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])$");
+  static final String NEGATIVES_IN_ARRAY_MESSAGE = "is expected to have all of its list members to be non-negative but the list contains negative members";
 
-  /** Regex pattern for valid ip address */
+  /** Message for invalid port numbers in array error */
   @Nonnull
-  private static final Pattern VALID_IP_REGEX = Pattern.compile(
-    "^(([a-zA-Z0-9]|[a-zA-Z0-9][a-zA-Z0-9\\-]*[a-zA-Z0-9])\\.)*([A-Za-z0-9]|[A-Za-z0-9][A-Za-z0-9\\-]*[A-Za-z0-9])$");
+  static final String INVALID_PORTS_IN_ARRAY_MESSAGE = "is expected to have all of its list members to be within 1-65535 range but the list contains members out of the range";
 
-  /** Regex pattern for valid email address */
+  /** Message for natural numbers in array error */
   @Nonnull
-  private static final Pattern VALID_EMAIL_REGEX = Pattern.compile(
-    "(?:[a-z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\.[a-z0-9!#$%&'*+/=?^_`{|}~-]+)*|\"(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21\\x23-\\x5b\\x5d-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])*\")@(?:(?:[a-z0-9](?:[a-z0-9-]*[a-z0-9])?\\.)+[a-z0-9](?:[a-z0-9-]*[a-z0-9])?|\\[(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?|[a-z0-9-]*[a-z0-9]:(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21-\\x5a\\x53-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])+)])");
+  static final String NATURAL_NUMBERS_IN_ARRAY_MESSAGE = "is expected to have all of its list members to be natural numbers (1, 2, ..., N-1, N) but the list contains members that are not natural numbers";
+
+  /** Message for greater comparison in array error */
+  @Nonnull
+  static final String GREATER_NUMBERS_IN_ARRAY_MESSAGE = "is expected to have all of its list members to be greater numbers, but the list contains members that are not";
+
+  /** Message for lesser comparison in array error */
+  @Nonnull
+  static final String LESSER_NUMBERS_IN_ARRAY_MESSAGE = "is expected to have all of its list members to be lesser numbers, but the list contains members that are not";
+
+  /** Default maximum number of invalid member indices to be reported in a message */
+  @Nonnegative
+  static final int DEFAULT_MAX_REPORTED_INDICES = 100;
+
+  /** Maximum number of invalid member indices to be reported in a message */
+  @Nonnegative
+  private static volatile int max_reported_indices = getNaturalNumberProperty(
+    "com.ansill.validation.maxReportedIndices",
+    DEFAULT_MAX_REPORTED_INDICES
+  );
+
+  /** True to throw exceptions without stacktrace */
+  private static volatile boolean stackless_exceptions = Boolean.getBoolean("com.ansill.validation.stacklessExceptions");
+
+  /** Cache of valid hostnames, null if caching is disabled */
+  @Nullable
+  private static volatile ValidationCache hostname_cache = createCache(
+    Integer.getInteger("com.ansill.validation.cacheSize", 0)
+  );
+
+  /** Cache of valid email addresses, null if caching is disabled */
+  @Nullable
+  private static volatile ValidationCache email_address_cache = createCache(
+    Integer.getInteger("com.ansill.validation.cacheSize", 0)
+  );
 
   private Validation(){
     // Prevents any instantiation
   }
 
+  /**
+   * Returns maximum number of invalid member indices to be reported in a message. Initial value can be set with
+   * 'com.ansill.validation.maxReportedIndices' system property, values that are not natural numbers are ignored.
+   *
+   * @return maximum number of indices
+   */
+  @Nonnegative
+  public static int getMaxReportedIndices(){
+    return max_reported_indices;
+  }
+
+  /**
+   * Sets maximum number of invalid member indices to be reported in a message. Indices past the maximum are counted but
+   * not listed.
+   *
+   * @param max_reported_indices maximum number of indices
+   * @throws IllegalArgumentException thrown if the maximum is not a natural number
+   */
+  public static void setMaxReportedIndices(@Nonnegative int max_reported_indices) throws IllegalArgumentException{
+    innerAssertArgument(max_reported_indices > 0, "max_reported_indices", CheckKind.NATURAL_NUMBER);
+    Validation.max_reported_indices = max_reported_indices;
+  }
+
+  /**
+   * Returns maximum number of characters scanned when validating one hostname, IP address, host and port or email
+   * address. Initial value can be set with 'com.ansill.validation.maxScanLength' system property, values that are not
+   * natural numbers are ignored.
+   *
+   * @return maximum number of characters
+   */
+  @Nonnegative
+  public static int getMaxScanLength(){
+    return ScanBudget.getMaxLength();
+  }
+
+  /**
+   * Sets maximum number of characters scanned when validating one hostname, IP address, host and port or email address.
+   * Longer inputs are rejected without being scanned, so time spent on one untrusted input is bounded. Assertions
+   * and batches report them with a distinct message and aborted scans are counted in metrics. Valid hostnames and email
+   * addresses are at most 254 characters long, so a few thousand characters is a safe limit. It is unlimited by
+   * default.
+   *
+   * @param max_scan_length maximum number of characters
+   * @throws IllegalArgumentException thrown if the maximum is not a natural number
+   */
+  public static void setMaxScanLength(@Nonnegative int max_scan_length) throws IllegalArgumentException{
+    innerAssertArgument(max_scan_length > 0, "max_scan_length", CheckKind.NATURAL_NUMBER);
+    ScanBudget.setMaxLength(max_scan_length);
+  }
+
+  /**
+   * Checks if exceptions are thrown without stacktrace. Initial value can be set with
+   * 'com.ansill.validation.stacklessExceptions' system property.
+   *
+   * @return true if exceptions are thrown without stacktrace, false otherwise
+   */
+  public static boolean isStacklessExceptions(){
+    return stackless_exceptions;
+  }
+
+  /**
+   * Sets whether exceptions are thrown without stacktrace. Capturing stacktrace is the most expensive part of a failed
+   * assertion, so this is useful where failures are expected and frequent. Exceptions are still instances of
+   * {@link ValidationException} and have the same message.
+   *
+   * @param stackless_exceptions true to throw exceptions without stacktrace, false to throw with stacktrace
+   */
+  public static void setStacklessExceptions(boolean stackless_exceptions){
+    Validation.stackless_exceptions = stackless_exceptions;
+  }
+
+  /**
+   * Returns capacity of each of hostname and email address caches. Initial capacity can be set with
+   * 'com.ansill.validation.cacheSize' system property.
+   *
+   * @return capacity or 0 if caching is disabled
+   */
+  @Nonnegative
+  public static int getCacheSize(){
+    ValidationCache cache = hostname_cache;
+    return cache == null ? 0 : cache.capacity();
+  }
+
+  /**
+   * Sets capacity of each of hostname and email address caches. Caches remember recently validated hostnames and email
+   * addresses that are valid, so validating them again is a lookup. Invalid values are never cached. Capacity is
+   * rounded up to a power of two. Setting it replaces the caches and resets their counters. Caching is disabled by
+   * default.
+   *
+   * @param cache_size capacity or 0 to disable caching
+   * @throws IllegalArgumentException thrown if the capacity is negative
+   */
+  public static void setCacheSize(@Nonnegative int cache_size) throws IllegalArgumentException{
+    innerAssertArgument(cache_size >= 0, "cache_size", CheckKind.NONNEGATIVE);
+    hostname_cache = createCache(cache_size);
+    email_address_cache = createCache(cache_size);
+  }
+
+  /**
+   * Returns number of hostname and email address validations that were answered by the caches
+   *
+   * @return number of cache hits
+   */
+  @Nonnegative
+  public static long getCacheHitCount(){
+    ValidationCache hostnames = hostname_cache;
+    ValidationCache email_addresses = email_address_cache;
+    return (hostnames == null ? 0 : hostnames.hits()) + (email_addresses == null ? 0 : email_addresses.hits());
+  }
+
+  /**
+   * Returns number of hostname and email address validations that were not answered by the caches
+   *
+   * @return number of cache misses
+   */
+  @Nonnegative
+  public static long getCacheMissCount(){
+    ValidationCache hostnames = hostname_cache;
+    ValidationCache email_addresses = email_address_cache;
+    return (hostnames == null ? 0 : hostnames.misses()) + (email_addresses == null ? 0 : email_addresses.misses());
+  }
+
+  /**
+   * Checks if metrics of checks are being collected. Initial value can be set with 'com.ansill.validation.metrics'
+   * system property.
+   *
+   * @return true if enabled, false otherwise
+   */
+  public static boolean isMetricsEnabled(){
+    return ValidationMetrics.isCollecting();
+  }
+
+  /**
+   * Sets whether metrics of checks are collected. Every call of an assert method counts as a check of its kind. A failed
+   * check, including one that failed because the value is null, and time spent creating its exception are counted by
+   * the same kind. Counters are kept when metrics are disabled. Enabling metrics for the first time registers
+   * {@link ValidationMetricsMXBean} in the platform MBean server. Metrics are disabled by default.
+   *
+   * @param metrics_enabled true to collect metrics, false to stop collecting them
+   * @throws IllegalStateException thrown if the MBean cannot be registered
+   */
+  public static void setMetricsEnabled(boolean metrics_enabled) throws IllegalStateException{
+    ValidationMetrics.setCollecting(metrics_enabled);
+  }
+
+  /**
+   * Returns number of performed checks of a kind
+   *
+   * @param kind kind of check
+   * @return number of checks
+   * @throws IllegalArgumentException thrown if kind is null
+   */
+  @Nonnegative
+  public static long getCallCount(@Nonnull CheckKind kind) throws IllegalArgumentException{
+    return ValidationMetrics.calls(innerAssertNonnull(kind, "kind", -1));
+  }
+
+  /**
+   * Returns number of failed checks of a kind
+   *
+   * @param kind kind of check
+   * @return number of failed checks
+   * @throws IllegalArgumentException thrown if kind is null
+   */
+  @Nonnegative
+  public static long getFailureCount(@Nonnull CheckKind kind) throws IllegalArgumentException{
+    return ValidationMetrics.failures(innerAssertNonnull(kind, "kind", -1));
+  }
+
+  /**
+   * Returns time spent creating exceptions for failed checks of a kind
+   *
+   * @param kind kind of check
+   * @return time in nanoseconds
+   * @throws IllegalArgumentException thrown if kind is null
+   */
+  @Nonnegative
+  public static long getFailureNanos(@Nonnull CheckKind kind) throws IllegalArgumentException{
+    return ValidationMetrics.failureNanos(innerAssertNonnull(kind, "kind", -1));
+  }
+
+  /**
+   * Returns number of validations that were rejected without being scanned because their input exceeded
+   * {@link #getMaxScanLength()}. Only counted while metrics are enabled.
+   *
+   * @return number of aborted scans
+   */
+  @Nonnegative
+  public static long getAbortedScanCount(){
+    return ValidationMetrics.abortedScans();
+  }
+
+  /**
+   * Resets metrics of all kinds of checks to zero
+   */
+  public static void resetMetrics(){
+    ValidationMetrics.resetCounters();
+  }
+
+  /**
+   * Checks if a kind of checks is enabled. Initially disabled kinds can be listed in
+   * 'com.ansill.validation.disabledChecks' system property, separated by commas.
+   *
+   * @param kind kind of check
+   * @return true if enabled, false otherwise
+   * @throws IllegalArgumentException thrown if kind is null
+   */
+  public static boolean isEnabled(@Nonnull CheckKind kind) throws IllegalArgumentException{
+    return CheckGuards.isEnabled(innerAssertNonnull(kind, "kind", -1));
+  }
+
+  /**
+   * Enables a kind of checks that has been disabled
+   *
+   * @param kind kind of check
+   * @throws IllegalArgumentException thrown if kind is null
+   */
+  public static void enable(@Nonnull CheckKind kind) throws IllegalArgumentException{
+    CheckGuards.setEnabled(innerAssertNonnull(kind, "kind", -1), true);
+  }
+
+  /**
+   * Disables a kind of checks, much like disabling assertions with '-ea' JVM option. Assert methods of a disabled kind
+   * return their argument without checking it. Once compiled, a disabled check costs nothing, and enabling it again
+   * recompiles the code that uses it. Null checks that other checks start with are not affected by disabling
+   * {@link CheckKind#NONNULL}. Host and port checks cannot be disabled since they return the parsed value.
+   *
+   * @param kind kind of check
+   * @throws IllegalArgumentException thrown if kind is null or {@link CheckKind#HOST_AND_PORT}
+   */
+  public static void disable(@Nonnull CheckKind kind) throws IllegalArgumentException{
+    innerAssertNonnull(kind, "kind", -1);
+    if(kind == CheckKind.HOST_AND_PORT) throw new IllegalArgumentException("Host and port checks cannot be disabled");
+    CheckGuards.setEnabled(kind, false);
+  }
+
+  /**
+   * Creates a cache
+   *
+   * @param cache_size capacity of cache
+   * @return cache or null if capacity is not positive
+   */
+  @Nullable
+  private static ValidationCache createCache(int cache_size){
+    return cache_size > 0 ? new ValidationCache(cache_size) : null;
+  }
+
+  /**
+   * Reads natural number from system property. Settings read at startup follow the same rules as their setters, so
+   * invalid values cannot break checks later.
+   *
+   * @param name          name of property
+   * @param default_value value to be used if the property is missing or is not a natural number
+   * @return natural number
+   */
+  @Nonnegative
+  static int getNaturalNumberProperty(@Nonnull String name, @Nonnegative int default_value){
+    int value = Integer.getInteger(name, default_value);
+    return value > 0 ? value : default_value;
+  }
+
+  /**
+   * Creates a batch that collects violations of many checks and reports all of them at once
+   *
+   * @return new batch
+   */
+  @Nonnull
+  public static Batch batch(){
+    return new Batch(Batch.DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a batch that collects violations of many checks and reports all of them at once
+   *
+   * @param capacity expected number of violations, the batch grows if there are more
+   * @return new batch
+   * @throws IllegalArgumentException thrown if the capacity is negative
+   */
+  @Nonnull
+  public static Batch batch(@Nonnegative int capacity) throws IllegalArgumentException{
+    innerAssertArgument(capacity >= 0, "capacity", CheckKind.NONNEGATIVE);
+    return new Batch(capacity);
+  }
+
   /**
    * Composes message with message and optional variable name
    *
@@ -101,19 +437,26 @@ public final class Validation{
    *
    * @param variable_name variable name to properly reference to. If variable name is empty, then it will be omitted in the message
    * @param message       message
+   * @param indices       indices of invalid values
    * @return composed message
    */
   @Nonnull
   static String composeMessageWithArrays(
     @Nullable String variable_name,
     @Nonnull String message,
-    @Nonnull List<Integer> indices
+    @Nonnull IndexBuffer indices
   ){
-    String composed_message = ". ";
-    if(indices.size() == 1) composed_message += "The invalid member is at index " + indices.iterator().next();
-    else composed_message += "Invalid members are located at indices " +
-                             Arrays.toString(indices.toArray(new Integer[0]));
-    return composeMessage(variable_name, message) + composed_message;
+    StringBuilder composed_message = new StringBuilder(composeMessage(variable_name, message)).append(". ");
+    if(indices.count() == 1) return composed_message.append("The invalid member is at index ")
+                                                    .append(indices.get(0))
+                                                    .toString();
+    composed_message.append("Invalid members are located at indices [");
+    for(int i = 0; i < indices.stored(); i++){
+      if(i != 0) composed_message.append(", ");
+      composed_message.append(indices.get(i));
+    }
+    if(indices.stored() == indices.count()) return composed_message.append(']').toString();
+    return composed_message.append(", ...] (").append(indices.count()).append(" in total)").toString();
   }
 
   /**
@@ -142,6 +485,16 @@ public final class Validation{
     return innerAssertValidPortNumber(port, variable_name);
   }
 
+  /**
+   * Checks if port number is valid
+   *
+   * @param port port number to be checked
+   * @return true if valid, false otherwise
+   */
+  public static boolean isValidPortNumber(int port){
+    return port > 0 && port <= 65535;
+  }
+
   /**
    * Asserts that port number is valid. If it is invalid, then an exception will be thrown.
    *
@@ -154,17 +507,14 @@ public final class Validation{
   private static int innerAssertValidPortNumber(int port, @Nullable String variable_name)
   throws IllegalArgumentException{
 
-    // Exit if valid
-    if(port > 0 && port <= 65535) return port;
-
-    // Otherwise go ahead and throw exception
-    String message = composeMessage(variable_name, INVALID_PORT_MESSAGE);
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.PORT_NUMBER)) return port;
 
-    // Create exception
-    IllegalArgumentException iae = new IllegalArgumentException(message);
+    // Exit if valid
+    if(isValidPortNumber(port)) return port;
 
-    // Update stacktrace and throw it
-    throw updateStackTrace(iae, 0);
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw fail(CheckKind.PORT_NUMBER, variable_name);
   }
 
   /**
@@ -194,6 +544,24 @@ public final class Validation{
     return innerAssertValidHostname(hostname, variable_name);
   }
 
+  /**
+   * Checks if hostname is valid
+   *
+   * @param hostname hostname to be checked
+   * @return true if valid, false if invalid or null
+   */
+  public static boolean isValidHostname(@Nullable String hostname){
+    if(hostname == null || !ScanBudget.allows(0, hostname.length())) return false;
+
+    // Check cache first if it's enabled
+    ValidationCache cache = hostname_cache;
+    if(cache == null) return HostnameScanner.isValid(hostname);
+    if(cache.contains(hostname)) return true;
+    if(!HostnameScanner.isValid(hostname)) return false;
+    cache.add(hostname);
+    return true;
+  }
+
   /**
    * Asserts that hostname is valid. If it is invalid, then an exception will be thrown.
    *
@@ -206,655 +574,2424 @@ public final class Validation{
   private static String innerAssertValidHostname(@Nullable String hostname, @Nullable String variable_name)
   throws IllegalArgumentException{
 
-    // Assert non null
-    hostname = innerAssertNonnull(hostname, variable_name, 1);
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.HOSTNAME)) return hostname;
 
     // Exit if valid
-    if(VALID_HOSTNAME_REGEX.matcher(hostname).matches() || VALID_IP_REGEX.matcher(hostname).matches())
-      return hostname;
+    if(hostname != null && isValidHostname(hostname)) return hostname;
 
-    // Otherwise go ahead and throw exception
-    String message = composeMessage(variable_name, INVALID_HOSTNAME_MESSAGE);
-
-    // Create exception
-    IllegalArgumentException iae = new IllegalArgumentException(message);
-
-    // Update stacktrace and throw it
-    throw updateStackTrace(iae, 0);
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failScan(CheckKind.HOSTNAME, hostname, variable_name);
   }
 
   /**
-   * Asserts that email address is valid. If it is invalid, then an exception will be thrown.
+   * Asserts that hostname is valid without converting it to a string. If it is invalid, then an exception will be
+   * thrown.
    *
-   * @param email_address email address to be asserted
-   * @return valid email address
-   * @throws IllegalArgumentException thrown if the email address is invalid in any way
+   * @param <T>      type of character sequence
+   * @param hostname hostname to be asserted
+   * @return valid hostname
+   * @throws IllegalArgumentException thrown if the hostname is invalid in any way
    */
   @Nonnull
-  public static String assertValidEmailAddress(@Nullable String email_address) throws IllegalArgumentException{
-    return innerAssertValidEmailAddress(email_address, null);
+  public static <T extends CharSequence> T assertValidHostname(@Nullable T hostname) throws IllegalArgumentException{
+    return innerAssertValidHostname(hostname, null);
   }
 
   /**
-   * Asserts that email address is valid. If it is invalid, then an exception will be thrown.
+   * Asserts that hostname is valid without converting it to a string. If it is invalid, then an exception will be
+   * thrown.
    *
-   * @param email_address email address to be asserted
+   * @param <T>           type of character sequence
+   * @param hostname      hostname to be asserted
    * @param variable_name name of variable
-   * @return valid email address
-   * @throws IllegalArgumentException thrown if the email address is invalid in any way
+   * @return valid hostname
+   * @throws IllegalArgumentException thrown if the hostname is invalid in any way
    */
   @Nonnull
-  public static String assertValidEmailAddress(@Nullable String email_address, @Nonnull String variable_name)
+  public static <T extends CharSequence> T assertValidHostname(@Nullable T hostname, @Nonnull String variable_name)
   throws IllegalArgumentException{
     innerAssertNonnull(variable_name, "variable_name", -1);
-    return innerAssertValidEmailAddress(email_address, variable_name);
+    return innerAssertValidHostname(hostname, variable_name);
   }
 
   /**
-   * Asserts that email address is valid. If it is invalid, then an exception will be thrown.
+   * Checks if hostname is valid without converting it to a string
    *
-   * @param email_address email address to be asserted
+   * @param hostname hostname to be checked
+   * @return true if valid, false if invalid or null
+   */
+  public static boolean isValidHostname(@Nullable CharSequence hostname){
+    return hostname != null && HostnameScanner.isValid(hostname);
+  }
+
+  /**
+   * Asserts that hostname is valid without converting it to a string. If it is invalid, then an exception will be
+   * thrown.
+   *
+   * @param <T>           type of character sequence
+   * @param hostname      hostname to be asserted
    * @param variable_name name of variable
-   * @return valid email address
-   * @throws IllegalArgumentException thrown if the email address is invalid in any way
+   * @return valid hostname
+   * @throws IllegalArgumentException thrown if the hostname is invalid in any way
    */
   @Nonnull
-  private static String innerAssertValidEmailAddress(@Nullable String email_address, @Nullable String variable_name)
-  throws IllegalArgumentException{
+  private static <T extends CharSequence> T innerAssertValidHostname(
+    @Nullable T hostname,
+    @Nullable String variable_name
+  ) throws IllegalArgumentException{
 
-    // Assert non null
-    email_address = innerAssertNonnull(email_address, variable_name, 1);
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.HOSTNAME)) return hostname;
 
     // Exit if valid
-    if(VALID_EMAIL_REGEX.matcher(email_address.toLowerCase()).matches()) return email_address;
-
-    // Otherwise go ahead and throw exception
-    String message = composeMessage(variable_name, INVALID_EMAIL_MESSAGE);
+    if(hostname != null && HostnameScanner.isValid(hostname)) return hostname;
 
-    // Create exception
-    IllegalArgumentException iae = new IllegalArgumentException(message);
-
-    // Update stacktrace and throw it
-    throw updateStackTrace(iae, 0);
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failScan(CheckKind.HOSTNAME, hostname, variable_name);
   }
 
   /**
-   * Asserts that object is not null. If it is null, then an exception will be thrown.
+   * Asserts that ASCII or UTF-8 encoded hostname in the range of array is valid without converting it to a string. If
+   * it is invalid, then an exception will be thrown.
    *
-   * @param <T>    return value type
-   * @param object object to be asserted
-   * @return non-null object
-   * @throws IllegalArgumentException thrown if the object is invalid in any way
+   * @param hostname array that contains hostname to be asserted
+   * @param offset   index of first byte of hostname
+   * @param length   number of bytes of hostname
+   * @return array that contains valid hostname
+   * @throws IllegalArgumentException  thrown if the hostname is invalid in any way
+   * @throws IndexOutOfBoundsException thrown if the range is out of bounds of array
    */
   @Nonnull
-  public static <T> T assertNonnull(@Nullable T object) throws IllegalArgumentException{
-    return innerAssertNonnull(object, null, 0);
+  public static byte[] assertValidHostname(@Nullable byte[] hostname, int offset, int length)
+  throws IllegalArgumentException, IndexOutOfBoundsException{
+    return innerAssertValidHostname(hostname, offset, length, null);
   }
 
   /**
-   * Asserts that object is not null. If it is null, then an exception will be thrown.
+   * Asserts that ASCII or UTF-8 encoded hostname in the range of array is valid without converting it to a string. If
+   * it is invalid, then an exception will be thrown.
    *
-   * @param <T>           return value type
-   * @param object        object to be asserted
+   * @param hostname      array that contains hostname to be asserted
+   * @param offset        index of first byte of hostname
+   * @param length        number of bytes of hostname
    * @param variable_name name of variable
-   * @return non-null object
-   * @throws IllegalArgumentException thrown if the object is invalid in any way
+   * @return array that contains valid hostname
+   * @throws IllegalArgumentException  thrown if the hostname is invalid in any way
+   * @throws IndexOutOfBoundsException thrown if the range is out of bounds of array
    */
   @Nonnull
-  public static <T> T assertNonnull(@Nullable T object, @Nonnull String variable_name)
-  throws IllegalArgumentException{
+  public static byte[] assertValidHostname(
+    @Nullable byte[] hostname,
+    int offset,
+    int length,
+    @Nonnull String variable_name
+  ) throws IllegalArgumentException, IndexOutOfBoundsException{
     innerAssertNonnull(variable_name, "variable_name", -1);
-    return innerAssertNonnull(object, variable_name, 0);
+    return innerAssertValidHostname(hostname, offset, length, variable_name);
   }
 
   /**
-   * Asserts that object is not null. If it is null, then an exception will be thrown.
+   * Checks if ASCII or UTF-8 encoded hostname in the range of array is valid without converting it to a string
    *
-   * @param <T>           object type
-   * @param object        object to be asserted
+   * @param hostname array that contains hostname to be checked
+   * @param offset   index of first byte of hostname
+   * @param length   number of bytes of hostname
+   * @return true if valid, false if invalid or null
+   * @throws IndexOutOfBoundsException thrown if the range is out of bounds of array
+   */
+  public static boolean isValidHostname(@Nullable byte[] hostname, int offset, int length)
+  throws IndexOutOfBoundsException{
+    if(hostname == null) return false;
+    checkRange(hostname.length, offset, length);
+    return HostnameScanner.isValid(new AsciiSequence(ByteBuffer.wrap(hostname)), offset, offset + length);
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded hostname in the range of array is valid. If it is invalid, then an exception
+   * will be thrown.
+   *
+   * @param hostname      array that contains hostname to be asserted
+   * @param offset        index of first byte of hostname
+   * @param length        number of bytes of hostname
    * @param variable_name name of variable
-   * @param level         level of calls. This is used to adjust the stacktrace.
-   * @return nonnull object
-   * @throws IllegalArgumentException thrown if the object is invalid in any way
+   * @return array that contains valid hostname
+   * @throws IllegalArgumentException  thrown if the hostname is invalid in any way
+   * @throws IndexOutOfBoundsException thrown if the range is out of bounds of array
    */
   @Nonnull
-  private static <T> T innerAssertNonnull(@Nullable T object, @Nullable String variable_name, int level)
-  throws IllegalArgumentException{
-
-    // Exit if not null
-    if(object != null) return object;
+  private static byte[] innerAssertValidHostname(
+    @Nullable byte[] hostname,
+    int offset,
+    int length,
+    @Nullable String variable_name
+  ) throws IllegalArgumentException, IndexOutOfBoundsException{
 
-    // Otherwise go ahead and throw exception
-    String message = composeMessage(variable_name, OBJECT_NULL_MESSAGE);
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.HOSTNAME)) return hostname;
 
-    // Create exception
-    IllegalArgumentException iae = new IllegalArgumentException(message);
+    // Exit if valid
+    if(isValidHostname(hostname, offset, length)) return hostname;
 
-    // Update stacktrace and throw it
-    throw updateStackTrace(iae, level);
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failScan(CheckKind.HOSTNAME, hostname, length, variable_name);
   }
 
   /**
-   * Asserts that number is a greater than compared number. If it is not a greater an exception will be thrown.
+   * Asserts that ASCII or UTF-8 encoded hostname between position and limit of the buffer is valid without converting
+   * it to a string. Position of buffer is not moved. If it is invalid, then an exception will be thrown.
    *
-   * @param number  number to be asserted
-   * @param compare number being compared
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @param hostname buffer that contains hostname to be asserted
+   * @return buffer that contains valid hostname
+   * @throws IllegalArgumentException thrown if the hostname is invalid in any way
    */
-  public static int assertGreaterThan(int number, long compare) throws IllegalArgumentException{
-    return (int) innerAssertGreaterThan(number, compare, null);
+  @Nonnull
+  public static ByteBuffer assertValidHostnameBytes(@Nullable ByteBuffer hostname) throws IllegalArgumentException{
+    return innerAssertValidHostnameBytes(hostname, null);
   }
 
   /**
-   * Asserts that number is a greater than compared number. If it is not a greater an exception will be thrown.
+   * Asserts that ASCII or UTF-8 encoded hostname between position and limit of the buffer is valid without converting
+   * it to a string. Position of buffer is not moved. If it is invalid, then an exception will be thrown.
    *
-   * @param number        number to be asserted
-   * @param compare       number being compared
+   * @param hostname      buffer that contains hostname to be asserted
    * @param variable_name name of variable
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @return buffer that contains valid hostname
+   * @throws IllegalArgumentException thrown if the hostname is invalid in any way
    */
-  public static int assertGreaterThan(int number, long compare, @Nonnull String variable_name)
+  @Nonnull
+  public static ByteBuffer assertValidHostnameBytes(@Nullable ByteBuffer hostname, @Nonnull String variable_name)
   throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
-    return (int) innerAssertGreaterThan(number, compare, variable_name);
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertValidHostnameBytes(hostname, variable_name);
   }
 
   /**
-   * Asserts that number is a greater than compared number. If it is not a greater an exception will be thrown.
+   * Checks if ASCII or UTF-8 encoded hostname between position and limit of the buffer is valid without converting it
+   * to a string. Position of buffer is not moved.
    *
-   * @param number  number to be asserted
-   * @param compare number being compared
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @param hostname buffer that contains hostname to be checked
+   * @return true if valid, false if invalid or null
    */
-  public static long assertGreaterThan(long number, long compare) throws IllegalArgumentException{
-    return innerAssertGreaterThan(number, compare, null);
+  public static boolean isValidHostnameBytes(@Nullable ByteBuffer hostname){
+    if(hostname == null) return false;
+    return HostnameScanner.isValid(new AsciiSequence(hostname), hostname.position(), hostname.limit());
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded hostname between position and limit of the buffer is valid. If it is invalid,
+   * then an exception will be thrown.
+   *
+   * @param hostname      buffer that contains hostname to be asserted
+   * @param variable_name name of variable
+   * @return buffer that contains valid hostname
+   * @throws IllegalArgumentException thrown if the hostname is invalid in any way
+   */
+  @Nonnull
+  private static ByteBuffer innerAssertValidHostnameBytes(
+    @Nullable ByteBuffer hostname,
+    @Nullable String variable_name
+  ) throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.HOSTNAME)) return hostname;
+
+    // Exit if valid
+    if(hostname != null && isValidHostnameBytes(hostname)) return hostname;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failScan(CheckKind.HOSTNAME, hostname, variable_name);
+  }
+
+  /**
+   * Asserts that IPv6 address is valid. If it is invalid, then an exception will be thrown.
+   * Compressed "::" form, embedded IPv4 address and zone ID such as "fe80::1%eth0" are accepted, brackets are not.
+   *
+   * @param ipv6_address IPv6 address to be asserted
+   * @return valid IPv6 address
+   * @throws IllegalArgumentException thrown if the IPv6 address is invalid in any way
+   */
+  @Nonnull
+  public static String assertValidIpv6Address(@Nullable String ipv6_address) throws IllegalArgumentException{
+    return innerAssertValidIpAddress(ipv6_address, false, null);
+  }
+
+  /**
+   * Asserts that IPv6 address is valid. If it is invalid, then an exception will be thrown.
+   * Compressed "::" form, embedded IPv4 address and zone ID such as "fe80::1%eth0" are accepted, brackets are not.
+   *
+   * @param ipv6_address  IPv6 address to be asserted
+   * @param variable_name name of variable
+   * @return valid IPv6 address
+   * @throws IllegalArgumentException thrown if the IPv6 address is invalid in any way
+   */
+  @Nonnull
+  public static String assertValidIpv6Address(@Nullable String ipv6_address, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertValidIpAddress(ipv6_address, false, variable_name);
+  }
+
+  /**
+   * Checks if IPv6 address is valid.
+   * Compressed "::" form, embedded IPv4 address and zone ID such as "fe80::1%eth0" are accepted, brackets are not.
+   *
+   * @param ipv6_address IPv6 address to be checked
+   * @return true if valid, false if invalid or null
+   */
+  public static boolean isValidIpv6Address(@Nullable String ipv6_address){
+    return ipv6_address != null && IpAddressScanner.isValid(ipv6_address, false);
+  }
+
+  /**
+   * Asserts that IP address is valid. If it is invalid, then an exception will be thrown.
+   * It is either a dotted-quad IPv4 address or an IPv6 address as accepted by {@link #assertValidIpv6Address(String)}.
+   *
+   * @param ip_address IP address to be asserted
+   * @return valid IP address
+   * @throws IllegalArgumentException thrown if the IP address is invalid in any way
+   */
+  @Nonnull
+  public static String assertValidIpAddress(@Nullable String ip_address) throws IllegalArgumentException{
+    return innerAssertValidIpAddress(ip_address, true, null);
+  }
+
+  /**
+   * Asserts that IP address is valid. If it is invalid, then an exception will be thrown.
+   * It is either a dotted-quad IPv4 address or an IPv6 address as accepted by {@link #assertValidIpv6Address(String)}.
+   *
+   * @param ip_address    IP address to be asserted
+   * @param variable_name name of variable
+   * @return valid IP address
+   * @throws IllegalArgumentException thrown if the IP address is invalid in any way
+   */
+  @Nonnull
+  public static String assertValidIpAddress(@Nullable String ip_address, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertValidIpAddress(ip_address, true, variable_name);
+  }
+
+  /**
+   * Checks if IP address is valid.
+   * It is either a dotted-quad IPv4 address or an IPv6 address as accepted by {@link #isValidIpv6Address(String)}.
+   *
+   * @param ip_address IP address to be checked
+   * @return true if valid, false if invalid or null
+   */
+  public static boolean isValidIpAddress(@Nullable String ip_address){
+    return ip_address != null && IpAddressScanner.isValid(ip_address, true);
+  }
+
+  /**
+   * Asserts that IP address is valid. If it is invalid, then an exception will be thrown.
+   *
+   * @param ip_address    IP address to be asserted
+   * @param ipv4_allowed  true to accept IPv4 and IPv6 addresses, false to accept only IPv6 addresses
+   * @param variable_name name of variable
+   * @return valid IP address
+   * @throws IllegalArgumentException thrown if the IP address is invalid in any way
+   */
+  @Nonnull
+  private static String innerAssertValidIpAddress(
+    @Nullable String ip_address,
+    boolean ipv4_allowed,
+    @Nullable String variable_name
+  ) throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.IP_ADDRESS)) return ip_address;
+
+    // Exit if valid
+    if(ip_address != null && IpAddressScanner.isValid(ip_address, ipv4_allowed)) return ip_address;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failIpAddress(ip_address, ipv4_allowed, variable_name);
+  }
+
+  /**
+   * Asserts that "host:port" is valid and parses it. If it is invalid, then an exception will be thrown.
+   * Host is a hostname, an IPv4 address or an IPv6 address in brackets such as "[2001:db8::1]:443". Port must be within
+   * 1-65535 range. Both parts are validated in a single pass without creating substrings.
+   *
+   * @param host_and_port host and port to be asserted
+   * @return parsed host and port
+   * @throws IllegalArgumentException thrown if the host and port is invalid in any way
+   */
+  @Nonnull
+  public static HostAndPort assertValidHostAndPort(@Nullable CharSequence host_and_port)
+  throws IllegalArgumentException{
+    return innerAssertValidHostAndPort(host_and_port, null);
+  }
+
+  /**
+   * Asserts that "host:port" is valid and parses it. If it is invalid, then an exception will be thrown.
+   * Host is a hostname, an IPv4 address or an IPv6 address in brackets such as "[2001:db8::1]:443". Port must be within
+   * 1-65535 range. Both parts are validated in a single pass without creating substrings.
+   *
+   * @param host_and_port host and port to be asserted
+   * @param variable_name name of variable
+   * @return parsed host and port
+   * @throws IllegalArgumentException thrown if the host and port is invalid in any way
+   */
+  @Nonnull
+  public static HostAndPort assertValidHostAndPort(
+    @Nullable CharSequence host_and_port,
+    @Nonnull String variable_name
+  ) throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertValidHostAndPort(host_and_port, variable_name);
+  }
+
+  /**
+   * Checks if "host:port" is valid.
+   * Host is a hostname, an IPv4 address or an IPv6 address in brackets such as "[2001:db8::1]:443". Port must be within
+   * 1-65535 range.
+   *
+   * @param host_and_port host and port to be checked
+   * @return true if valid, false if invalid or null
+   */
+  public static boolean isValidHostAndPort(@Nullable CharSequence host_and_port){
+    return host_and_port != null && HostAndPort.parse(host_and_port) != null;
+  }
+
+  /**
+   * Asserts that "host:port" is valid and parses it. If it is invalid, then an exception will be thrown.
+   *
+   * @param host_and_port host and port to be asserted
+   * @param variable_name name of variable
+   * @return parsed host and port
+   * @throws IllegalArgumentException thrown if the host and port is invalid in any way
+   */
+  @Nonnull
+  private static HostAndPort innerAssertValidHostAndPort(
+    @Nullable CharSequence host_and_port,
+    @Nullable String variable_name
+  ) throws IllegalArgumentException{
+
+    // Count the check, host and port checks cannot be disabled
+    CheckGuards.enter(CheckGuards.HOST_AND_PORT);
+
+    // Exit if valid
+    HostAndPort parsed = host_and_port == null ? null : HostAndPort.parse(host_and_port);
+    if(parsed != null) return parsed;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failScan(CheckKind.HOST_AND_PORT, host_and_port, variable_name);
+  }
+
+  /**
+   * Asserts that email address is valid. If it is invalid, then an exception will be thrown.
+   *
+   * @param email_address email address to be asserted
+   * @return valid email address
+   * @throws IllegalArgumentException thrown if the email address is invalid in any way
+   */
+  @Nonnull
+  public static String assertValidEmailAddress(@Nullable String email_address) throws IllegalArgumentException{
+    return innerAssertValidEmailAddress(email_address, null);
+  }
+
+  /**
+   * Asserts that email address is valid. If it is invalid, then an exception will be thrown.
+   *
+   * @param email_address email address to be asserted
+   * @param variable_name name of variable
+   * @return valid email address
+   * @throws IllegalArgumentException thrown if the email address is invalid in any way
+   */
+  @Nonnull
+  public static String assertValidEmailAddress(@Nullable String email_address, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertValidEmailAddress(email_address, variable_name);
+  }
+
+  /**
+   * Checks if email address is valid
+   *
+   * @param email_address email address to be checked
+   * @return true if valid, false if invalid or null
+   */
+  public static boolean isValidEmailAddress(@Nullable String email_address){
+    if(email_address == null || !ScanBudget.allows(0, email_address.length())) return false;
+
+    // Check cache first if it's enabled
+    ValidationCache cache = email_address_cache;
+    if(cache == null) return EmailAddressScanner.isValid(email_address);
+    if(cache.contains(email_address)) return true;
+    if(!EmailAddressScanner.isValid(email_address)) return false;
+    cache.add(email_address);
+    return true;
+  }
+
+  /**
+   * Asserts that email address is valid. If it is invalid, then an exception will be thrown.
+   *
+   * @param email_address email address to be asserted
+   * @param variable_name name of variable
+   * @return valid email address
+   * @throws IllegalArgumentException thrown if the email address is invalid in any way
+   */
+  @Nonnull
+  private static String innerAssertValidEmailAddress(@Nullable String email_address, @Nullable String variable_name)
+  throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.EMAIL_ADDRESS)) return email_address;
+
+    // Exit if valid
+    if(email_address != null && isValidEmailAddress(email_address)) return email_address;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failScan(CheckKind.EMAIL_ADDRESS, email_address, variable_name);
+  }
+
+  /**
+   * Asserts that email address is valid without converting it to a string. If it is invalid, then an exception will be
+   * thrown.
+   *
+   * @param <T>           type of character sequence
+   * @param email_address email address to be asserted
+   * @return valid email address
+   * @throws IllegalArgumentException thrown if the email address is invalid in any way
+   */
+  @Nonnull
+  public static <T extends CharSequence> T assertValidEmailAddress(@Nullable T email_address)
+  throws IllegalArgumentException{
+    return innerAssertValidEmailAddress(email_address, null);
+  }
+
+  /**
+   * Asserts that email address is valid without converting it to a string. If it is invalid, then an exception will be
+   * thrown.
+   *
+   * @param <T>           type of character sequence
+   * @param email_address email address to be asserted
+   * @param variable_name name of variable
+   * @return valid email address
+   * @throws IllegalArgumentException thrown if the email address is invalid in any way
+   */
+  @Nonnull
+  public static <T extends CharSequence> T assertValidEmailAddress(
+    @Nullable T email_address,
+    @Nonnull String variable_name
+  ) throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertValidEmailAddress(email_address, variable_name);
+  }
+
+  /**
+   * Checks if email address is valid without converting it to a string
+   *
+   * @param email_address email address to be checked
+   * @return true if valid, false if invalid or null
+   */
+  public static boolean isValidEmailAddress(@Nullable CharSequence email_address){
+    return email_address != null && EmailAddressScanner.isValid(email_address);
+  }
+
+  /**
+   * Asserts that email address is valid without converting it to a string. If it is invalid, then an exception will be
+   * thrown.
+   *
+   * @param <T>           type of character sequence
+   * @param email_address email address to be asserted
+   * @param variable_name name of variable
+   * @return valid email address
+   * @throws IllegalArgumentException thrown if the email address is invalid in any way
+   */
+  @Nonnull
+  private static <T extends CharSequence> T innerAssertValidEmailAddress(
+    @Nullable T email_address,
+    @Nullable String variable_name
+  ) throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.EMAIL_ADDRESS)) return email_address;
+
+    // Exit if valid
+    if(email_address != null && EmailAddressScanner.isValid(email_address)) return email_address;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failScan(CheckKind.EMAIL_ADDRESS, email_address, variable_name);
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded email address in the range of array is valid without converting it to a string.
+   * If it is invalid, then an exception will be thrown.
+   *
+   * @param email_address array that contains email address to be asserted
+   * @param offset        index of first byte of email address
+   * @param length        number of bytes of email address
+   * @return array that contains valid email address
+   * @throws IllegalArgumentException  thrown if the email address is invalid in any way
+   * @throws IndexOutOfBoundsException thrown if the range is out of bounds of array
+   */
+  @Nonnull
+  public static byte[] assertValidEmailAddress(@Nullable byte[] email_address, int offset, int length)
+  throws IllegalArgumentException, IndexOutOfBoundsException{
+    return innerAssertValidEmailAddress(email_address, offset, length, null);
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded email address in the range of array is valid without converting it to a string.
+   * If it is invalid, then an exception will be thrown.
+   *
+   * @param email_address array that contains email address to be asserted
+   * @param offset        index of first byte of email address
+   * @param length        number of bytes of email address
+   * @param variable_name name of variable
+   * @return array that contains valid email address
+   * @throws IllegalArgumentException  thrown if the email address is invalid in any way
+   * @throws IndexOutOfBoundsException thrown if the range is out of bounds of array
+   */
+  @Nonnull
+  public static byte[] assertValidEmailAddress(
+    @Nullable byte[] email_address,
+    int offset,
+    int length,
+    @Nonnull String variable_name
+  ) throws IllegalArgumentException, IndexOutOfBoundsException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertValidEmailAddress(email_address, offset, length, variable_name);
+  }
+
+  /**
+   * Checks if ASCII or UTF-8 encoded email address in the range of array is valid without converting it to a string
+   *
+   * @param email_address array that contains email address to be checked
+   * @param offset        index of first byte of email address
+   * @param length        number of bytes of email address
+   * @return true if valid, false if invalid or null
+   * @throws IndexOutOfBoundsException thrown if the range is out of bounds of array
+   */
+  public static boolean isValidEmailAddress(@Nullable byte[] email_address, int offset, int length)
+  throws IndexOutOfBoundsException{
+    if(email_address == null) return false;
+    checkRange(email_address.length, offset, length);
+    return EmailAddressScanner.isValid(new AsciiSequence(ByteBuffer.wrap(email_address)), offset, offset + length);
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded email address in the range of array is valid. If it is invalid, then an
+   * exception will be thrown.
+   *
+   * @param email_address array that contains email address to be asserted
+   * @param offset        index of first byte of email address
+   * @param length        number of bytes of email address
+   * @param variable_name name of variable
+   * @return array that contains valid email address
+   * @throws IllegalArgumentException  thrown if the email address is invalid in any way
+   * @throws IndexOutOfBoundsException thrown if the range is out of bounds of array
+   */
+  @Nonnull
+  private static byte[] innerAssertValidEmailAddress(
+    @Nullable byte[] email_address,
+    int offset,
+    int length,
+    @Nullable String variable_name
+  ) throws IllegalArgumentException, IndexOutOfBoundsException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.EMAIL_ADDRESS)) return email_address;
+
+    // Exit if valid
+    if(isValidEmailAddress(email_address, offset, length)) return email_address;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failScan(CheckKind.EMAIL_ADDRESS, email_address, length, variable_name);
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded email address between position and limit of the buffer is valid without
+   * converting it to a string. Position of buffer is not moved. If it is invalid, then an exception will be thrown.
+   *
+   * @param email_address buffer that contains email address to be asserted
+   * @return buffer that contains valid email address
+   * @throws IllegalArgumentException thrown if the email address is invalid in any way
+   */
+  @Nonnull
+  public static ByteBuffer assertValidEmailAddressBytes(@Nullable ByteBuffer email_address)
+  throws IllegalArgumentException{
+    return innerAssertValidEmailAddressBytes(email_address, null);
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded email address between position and limit of the buffer is valid without
+   * converting it to a string. Position of buffer is not moved. If it is invalid, then an exception will be thrown.
+   *
+   * @param email_address buffer that contains email address to be asserted
+   * @param variable_name name of variable
+   * @return buffer that contains valid email address
+   * @throws IllegalArgumentException thrown if the email address is invalid in any way
+   */
+  @Nonnull
+  public static ByteBuffer assertValidEmailAddressBytes(
+    @Nullable ByteBuffer email_address,
+    @Nonnull String variable_name
+  ) throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertValidEmailAddressBytes(email_address, variable_name);
+  }
+
+  /**
+   * Checks if ASCII or UTF-8 encoded email address between position and limit of the buffer is valid without converting
+   * it to a string. Position of buffer is not moved.
+   *
+   * @param email_address buffer that contains email address to be checked
+   * @return true if valid, false if invalid or null
+   */
+  public static boolean isValidEmailAddressBytes(@Nullable ByteBuffer email_address){
+    if(email_address == null) return false;
+    return EmailAddressScanner.isValid(
+      new AsciiSequence(email_address),
+      email_address.position(),
+      email_address.limit()
+    );
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded email address between position and limit of the buffer is valid. If it is
+   * invalid, then an exception will be thrown.
+   *
+   * @param email_address buffer that contains email address to be asserted
+   * @param variable_name name of variable
+   * @return buffer that contains valid email address
+   * @throws IllegalArgumentException thrown if the email address is invalid in any way
+   */
+  @Nonnull
+  private static ByteBuffer innerAssertValidEmailAddressBytes(
+    @Nullable ByteBuffer email_address,
+    @Nullable String variable_name
+  ) throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.EMAIL_ADDRESS)) return email_address;
+
+    // Exit if valid
+    if(email_address != null && isValidEmailAddressBytes(email_address)) return email_address;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failScan(CheckKind.EMAIL_ADDRESS, email_address, variable_name);
+  }
+
+  /**
+   * Validates every line of the file as a hostname or IP address. Lines end with '\n' or "\r\n" and are validated
+   * as ASCII bytes without creating a string for each line, so empty lines, lines longer than 254 bytes and lines
+   * with bytes outside of ASCII are invalid.
+   *
+   * @param path path to newline-delimited file
+   * @return report of invalid lines
+   * @throws IllegalArgumentException thrown if path is null
+   * @throws IOException              thrown if the file cannot be read
+   */
+  @Nonnull
+  public static ScanReport scanHostnames(@Nonnull Path path) throws IllegalArgumentException, IOException{
+    innerAssertNonnull(path, "path", 0);
+    try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+      Object event = ValidationEvents.beginCheck();
+      ScanReport report = LineScanner.scan(channel, HostnameScanner::isValid, max_reported_indices);
+      ValidationEvents.endCheck(event, CheckKind.HOSTNAME, null);
+      return report;
+    }
+  }
+
+  /**
+   * Validates every line read from the channel as a hostname or IP address until the end of stream. Lines end with
+   * '\n' or "\r\n" and are validated as ASCII bytes without creating a string for each line. Lines longer than 254
+   * bytes are invalid and skipped without being buffered. The channel is not closed.
+   *
+   * @param channel channel of newline-delimited input, must be in blocking mode
+   * @return report of invalid lines
+   * @throws IllegalArgumentException thrown if channel is null
+   * @throws IOException              thrown if the channel cannot be read
+   */
+  @Nonnull
+  public static ScanReport scanHostnames(@Nonnull ReadableByteChannel channel)
+  throws IllegalArgumentException, IOException{
+    innerAssertNonnull(channel, "channel", 0);
+    Object event = ValidationEvents.beginCheck();
+    ScanReport report = LineScanner.scan(channel, HostnameScanner::isValid, max_reported_indices);
+    ValidationEvents.endCheck(event, CheckKind.HOSTNAME, null);
+    return report;
+  }
+
+  /**
+   * Validates every line between position and limit of the buffer as a hostname or IP address. Buffer may be direct
+   * or memory-mapped, its position is not moved. Lines end with '\n' or "\r\n" and are validated as ASCII bytes
+   * without creating a string for each line, lines longer than 254 bytes are invalid. Offsets in the report are
+   * relative to the position.
+   *
+   * @param buffer buffer of newline-delimited input
+   * @return report of invalid lines
+   * @throws IllegalArgumentException thrown if buffer is null
+   */
+  @Nonnull
+  public static ScanReport scanHostnames(@Nonnull ByteBuffer buffer) throws IllegalArgumentException{
+    innerAssertNonnull(buffer, "buffer", 0);
+    Object event = ValidationEvents.beginCheck();
+    ScanReport report = LineScanner.scan(buffer, HostnameScanner::isValid, max_reported_indices);
+    ValidationEvents.endCheck(event, CheckKind.HOSTNAME, null);
+    return report;
+  }
+
+  /**
+   * Validates every line of the file as an email address. Lines end with '\n' or "\r\n" and are validated as
+   * ASCII bytes without creating a string for each line, so empty lines, lines longer than 254 bytes and lines with
+   * bytes outside of ASCII are invalid.
+   *
+   * @param path path to newline-delimited file
+   * @return report of invalid lines
+   * @throws IllegalArgumentException thrown if path is null
+   * @throws IOException              thrown if the file cannot be read
+   */
+  @Nonnull
+  public static ScanReport scanEmailAddresses(@Nonnull Path path) throws IllegalArgumentException, IOException{
+    innerAssertNonnull(path, "path", 0);
+    try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+      Object event = ValidationEvents.beginCheck();
+      ScanReport report = LineScanner.scan(channel, EmailAddressScanner::isValid, max_reported_indices);
+      ValidationEvents.endCheck(event, CheckKind.EMAIL_ADDRESS, null);
+      return report;
+    }
+  }
+
+  /**
+   * Validates every line read from the channel as an email address until the end of stream. Lines end with '\n' or
+   * "\r\n" and are validated as ASCII bytes without creating a string for each line. Lines longer than 254 bytes are
+   * invalid and skipped without being buffered. The channel is not closed.
+   *
+   * @param channel channel of newline-delimited input, must be in blocking mode
+   * @return report of invalid lines
+   * @throws IllegalArgumentException thrown if channel is null
+   * @throws IOException              thrown if the channel cannot be read
+   */
+  @Nonnull
+  public static ScanReport scanEmailAddresses(@Nonnull ReadableByteChannel channel)
+  throws IllegalArgumentException, IOException{
+    innerAssertNonnull(channel, "channel", 0);
+    Object event = ValidationEvents.beginCheck();
+    ScanReport report = LineScanner.scan(channel, EmailAddressScanner::isValid, max_reported_indices);
+    ValidationEvents.endCheck(event, CheckKind.EMAIL_ADDRESS, null);
+    return report;
+  }
+
+  /**
+   * Validates every line between position and limit of the buffer as an email address. Buffer may be direct or
+   * memory-mapped, its position is not moved. Lines end with '\n' or "\r\n" and are validated as ASCII bytes
+   * without creating a string for each line, lines longer than 254 bytes are invalid. Offsets in the report are
+   * relative to the position.
+   *
+   * @param buffer buffer of newline-delimited input
+   * @return report of invalid lines
+   * @throws IllegalArgumentException thrown if buffer is null
+   */
+  @Nonnull
+  public static ScanReport scanEmailAddresses(@Nonnull ByteBuffer buffer) throws IllegalArgumentException{
+    innerAssertNonnull(buffer, "buffer", 0);
+    Object event = ValidationEvents.beginCheck();
+    ScanReport report = LineScanner.scan(buffer, EmailAddressScanner::isValid, max_reported_indices);
+    ValidationEvents.endCheck(event, CheckKind.EMAIL_ADDRESS, null);
+    return report;
+  }
+
+  /**
+   * Asserts that object is not null. If it is null, then an exception will be thrown.
+   *
+   * @param <T>    return value type
+   * @param object object to be asserted
+   * @return non-null object
+   * @throws IllegalArgumentException thrown if the object is invalid in any way
+   */
+  @Nonnull
+  public static <T> T assertNonnull(@Nullable T object) throws IllegalArgumentException{
+    if(!CheckGuards.enter(CheckGuards.NONNULL)) return object;
+    return innerAssertNonnull(object, null, 0);
+  }
+
+  /**
+   * Asserts that object is not null. If it is null, then an exception will be thrown.
+   *
+   * @param <T>           return value type
+   * @param object        object to be asserted
+   * @param variable_name name of variable
+   * @return non-null object
+   * @throws IllegalArgumentException thrown if the object is invalid in any way
+   */
+  @Nonnull
+  public static <T> T assertNonnull(@Nullable T object, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    if(!CheckGuards.enter(CheckGuards.NONNULL)) return object;
+    return innerAssertNonnull(object, variable_name, 0);
+  }
+
+  /**
+   * Asserts that object is not null. If it is null, then an exception will be thrown. Unlike
+   * {@link #assertNonnull(Object, String)} it is neither counted nor switched off, so it is used for arguments of this
+   * library as well.
+   *
+   * @param <T>           object type
+   * @param object        object to be asserted
+   * @param variable_name name of variable
+   * @param level         level of calls. This is used to adjust the stacktrace.
+   * @return nonnull object
+   * @throws IllegalArgumentException thrown if the object is invalid in any way
+   */
+  @Nonnull
+  static <T> T innerAssertNonnull(@Nullable T object, @Nullable String variable_name, int level)
+  throws IllegalArgumentException{
+
+    // Exit if not null
+    if(object != null) return object;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw createException(CheckKind.NONNULL, variable_name, OBJECT_NULL_MESSAGE, null, level);
+  }
+
+  /**
+   * Asserts that argument of a method of this library is valid. Like {@link #innerAssertNonnull(Object, String, int)}
+   * it is neither counted nor switched off. Stacktrace starts at the method that got the argument.
+   *
+   * @param valid         true if argument is valid
+   * @param variable_name name of argument
+   * @param kind          kind of the check that argument failed
+   * @throws IllegalArgumentException thrown if the argument is invalid
+   */
+  private static void innerAssertArgument(boolean valid, @Nonnull String variable_name, @Nonnull CheckKind kind)
+  throws IllegalArgumentException{
+
+    // Exit if valid
+    if(valid) return;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw createException(kind, variable_name, kind.message, null, -1);
+  }
+
+  /**
+   * Asserts that number is a greater than compared number. If it is not a greater an exception will be thrown.
+   *
+   * @param number  number to be asserted
+   * @param compare number being compared
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static int assertGreaterThan(int number, long compare) throws IllegalArgumentException{
+    return (int) innerAssertGreaterThan(number, compare, null);
+  }
+
+  /**
+   * Asserts that number is a greater than compared number. If it is not a greater an exception will be thrown.
+   *
+   * @param number        number to be asserted
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static int assertGreaterThan(int number, long compare, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return (int) innerAssertGreaterThan(number, compare, variable_name);
+  }
+
+  /**
+   * Asserts that number is a greater than compared number. If it is not a greater an exception will be thrown.
+   *
+   * @param number  number to be asserted
+   * @param compare number being compared
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static long assertGreaterThan(long number, long compare) throws IllegalArgumentException{
+    return innerAssertGreaterThan(number, compare, null);
+  }
+
+  /**
+   * Asserts that number is a greater than compared number. If it is not a greater an exception will be thrown.
+   *
+   * @param number        number to be asserted
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static long assertGreaterThan(long number, long compare, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertGreaterThan(number, compare, variable_name);
   }
 
   /**
    * Asserts that number is a greater than compared number. If it is not a greater an exception will be thrown.
    *
-   * @param number        number to be asserted
-   * @param compare       number being compared
+   * @param number        number to be asserted
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  private static long innerAssertGreaterThan(long number, long compare, @Nullable String variable_name)
+  throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.GREATER_THAN)) return number;
+
+    // Exit if valid
+    if(number > compare) return number;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw fail(CheckKind.GREATER_THAN, variable_name);
+  }
+
+  /**
+   * Asserts that number is a lesser than compared number. If it is not a lesser an exception will be thrown.
+   *
+   * @param number  number to be asserted
+   * @param compare number being compared
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static int assertLesserThan(int number, long compare) throws IllegalArgumentException{
+    return (int) innerAssertLesserThan(number, compare, null);
+  }
+
+  /**
+   * Asserts that number is a lesser than compared number. If it is not a lesser an exception will be thrown.
+   *
+   * @param number        number to be asserted
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static int assertLesserThan(int number, long compare, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return (int) innerAssertLesserThan(number, compare, variable_name);
+  }
+
+  /**
+   * Asserts that number is a lesser than compared number. If it is not a lesser an exception will be thrown.
+   *
+   * @param number  number to be asserted
+   * @param compare number being compared
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static long assertLesserThan(long number, long compare) throws IllegalArgumentException{
+    return innerAssertLesserThan(number, compare, null);
+  }
+
+  /**
+   * Asserts that number is a lesser than compared number. If it is not a lesser an exception will be thrown.
+   *
+   * @param number        number to be asserted
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static long assertLesserThan(long number, long compare, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertLesserThan(number, compare, variable_name);
+  }
+
+
+  /**
+   * Asserts that number is a greater than or equals to compared number. If it is not greater or equal, an exception will be thrown.
+   *
+   * @param number  number to be asserted
+   * @param compare number being compared
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static int assertGreaterThanOrEqual(int number, long compare) throws IllegalArgumentException{
+    return (int) innerAssertGreaterThanOrEqual(number, compare, null);
+  }
+
+  /**
+   * Asserts that number is a greater than or equals to compared number. If it is not greater or equal, an exception will be thrown.
+   *
+   * @param number        number to be asserted
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static int assertGreaterThanOrEqual(int number, long compare, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return (int) innerAssertGreaterThanOrEqual(number, compare, variable_name);
+  }
+
+  /**
+   * Asserts that number is a greater than or equals to compared number. If it is not greater or equal, an exception will be thrown.
+   *
+   * @param number  number to be asserted
+   * @param compare number being compared
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static long assertGreaterThanOrEqual(long number, long compare) throws IllegalArgumentException{
+    return innerAssertGreaterThanOrEqual(number, compare, null);
+  }
+
+  /**
+   * Asserts that number is a greater than or equals to compared number. If it is not greater or equal, an exception will be thrown.
+   *
+   * @param number        number to be asserted
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static long assertGreaterThanOrEqual(long number, long compare, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertGreaterThanOrEqual(number, compare, variable_name);
+  }
+
+  /**
+   * Asserts that number is a greater than or equals to compared number. If it is not greater or equal, an exception will be thrown.
+   *
+   * @param number        number to be asserted
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  private static long innerAssertGreaterThanOrEqual(long number, long compare, @Nullable String variable_name)
+  throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.GREATER_THAN)) return number;
+
+    // Exit if valid
+    if(number > compare) return number;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw fail(CheckKind.GREATER_THAN, variable_name);
+  }
+
+  /**
+   * Asserts that number is a lesser than compared number. If it is not a lesser an exception will be thrown.
+   *
+   * @param number        number to be asserted
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return valid number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  private static long innerAssertLesserThan(long number, long compare, @Nullable String variable_name)
+  throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.LESSER_THAN)) return number;
+
+    // Exit if valid
+    if(number < compare) return number;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw fail(CheckKind.LESSER_THAN, variable_name);
+  }
+
+  /**
+   * Asserts that number is a natural number. If it is not a natural number, then an exception will be thrown.
+   *
+   * @param number number to be asserted
+   * @return valid nonnegative number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static int assertNaturalNumber(int number) throws IllegalArgumentException{
+    return (int) innerAssertNaturalNumber(number, null);
+  }
+
+  /**
+   * Asserts that number is a natural number. If it is not a natural number, then an exception will be thrown.
+   *
+   * @param number        number to be asserted
+   * @param variable_name name of variable
+   * @return valid nonnegative number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static int assertNaturalNumber(int number, @Nonnull String variable_name) throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return (int) innerAssertNaturalNumber(number, variable_name);
+  }
+
+  /**
+   * Asserts that number is a natural number. If it is not a natural number, then an exception will be thrown.
+   *
+   * @param number number to be asserted
+   * @return valid nonnegative number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static long assertNaturalNumber(long number) throws IllegalArgumentException{
+    return innerAssertNaturalNumber(number, null);
+  }
+
+  /**
+   * Asserts that number is a natural number. If it is not a natural number, then an exception will be thrown.
+   *
+   * @param number        number to be asserted
+   * @param variable_name name of variable
+   * @return valid nonnegative number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static long assertNaturalNumber(long number, @Nonnull String variable_name) throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertNaturalNumber(number, variable_name);
+  }
+
+  /**
+   * Checks if number is a natural number
+   *
+   * @param number number to be checked
+   * @return true if natural number, false otherwise
+   */
+  public static boolean isNaturalNumber(long number){
+    return number > 0;
+  }
+
+  /**
+   * Asserts that number is a natural number. If it is not a natural number, then an exception will be thrown.
+   *
+   * @param number        number to be asserted
+   * @param variable_name name of variable
+   * @return valid natural number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  private static long innerAssertNaturalNumber(long number, @Nullable String variable_name)
+  throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.NATURAL_NUMBER)) return number;
+
+    // Exit if valid
+    if(isNaturalNumber(number)) return number;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw fail(CheckKind.NATURAL_NUMBER, variable_name);
+  }
+
+  /**
+   * Asserts that number is not a negative number. If it is a negative number, then an exception will be thrown.
+   *
+   * @param number number to be asserted
+   * @return valid nonnegative number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static long assertNonnegative(long number) throws IllegalArgumentException{
+    return innerAssertNonnegative(number, null);
+  }
+
+  /**
+   * Asserts that number is not a negative number. If it is a negative number, then an exception will be thrown.
+   *
+   * @param number        number to be asserted
+   * @param variable_name name of variable
+   * @return valid nonnegative number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  public static long assertNonnegative(long number, @Nonnull String variable_name) throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertNonnegative(number, variable_name);
+  }
+
+  /**
+   * Checks if number is not a negative number
+   *
+   * @param number number to be checked
+   * @return true if nonnegative, false otherwise
+   */
+  public static boolean isNonnegative(long number){
+    return number >= 0;
+  }
+
+  /**
+   * Asserts that number is not a negative number. If it is a negative number, then an exception will be thrown.
+   *
+   * @param number        number to be asserted
+   * @param variable_name name of variable
+   * @return valid nonnegative number
+   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   */
+  private static long innerAssertNonnegative(long number, @Nullable String variable_name)
+  throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.NONNEGATIVE)) return number;
+
+    // Exit if valid
+    if(isNonnegative(number)) return number;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw fail(CheckKind.NONNEGATIVE, variable_name);
+  }
+
+  /**
+   * Asserts that string is not an empty string. If it is an empty string, then an exception will be thrown.
+   * White space is considered empty space so if string consists of four spaces with nothing else, then it is considered to be empty.
+   *
+   * @param string string to be asserted
+   * @return valid nonempty string
+   * @throws IllegalArgumentException thrown if the string is invalid in any way
+   */
+  public static String assertNonemptyString(@Nullable String string) throws IllegalArgumentException{
+    return innerAssertNonemptyString(string, null);
+  }
+
+  /**
+   * Asserts that string is not an empty string. If it is an empty string, then an exception will be thrown.
+   * White space is considered empty space so if string consists of four spaces with nothing else, then it is considered to be empty.
+   *
+   * @param string        string to be asserted
+   * @param variable_name name of variable
+   * @return valid nonempty string
+   * @throws IllegalArgumentException thrown if the string is invalid in any way
+   */
+  public static String assertNonemptyString(@Nullable String string, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertNonemptyString(string, variable_name);
+  }
+
+  /**
+   * Checks if string is not an empty string.
+   * White space is considered empty space so if string consists of four spaces with nothing else, then it is considered to be empty.
+   *
+   * @param string string to be checked
+   * @return true if nonempty, false if empty or null
+   */
+  public static boolean isNonemptyString(@Nullable String string){
+    if(string == null) return false;
+
+    // Same as String.trim() but without creating a new string
+    for(int i = 0; i < string.length(); i++) if(string.charAt(i) > ' ') return true;
+    return false;
+  }
+
+  /**
+   * Asserts that string is not an empty string. If it is an empty string, then an exception will be thrown.
+   * White space is considered empty space so if string consists of four spaces with nothing else, then it is considered to be empty.
+   *
+   * @param string        string to be asserted
+   * @param variable_name name of variable
+   * @return valid nonempty string
+   * @throws IllegalArgumentException thrown if the string is invalid in any way
+   */
+  private static String innerAssertNonemptyString(@Nullable String string, @Nullable String variable_name)
+  throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.NONEMPTY_STRING)) return string;
+
+    // Exit if valid
+    if(string != null && isNonemptyString(string)) return string;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw fail(CheckKind.NONEMPTY_STRING, string, variable_name);
+  }
+
+  /**
+   * Asserts that character sequence is not an empty string without converting it to a string. If it is empty, then an
+   * exception will be thrown. White space is considered empty space.
+   *
+   * @param <T>    type of character sequence
+   * @param string string to be asserted
+   * @return valid nonempty string
+   * @throws IllegalArgumentException thrown if the string is invalid in any way
+   */
+  @Nonnull
+  public static <T extends CharSequence> T assertNonemptyString(@Nullable T string) throws IllegalArgumentException{
+    return innerAssertNonemptyString(string, null);
+  }
+
+  /**
+   * Asserts that character sequence is not an empty string without converting it to a string. If it is empty, then an
+   * exception will be thrown. White space is considered empty space.
+   *
+   * @param <T>           type of character sequence
+   * @param string        string to be asserted
+   * @param variable_name name of variable
+   * @return valid nonempty string
+   * @throws IllegalArgumentException thrown if the string is invalid in any way
+   */
+  @Nonnull
+  public static <T extends CharSequence> T assertNonemptyString(@Nullable T string, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertNonemptyString(string, variable_name);
+  }
+
+  /**
+   * Checks if character sequence is not an empty string without converting it to a string. White space is considered
+   * empty space.
+   *
+   * @param string string to be checked
+   * @return true if nonempty, false if empty or null
+   */
+  public static boolean isNonemptyString(@Nullable CharSequence string){
+    if(string == null) return false;
+    for(int i = 0; i < string.length(); i++) if(string.charAt(i) > ' ') return true;
+    return false;
+  }
+
+  /**
+   * Asserts that character sequence is not an empty string without converting it to a string. If it is empty, then an
+   * exception will be thrown. White space is considered empty space.
+   *
+   * @param <T>           type of character sequence
+   * @param string        string to be asserted
+   * @param variable_name name of variable
+   * @return valid nonempty string
+   * @throws IllegalArgumentException thrown if the string is invalid in any way
+   */
+  @Nonnull
+  private static <T extends CharSequence> T innerAssertNonemptyString(
+    @Nullable T string,
+    @Nullable String variable_name
+  ) throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.NONEMPTY_STRING)) return string;
+
+    // Exit if valid
+    if(string != null && isNonemptyString(string)) return string;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw fail(CheckKind.NONEMPTY_STRING, string, variable_name);
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded string in the range of array is not empty without converting it to a string. If
+   * it is empty, then an exception will be thrown. Any byte up to ' ' is considered empty space.
+   *
+   * @param string array that contains string to be asserted
+   * @param offset index of first byte of string
+   * @param length number of bytes of string
+   * @return array that contains valid nonempty string
+   * @throws IllegalArgumentException  thrown if the string is invalid in any way
+   * @throws IndexOutOfBoundsException thrown if the range is out of bounds of array
+   */
+  @Nonnull
+  public static byte[] assertNonemptyString(@Nullable byte[] string, int offset, int length)
+  throws IllegalArgumentException, IndexOutOfBoundsException{
+    return innerAssertNonemptyString(string, offset, length, null);
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded string in the range of array is not empty without converting it to a string. If
+   * it is empty, then an exception will be thrown. Any byte up to ' ' is considered empty space.
+   *
+   * @param string        array that contains string to be asserted
+   * @param offset        index of first byte of string
+   * @param length        number of bytes of string
+   * @param variable_name name of variable
+   * @return array that contains valid nonempty string
+   * @throws IllegalArgumentException  thrown if the string is invalid in any way
+   * @throws IndexOutOfBoundsException thrown if the range is out of bounds of array
+   */
+  @Nonnull
+  public static byte[] assertNonemptyString(
+    @Nullable byte[] string,
+    int offset,
+    int length,
+    @Nonnull String variable_name
+  ) throws IllegalArgumentException, IndexOutOfBoundsException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertNonemptyString(string, offset, length, variable_name);
+  }
+
+  /**
+   * Checks if ASCII or UTF-8 encoded string in the range of array is not empty without converting it to a string
+   *
+   * @param string array that contains string to be checked
+   * @param offset index of first byte of string
+   * @param length number of bytes of string
+   * @return true if nonempty, false if empty or null
+   * @throws IndexOutOfBoundsException thrown if the range is out of bounds of array
+   */
+  public static boolean isNonemptyString(@Nullable byte[] string, int offset, int length)
+  throws IndexOutOfBoundsException{
+    if(string == null) return false;
+    checkRange(string.length, offset, length);
+    for(int i = offset; i < offset + length; i++) if((string[i] & 0xFF) > ' ') return true;
+    return false;
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded string in the range of array is not empty. If it is empty, then an exception
+   * will be thrown.
+   *
+   * @param string        array that contains string to be asserted
+   * @param offset        index of first byte of string
+   * @param length        number of bytes of string
+   * @param variable_name name of variable
+   * @return array that contains valid nonempty string
+   * @throws IllegalArgumentException  thrown if the string is invalid in any way
+   * @throws IndexOutOfBoundsException thrown if the range is out of bounds of array
+   */
+  @Nonnull
+  private static byte[] innerAssertNonemptyString(
+    @Nullable byte[] string,
+    int offset,
+    int length,
+    @Nullable String variable_name
+  ) throws IllegalArgumentException, IndexOutOfBoundsException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.NONEMPTY_STRING)) return string;
+
+    // Exit if valid
+    if(string != null && isNonemptyString(string, offset, length)) return string;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw fail(CheckKind.NONEMPTY_STRING, string, variable_name);
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded string between position and limit of the buffer is not empty without converting
+   * it to a string. Position of buffer is not moved. If it is empty, then an exception will be thrown. Any byte up to
+   * ' ' is considered empty space.
+   *
+   * @param string buffer that contains string to be asserted
+   * @return buffer that contains valid nonempty string
+   * @throws IllegalArgumentException thrown if the string is invalid in any way
+   */
+  @Nonnull
+  public static ByteBuffer assertNonemptyStringBytes(@Nullable ByteBuffer string) throws IllegalArgumentException{
+    return innerAssertNonemptyStringBytes(string, null);
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded string between position and limit of the buffer is not empty without converting
+   * it to a string. Position of buffer is not moved. If it is empty, then an exception will be thrown. Any byte up to
+   * ' ' is considered empty space.
+   *
+   * @param string        buffer that contains string to be asserted
+   * @param variable_name name of variable
+   * @return buffer that contains valid nonempty string
+   * @throws IllegalArgumentException thrown if the string is invalid in any way
+   */
+  @Nonnull
+  public static ByteBuffer assertNonemptyStringBytes(@Nullable ByteBuffer string, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertNonemptyStringBytes(string, variable_name);
+  }
+
+  /**
+   * Checks if ASCII or UTF-8 encoded string between position and limit of the buffer is not empty without converting it
+   * to a string. Position of buffer is not moved.
+   *
+   * @param string buffer that contains string to be checked
+   * @return true if nonempty, false if empty or null
+   */
+  public static boolean isNonemptyStringBytes(@Nullable ByteBuffer string){
+    if(string == null) return false;
+    for(int i = string.position(); i < string.limit(); i++) if((string.get(i) & 0xFF) > ' ') return true;
+    return false;
+  }
+
+  /**
+   * Asserts that ASCII or UTF-8 encoded string between position and limit of the buffer is not empty. If it is empty,
+   * then an exception will be thrown.
+   *
+   * @param string        buffer that contains string to be asserted
+   * @param variable_name name of variable
+   * @return buffer that contains valid nonempty string
+   * @throws IllegalArgumentException thrown if the string is invalid in any way
+   */
+  @Nonnull
+  private static ByteBuffer innerAssertNonemptyStringBytes(
+    @Nullable ByteBuffer string,
+    @Nullable String variable_name
+  ) throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.NONEMPTY_STRING)) return string;
+
+    // Exit if valid
+    if(string != null && isNonemptyStringBytes(string)) return string;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw fail(CheckKind.NONEMPTY_STRING, string, variable_name);
+  }
+
+  /**
+   * Asserts that collection is not empty. If it is empty, then an exception will be thrown.
+   *
+   * @param <T>        type of collection
+   * @param collection collection to be asserted
+   * @return valid nonempty collection
+   * @throws IllegalArgumentException thrown if the collection is invalid in any way
+   */
+  public static <T> Collection<T> assertNonempty(@Nullable Collection<T> collection) throws IllegalArgumentException{
+    return innerAssertNonempty(collection, null, 0);
+  }
+
+  /**
+   * Asserts that collection is not empty. If it is empty, then an exception will be thrown.
+   *
+   * @param <T>           type of collection
+   * @param collection    collection to be asserted
+   * @param variable_name name of variable
+   * @return valid nonempty collection
+   * @throws IllegalArgumentException thrown if the collection is invalid in any way
+   */
+  public static <T> Collection<T> assertNonempty(@Nullable Collection<T> collection, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertNonempty(collection, variable_name, 0);
+  }
+
+  /**
+   * Checks if collection is not empty
+   *
+   * @param collection collection to be checked
+   * @return true if nonempty, false if empty or null
+   */
+  public static boolean isNonempty(@Nullable Collection<?> collection){
+    return collection != null && !collection.isEmpty();
+  }
+
+  /**
+   * Asserts that collection is not empty. If it is empty, then an exception will be thrown.
+   *
+   * @param <T>           type of collection
+   * @param collection    collection to be asserted
    * @param variable_name name of variable
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @param level         level of calls. This is used to adjust the stacktrace.
+   * @return valid nonempty collection
+   * @throws IllegalArgumentException thrown if the collection is invalid in any way
    */
-  public static long assertGreaterThan(long number, long compare, @Nonnull String variable_name)
+  private static <T> Collection<T> innerAssertNonempty(
+    @Nullable Collection<T> collection,
+    @Nullable String variable_name,
+    int level
+  )
   throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
-    return innerAssertGreaterThan(number, compare, variable_name);
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.NONEMPTY)) return collection;
+
+    // Exit if not empty
+    if(collection != null && isNonempty(collection)) return collection;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw fail(CheckKind.NONEMPTY, collection, variable_name, level);
   }
 
   /**
-   * Asserts that number is a greater than compared number. If it is not a greater an exception will be thrown.
+   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
    *
-   * @param number        number to be asserted
-   * @param compare       number being compared
+   * @param <T>   type of array
+   * @param array array to be asserted
+   * @return valid nonempty array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static <T> T[] assertNonempty(@Nullable T[] array) throws IllegalArgumentException{
+    return innerAssertNonempty(array, null, 0);
+  }
+
+  /**
+   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
+   *
+   * @param <T>           type of array
+   * @param array         array to be asserted
    * @param variable_name name of variable
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @return valid nonempty array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  private static long innerAssertGreaterThan(long number, long compare, @Nullable String variable_name)
+  public static <T> T[] assertNonempty(@Nullable T[] array, @Nonnull String variable_name)
   throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertNonempty(array, variable_name, 0);
+  }
 
-    // Exit if not null
-    if(number > compare) return number;
+  /**
+   * Checks if array is not empty
+   *
+   * @param array array to be checked
+   * @return true if nonempty, false if empty or null
+   */
+  public static boolean isNonempty(@Nullable Object[] array){
+    return array != null && array.length != 0;
+  }
+
+  /**
+   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
+   *
+   * @param <T>           type of array
+   * @param array         array to be asserted
+   * @param variable_name name of variable
+   * @param level         level of calls. This is used to adjust the stacktrace.
+   * @return valid nonempty array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  private static <T> T[] innerAssertNonempty(@Nullable T[] array, @Nullable String variable_name, int level)
+  throws IllegalArgumentException{
 
-    // Otherwise go ahead and throw exception
-    String message = composeMessage(variable_name, GREATER_NUMBER_MESSAGE);
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.NONEMPTY)) return array;
 
-    // Create exception
-    IllegalArgumentException iae = new IllegalArgumentException(message);
+    // Exit if not empty
+    if(array != null && isNonempty(array)) return array;
 
-    // Update stacktrace and throw it
-    throw updateStackTrace(iae, 0);
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw fail(CheckKind.NONEMPTY, array, variable_name, level);
   }
 
   /**
-   * Asserts that number is a lesser than compared number. If it is not a lesser an exception will be thrown.
+   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
    *
-   * @param number  number to be asserted
-   * @param compare number being compared
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @param array array to be asserted
+   * @return valid nonempty array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static int assertLesserThan(int number, long compare) throws IllegalArgumentException{
-    return (int) innerAssertLesserThan(number, compare, null);
+  public static int[] assertNonempty(@Nullable int[] array) throws IllegalArgumentException{
+    innerAssertNonempty(array, array == null ? 0 : array.length, null);
+    return array;
   }
 
   /**
-   * Asserts that number is a lesser than compared number. If it is not a lesser an exception will be thrown.
+   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
    *
-   * @param number        number to be asserted
-   * @param compare       number being compared
+   * @param array         array to be asserted
    * @param variable_name name of variable
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @return valid nonempty array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static int assertLesserThan(int number, long compare, @Nonnull String variable_name)
+  public static int[] assertNonempty(@Nullable int[] array, @Nonnull String variable_name)
   throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
-    return (int) innerAssertLesserThan(number, compare, variable_name);
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    innerAssertNonempty(array, array == null ? 0 : array.length, variable_name);
+    return array;
   }
 
   /**
-   * Asserts that number is a lesser than compared number. If it is not a lesser an exception will be thrown.
+   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
    *
-   * @param number  number to be asserted
+   * @param array array to be asserted
+   * @return valid nonempty array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static long[] assertNonempty(@Nullable long[] array) throws IllegalArgumentException{
+    innerAssertNonempty(array, array == null ? 0 : array.length, null);
+    return array;
+  }
+
+  /**
+   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
+   *
+   * @param array         array to be asserted
+   * @param variable_name name of variable
+   * @return valid nonempty array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static long[] assertNonempty(@Nullable long[] array, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    innerAssertNonempty(array, array == null ? 0 : array.length, variable_name);
+    return array;
+  }
+
+  /**
+   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
+   *
+   * @param array array to be asserted
+   * @return valid nonempty array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static byte[] assertNonempty(@Nullable byte[] array) throws IllegalArgumentException{
+    innerAssertNonempty(array, array == null ? 0 : array.length, null);
+    return array;
+  }
+
+  /**
+   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
+   *
+   * @param array         array to be asserted
+   * @param variable_name name of variable
+   * @return valid nonempty array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static byte[] assertNonempty(@Nullable byte[] array, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    innerAssertNonempty(array, array == null ? 0 : array.length, variable_name);
+    return array;
+  }
+
+  /**
+   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
+   *
+   * @param array array to be asserted
+   * @return valid nonempty array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static double[] assertNonempty(@Nullable double[] array) throws IllegalArgumentException{
+    innerAssertNonempty(array, array == null ? 0 : array.length, null);
+    return array;
+  }
+
+  /**
+   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
+   *
+   * @param array         array to be asserted
+   * @param variable_name name of variable
+   * @return valid nonempty array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static double[] assertNonempty(@Nullable double[] array, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    innerAssertNonempty(array, array == null ? 0 : array.length, variable_name);
+    return array;
+  }
+
+  /**
+   * Asserts that primitive array is not empty. If it is empty, then an exception will be thrown.
+   *
+   * @param array         array to be asserted
+   * @param length        length of array or 0 if array is null
+   * @param variable_name name of variable
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  private static void innerAssertNonempty(@Nullable Object array, int length, @Nullable String variable_name)
+  throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.NONEMPTY)) return;
+
+    // Exit if not empty
+    if(array != null && length != 0) return;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw fail(CheckKind.NONEMPTY, array, variable_name);
+  }
+
+  /**
+   * Asserts that array does not contain any negative numbers. If it does contain negative numbers, then an exception will be thrown.
+   *
+   * @param array array to be asserted
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static int[] assertAllNonnegative(@Nullable int[] array) throws IllegalArgumentException{
+    return innerAssertAllNonnegative(array, null);
+  }
+
+  /**
+   * Asserts that array does not contain any negative numbers. If it does contain negative numbers, then an exception will be thrown.
+   *
+   * @param array         array to be asserted
+   * @param variable_name name of variable
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static int[] assertAllNonnegative(@Nullable int[] array, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertAllNonnegative(array, variable_name);
+  }
+
+  /**
+   * Checks if array does not contain any negative numbers
+   *
+   * @param array array to be checked
+   * @return true if all numbers are nonnegative, false if any is negative or array is null
+   */
+  public static boolean isAllNonnegative(@Nullable int[] array){
+    if(array == null) return false;
+
+    // Sign bits are gathered without branching so the loop can be vectorized
+    int bits = 0;
+    for(int number : array) bits |= number;
+    return bits >= 0;
+  }
+
+  /**
+   * Asserts that array does not contain any negative numbers. If it does contain negative numbers, then an exception will be thrown.
+   *
+   * @param array         array to be asserted
+   * @param variable_name name of variable
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  private static int[] innerAssertAllNonnegative(@Nullable int[] array, @Nullable String variable_name)
+  throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.ALL_NONNEGATIVE)) return array;
+
+    // Exit if valid
+    Object event = ValidationEvents.beginCheck();
+    boolean valid = array != null && isAllNonnegative(array);
+    ValidationEvents.endCheck(event, CheckKind.ALL_NONNEGATIVE, variable_name);
+    if(valid) return array;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failAllNonnegative(array, variable_name);
+  }
+
+  /**
+   * Asserts that array does not contain any negative numbers. If it does contain negative numbers, then an exception will be thrown.
+   *
+   * @param array array to be asserted
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static long[] assertAllNonnegative(@Nullable long[] array) throws IllegalArgumentException{
+    return innerAssertAllNonnegative(array, null);
+  }
+
+  /**
+   * Asserts that array does not contain any negative numbers. If it does contain negative numbers, then an exception will be thrown.
+   *
+   * @param array         array to be asserted
+   * @param variable_name name of variable
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static long[] assertAllNonnegative(@Nullable long[] array, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertAllNonnegative(array, variable_name);
+  }
+
+  /**
+   * Checks if array does not contain any negative numbers
+   *
+   * @param array array to be checked
+   * @return true if all numbers are nonnegative, false if any is negative or array is null
+   */
+  public static boolean isAllNonnegative(@Nullable long[] array){
+    if(array == null) return false;
+
+    // Sign bits are gathered without branching so the loop can be vectorized
+    long bits = 0;
+    for(long number : array) bits |= number;
+    return bits >= 0;
+  }
+
+  /**
+   * Asserts that array does not contain any negative numbers. If it does contain negative numbers, then an exception will be thrown.
+   *
+   * @param array         array to be asserted
+   * @param variable_name name of variable
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  private static long[] innerAssertAllNonnegative(@Nullable long[] array, @Nullable String variable_name)
+  throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.ALL_NONNEGATIVE)) return array;
+
+    // Exit if valid
+    Object event = ValidationEvents.beginCheck();
+    boolean valid = array != null && isAllNonnegative(array);
+    ValidationEvents.endCheck(event, CheckKind.ALL_NONNEGATIVE, variable_name);
+    if(valid) return array;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failAllNonnegative(array, variable_name);
+  }
+
+  /**
+   * Asserts that every number in array is greater than compared number. If any is not greater, an exception will be thrown.
+   *
+   * @param array   array to be asserted
    * @param compare number being compared
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static long assertLesserThan(long number, long compare) throws IllegalArgumentException{
-    return innerAssertLesserThan(number, compare, null);
+  public static int[] assertAllGreaterThan(@Nullable int[] array, long compare) throws IllegalArgumentException{
+    return innerAssertAllGreaterThan(
+      array,
+      compare,
+      null,
+      CheckKind.ALL_GREATER_THAN,
+      CheckGuards.ALL_GREATER_THAN
+    );
   }
 
   /**
-   * Asserts that number is a lesser than compared number. If it is not a lesser an exception will be thrown.
+   * Asserts that every number in array is greater than compared number. If any is not greater, an exception will be thrown.
    *
-   * @param number        number to be asserted
+   * @param array         array to be asserted
    * @param compare       number being compared
-   * @param variable_name name of variable
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @param variable_name name of variable
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static long assertLesserThan(long number, long compare, @Nonnull String variable_name)
+  public static int[] assertAllGreaterThan(@Nullable int[] array, long compare, @Nonnull String variable_name)
   throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
-    return innerAssertLesserThan(number, compare, variable_name);
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertAllGreaterThan(
+      array,
+      compare,
+      variable_name,
+      CheckKind.ALL_GREATER_THAN,
+      CheckGuards.ALL_GREATER_THAN
+    );
   }
 
-
   /**
-   * Asserts that number is a greater than or equals to compared number. If it is not greater or equal, an exception will be thrown.
+   * Asserts that every number in array is greater than compared number. If any is not greater, an exception will be thrown.
    *
-   * @param number  number to be asserted
+   * @param array   array to be asserted
    * @param compare number being compared
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static int assertGreaterThanOrEqual(int number, long compare) throws IllegalArgumentException{
-    return (int) innerAssertGreaterThanOrEqual(number, compare, null);
+  public static long[] assertAllGreaterThan(@Nullable long[] array, long compare) throws IllegalArgumentException{
+    return innerAssertAllGreaterThan(
+      array,
+      compare,
+      null,
+      CheckKind.ALL_GREATER_THAN,
+      CheckGuards.ALL_GREATER_THAN
+    );
   }
 
   /**
-   * Asserts that number is a greater than or equals to compared number. If it is not greater or equal, an exception will be thrown.
+   * Asserts that every number in array is greater than compared number. If any is not greater, an exception will be thrown.
    *
-   * @param number        number to be asserted
+   * @param array         array to be asserted
    * @param compare       number being compared
    * @param variable_name name of variable
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static int assertGreaterThanOrEqual(int number, long compare, @Nonnull String variable_name)
+  public static long[] assertAllGreaterThan(@Nullable long[] array, long compare, @Nonnull String variable_name)
   throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
-    return (int) innerAssertGreaterThanOrEqual(number, compare, variable_name);
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertAllGreaterThan(
+      array,
+      compare,
+      variable_name,
+      CheckKind.ALL_GREATER_THAN,
+      CheckGuards.ALL_GREATER_THAN
+    );
   }
 
   /**
-   * Asserts that number is a greater than or equals to compared number. If it is not greater or equal, an exception will be thrown.
+   * Checks if every number in array is greater than compared number
    *
-   * @param number  number to be asserted
+   * @param array   array to be checked
    * @param compare number being compared
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @return true if all numbers are greater, false if any is not or array is null
    */
-  public static long assertGreaterThanOrEqual(long number, long compare) throws IllegalArgumentException{
-    return innerAssertGreaterThanOrEqual(number, compare, null);
+  public static boolean isAllGreaterThan(@Nullable int[] array, long compare){
+    if(array == null) return false;
+
+    // Compared numbers outside of int range are either lesser or greater than any member
+    if(compare < Integer.MIN_VALUE) return true;
+    if(compare >= Integer.MAX_VALUE) return array.length == 0;
+    int bound = (int) compare;
+
+    // Sign bits of comparisons are gathered without branching so the loop can be vectorized
+    int bits = -1;
+    for(int number : array) bits &= lesserBits(bound, number);
+    return bits < 0;
   }
 
   /**
-   * Asserts that number is a greater than or equals to compared number. If it is not greater or equal, an exception will be thrown.
+   * Checks if every number in array is greater than compared number
    *
-   * @param number        number to be asserted
-   * @param compare       number being compared
-   * @param variable_name name of variable
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @param array   array to be checked
+   * @param compare number being compared
+   * @return true if all numbers are greater, false if any is not or array is null
    */
-  public static long assertGreaterThanOrEqual(long number, long compare, @Nonnull String variable_name)
-  throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
-    return innerAssertGreaterThanOrEqual(number, compare, variable_name);
+  public static boolean isAllGreaterThan(@Nullable long[] array, long compare){
+    if(array == null) return false;
+
+    // Sign bits of comparisons are gathered without branching so the loop can be vectorized
+    long bits = -1;
+    for(long number : array) bits &= lesserBits(compare, number);
+    return bits < 0;
   }
 
   /**
-   * Asserts that number is a greater than or equals to compared number. If it is not greater or equal, an exception will be thrown.
+   * Asserts that every number in array is greater than compared number. If any is not greater, an exception will be thrown.
    *
-   * @param number        number to be asserted
+   * @param array         array to be asserted
    * @param compare       number being compared
    * @param variable_name name of variable
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @param kind          kind of check
+   * @param guard         switch of the kind of check
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  private static long innerAssertGreaterThanOrEqual(long number, long compare, @Nullable String variable_name)
-  throws IllegalArgumentException{
-
-    // Exit if not null
-    if(number > compare) return number;
+  private static int[] innerAssertAllGreaterThan(
+    @Nullable int[] array,
+    long compare,
+    @Nullable String variable_name,
+    @Nonnull CheckKind kind,
+    @Nonnull MethodHandle guard
+  ) throws IllegalArgumentException{
 
-    // Otherwise go ahead and throw exception
-    String message = composeMessage(variable_name, GREATER_NUMBER_MESSAGE);
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(guard)) return array;
 
-    // Create exception
-    IllegalArgumentException iae = new IllegalArgumentException(message);
+    // Exit if valid
+    Object event = ValidationEvents.beginCheck();
+    boolean valid = array != null && isAllGreaterThan(array, compare);
+    ValidationEvents.endCheck(event, kind, variable_name);
+    if(valid) return array;
 
-    // Update stacktrace and throw it
-    throw updateStackTrace(iae, 0);
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failAllGreaterThan(kind, array, compare, variable_name);
   }
 
   /**
-   * Asserts that number is a lesser than compared number. If it is not a lesser an exception will be thrown.
+   * Asserts that every number in array is greater than compared number. If any is not greater, an exception will be thrown.
    *
-   * @param number        number to be asserted
+   * @param array         array to be asserted
    * @param compare       number being compared
    * @param variable_name name of variable
-   * @return valid number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @param kind          kind of check
+   * @param guard         switch of the kind of check
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  private static long innerAssertLesserThan(long number, long compare, @Nullable String variable_name)
-  throws IllegalArgumentException{
-
-    // Exit if not null
-    if(number < compare) return number;
+  private static long[] innerAssertAllGreaterThan(
+    @Nullable long[] array,
+    long compare,
+    @Nullable String variable_name,
+    @Nonnull CheckKind kind,
+    @Nonnull MethodHandle guard
+  ) throws IllegalArgumentException{
 
-    // Otherwise go ahead and throw exception
-    String message = composeMessage(variable_name, LESSER_NUMBER_MESSAGE);
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(guard)) return array;
 
-    // Create exception
-    IllegalArgumentException iae = new IllegalArgumentException(message);
+    // Exit if valid
+    Object event = ValidationEvents.beginCheck();
+    boolean valid = array != null && isAllGreaterThan(array, compare);
+    ValidationEvents.endCheck(event, kind, variable_name);
+    if(valid) return array;
 
-    // Update stacktrace and throw it
-    throw updateStackTrace(iae, 0);
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failAllGreaterThan(kind, array, compare, variable_name);
   }
 
   /**
-   * Asserts that number is a natural number. If it is not a natural number, then an exception will be thrown.
+   * Asserts that every number in array is lesser than compared number. If any is not lesser, an exception will be thrown.
    *
-   * @param number number to be asserted
-   * @return valid nonnegative number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @param array   array to be asserted
+   * @param compare number being compared
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static int assertNaturalNumber(int number) throws IllegalArgumentException{
-    return (int) innerAssertNaturalNumber(number, null);
+  public static int[] assertAllLesserThan(@Nullable int[] array, long compare) throws IllegalArgumentException{
+    return innerAssertAllLesserThan(array, compare, null);
   }
 
   /**
-   * Asserts that number is a natural number. If it is not a natural number, then an exception will be thrown.
+   * Asserts that every number in array is lesser than compared number. If any is not lesser, an exception will be thrown.
    *
-   * @param number        number to be asserted
+   * @param array         array to be asserted
+   * @param compare       number being compared
    * @param variable_name name of variable
-   * @return valid nonnegative number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static int assertNaturalNumber(int number, @Nonnull String variable_name) throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
-    return (int) innerAssertNaturalNumber(number, variable_name);
+  public static int[] assertAllLesserThan(@Nullable int[] array, long compare, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertAllLesserThan(array, compare, variable_name);
   }
 
   /**
-   * Asserts that number is a natural number. If it is not a natural number, then an exception will be thrown.
+   * Asserts that every number in array is lesser than compared number. If any is not lesser, an exception will be thrown.
    *
-   * @param number number to be asserted
-   * @return valid nonnegative number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @param array   array to be asserted
+   * @param compare number being compared
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static long assertNaturalNumber(long number) throws IllegalArgumentException{
-    return innerAssertNaturalNumber(number, null);
+  public static long[] assertAllLesserThan(@Nullable long[] array, long compare) throws IllegalArgumentException{
+    return innerAssertAllLesserThan(array, compare, null);
   }
 
   /**
-   * Asserts that number is a natural number. If it is not a natural number, then an exception will be thrown.
+   * Asserts that every number in array is lesser than compared number. If any is not lesser, an exception will be thrown.
    *
-   * @param number        number to be asserted
+   * @param array         array to be asserted
+   * @param compare       number being compared
    * @param variable_name name of variable
-   * @return valid nonnegative number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static long assertNaturalNumber(long number, @Nonnull String variable_name) throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
-    return innerAssertNaturalNumber(number, variable_name);
+  public static long[] assertAllLesserThan(@Nullable long[] array, long compare, @Nonnull String variable_name)
+  throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertAllLesserThan(array, compare, variable_name);
   }
 
   /**
-   * Asserts that number is a natural number. If it is not a natural number, then an exception will be thrown.
+   * Checks if every number in array is lesser than compared number
    *
-   * @param number        number to be asserted
-   * @param variable_name name of variable
-   * @return valid natural number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @param array   array to be checked
+   * @param compare number being compared
+   * @return true if all numbers are lesser, false if any is not or array is null
    */
-  private static long innerAssertNaturalNumber(long number, @Nullable String variable_name)
-  throws IllegalArgumentException{
-
-    // Exit if not null
-    if(number > 0) return number;
-
-    // Otherwise go ahead and throw exception
-    String message = composeMessage(variable_name, NATURAL_NUMBER_MESSAGE);
-
-    // Create exception
-    IllegalArgumentException iae = new IllegalArgumentException(message);
-
-    // Update stacktrace and throw it
-    throw updateStackTrace(iae, 0);
+  public static boolean isAllLesserThan(@Nullable int[] array, long compare){
+    if(array == null) return false;
+
+    // Compared numbers outside of int range are either greater or lesser than any member
+    if(compare > Integer.MAX_VALUE) return true;
+    if(compare <= Integer.MIN_VALUE) return array.length == 0;
+    int bound = (int) compare;
+
+    // Sign bits of comparisons are gathered without branching so the loop can be vectorized
+    int bits = -1;
+    for(int number : array) bits &= lesserBits(number, bound);
+    return bits < 0;
   }
 
   /**
-   * Asserts that number is not a negative number. If it is a negative number, then an exception will be thrown.
+   * Checks if every number in array is lesser than compared number
    *
-   * @param number number to be asserted
-   * @return valid nonnegative number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @param array   array to be checked
+   * @param compare number being compared
+   * @return true if all numbers are lesser, false if any is not or array is null
    */
-  public static long assertNonnegative(long number) throws IllegalArgumentException{
-    return innerAssertNonnegative(number, null);
+  public static boolean isAllLesserThan(@Nullable long[] array, long compare){
+    if(array == null) return false;
+
+    // Sign bits of comparisons are gathered without branching so the loop can be vectorized
+    long bits = -1;
+    for(long number : array) bits &= lesserBits(number, compare);
+    return bits < 0;
   }
 
   /**
-   * Asserts that number is not a negative number. If it is a negative number, then an exception will be thrown.
+   * Asserts that every number in array is lesser than compared number. If any is not lesser, an exception will be thrown.
    *
-   * @param number        number to be asserted
+   * @param array         array to be asserted
+   * @param compare       number being compared
    * @param variable_name name of variable
-   * @return valid nonnegative number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static long assertNonnegative(long number, @Nonnull String variable_name) throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
-    return innerAssertNonnegative(number, variable_name);
+  private static int[] innerAssertAllLesserThan(@Nullable int[] array, long compare, @Nullable String variable_name)
+  throws IllegalArgumentException{
+
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.ALL_LESSER_THAN)) return array;
+
+    // Exit if valid
+    Object event = ValidationEvents.beginCheck();
+    boolean valid = array != null && isAllLesserThan(array, compare);
+    ValidationEvents.endCheck(event, CheckKind.ALL_LESSER_THAN, variable_name);
+    if(valid) return array;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failAllLesserThan(array, compare, variable_name);
   }
 
   /**
-   * Asserts that number is not a negative number. If it is a negative number, then an exception will be thrown.
+   * Asserts that every number in array is lesser than compared number. If any is not lesser, an exception will be thrown.
    *
-   * @param number        number to be asserted
+   * @param array         array to be asserted
+   * @param compare       number being compared
    * @param variable_name name of variable
-   * @return valid nonnegative number
-   * @throws IllegalArgumentException thrown if the number is invalid in any way
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  private static long innerAssertNonnegative(long number, @Nullable String variable_name)
+  private static long[] innerAssertAllLesserThan(@Nullable long[] array, long compare, @Nullable String variable_name)
   throws IllegalArgumentException{
 
-    // Exit if not null
-    if(number >= 0) return number;
-
-    // Otherwise go ahead and throw exception
-    String message = composeMessage(variable_name, NONNEGATIVE_NUMBER_MESSAGE);
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.ALL_LESSER_THAN)) return array;
 
-    // Create exception
-    IllegalArgumentException iae = new IllegalArgumentException(message);
+    // Exit if valid
+    Object event = ValidationEvents.beginCheck();
+    boolean valid = array != null && isAllLesserThan(array, compare);
+    ValidationEvents.endCheck(event, CheckKind.ALL_LESSER_THAN, variable_name);
+    if(valid) return array;
 
-    // Update stacktrace and throw it
-    throw updateStackTrace(iae, 0);
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failAllLesserThan(array, compare, variable_name);
   }
 
   /**
-   * Asserts that string is not an empty string. If it is an empty string, then an exception will be thrown.
-   * White space is considered empty space so if string consists of four spaces with nothing else, then it is considered to be empty.
+   * Asserts that every number in array is a natural number. If any is not a natural number, an exception will be thrown.
    *
-   * @param string string to be asserted
-   * @return valid nonempty string
-   * @throws IllegalArgumentException thrown if the string is invalid in any way
+   * @param array array to be asserted
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static String assertNonemptyString(@Nullable String string) throws IllegalArgumentException{
-    return innerAssertNonemptyString(string, null);
+  public static int[] assertAllNaturalNumbers(@Nullable int[] array) throws IllegalArgumentException{
+    return innerAssertAllGreaterThan(array, 0, null, CheckKind.ALL_NATURAL_NUMBERS, CheckGuards.ALL_NATURAL_NUMBERS);
   }
 
   /**
-   * Asserts that string is not an empty string. If it is an empty string, then an exception will be thrown.
-   * White space is considered empty space so if string consists of four spaces with nothing else, then it is considered to be empty.
+   * Asserts that every number in array is a natural number. If any is not a natural number, an exception will be thrown.
    *
-   * @param string        string to be asserted
+   * @param array         array to be asserted
    * @param variable_name name of variable
-   * @return valid nonempty string
-   * @throws IllegalArgumentException thrown if the string is invalid in any way
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static String assertNonemptyString(@Nullable String string, @Nonnull String variable_name)
+  public static int[] assertAllNaturalNumbers(@Nullable int[] array, @Nonnull String variable_name)
   throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
-    return innerAssertNonemptyString(string, variable_name);
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertAllGreaterThan(
+      array,
+      0,
+      variable_name,
+      CheckKind.ALL_NATURAL_NUMBERS,
+      CheckGuards.ALL_NATURAL_NUMBERS
+    );
   }
 
   /**
-   * Asserts that string is not an empty string. If it is an empty string, then an exception will be thrown.
-   * White space is considered empty space so if string consists of four spaces with nothing else, then it is considered to be empty.
+   * Asserts that every number in array is a natural number. If any is not a natural number, an exception will be thrown.
    *
-   * @param string        string to be asserted
+   * @param array array to be asserted
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static long[] assertAllNaturalNumbers(@Nullable long[] array) throws IllegalArgumentException{
+    return innerAssertAllGreaterThan(array, 0, null, CheckKind.ALL_NATURAL_NUMBERS, CheckGuards.ALL_NATURAL_NUMBERS);
+  }
+
+  /**
+   * Asserts that every number in array is a natural number. If any is not a natural number, an exception will be thrown.
+   *
+   * @param array         array to be asserted
    * @param variable_name name of variable
-   * @return valid nonempty string
-   * @throws IllegalArgumentException thrown if the string is invalid in any way
+   * @return valid array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  private static String innerAssertNonemptyString(@Nullable String string, @Nullable String variable_name)
+  public static long[] assertAllNaturalNumbers(@Nullable long[] array, @Nonnull String variable_name)
   throws IllegalArgumentException{
-
-    // Assert non null
-    string = innerAssertNonnull(string, variable_name, 1);
-
-    // Exit if not empty
-    if(!string.trim().equals("")) return string;
-
-    // Otherwise go ahead and throw exception
-    String message = composeMessage(variable_name, EMPTY_STRING_MESSAGE);
-
-    // Create exception
-    IllegalArgumentException iae = new IllegalArgumentException(message);
-
-    // Update stacktrace and throw it
-    throw updateStackTrace(iae, 0);
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertAllGreaterThan(
+      array,
+      0,
+      variable_name,
+      CheckKind.ALL_NATURAL_NUMBERS,
+      CheckGuards.ALL_NATURAL_NUMBERS
+    );
   }
 
   /**
-   * Asserts that collection is not empty. If it is empty, then an exception will be thrown.
+   * Checks if every number in array is a natural number
    *
-   * @param <T>        type of collection
-   * @param collection collection to be asserted
-   * @return valid nonempty collection
-   * @throws IllegalArgumentException thrown if the collection is invalid in any way
+   * @param array array to be checked
+   * @return true if all numbers are natural numbers, false if any is not or array is null
    */
-  public static <T> Collection<T> assertNonempty(@Nullable Collection<T> collection) throws IllegalArgumentException{
-    return innerAssertNonempty(collection, null, 0);
+  public static boolean isAllNaturalNumbers(@Nullable int[] array){
+    return isAllGreaterThan(array, 0);
   }
 
   /**
-   * Asserts that collection is not empty. If it is empty, then an exception will be thrown.
+   * Checks if every number in array is a natural number
    *
-   * @param <T>           type of collection
-   * @param collection    collection to be asserted
-   * @param variable_name name of variable
-   * @return valid nonempty collection
-   * @throws IllegalArgumentException thrown if the collection is invalid in any way
+   * @param array array to be checked
+   * @return true if all numbers are natural numbers, false if any is not or array is null
    */
-  public static <T> Collection<T> assertNonempty(@Nullable Collection<T> collection, @Nonnull String variable_name)
-  throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
-    return innerAssertNonempty(collection, variable_name, 0);
+  public static boolean isAllNaturalNumbers(@Nullable long[] array){
+    return isAllGreaterThan(array, 0);
   }
 
   /**
-   * Asserts that collection is not empty. If it is empty, then an exception will be thrown.
+   * Compares numbers without branching, overflow is accounted for
    *
-   * @param <T>           type of collection
-   * @param collection    collection to be asserted
-   * @param variable_name name of variable
-   * @param level         level of calls. This is used to adjust the stacktrace.
-   * @return valid nonempty collection
-   * @throws IllegalArgumentException thrown if the collection is invalid in any way
+   * @param x number to be compared
+   * @param y number being compared
+   * @return number with sign bit set if x is lesser than y, cleared otherwise
    */
-  private static <T> Collection<T> innerAssertNonempty(
-    @Nullable Collection<T> collection,
-    @Nullable String variable_name,
-    int level
-  )
-  throws IllegalArgumentException{
-
-    // Assert non null
-    innerAssertNonnull(collection, variable_name, 1);
-
-    // Pass it forward
-    innerAssertNonempty(collection.toArray(new Object[0]), variable_name, 1 + level);
+  private static int lesserBits(int x, int y){
+    int difference = x - y;
+    return difference ^ ((x ^ y) & (difference ^ x));
+  }
 
-    // Return it
-    return collection;
+  /**
+   * Compares numbers without branching, overflow is accounted for
+   *
+   * @param x number to be compared
+   * @param y number being compared
+   * @return number with sign bit set if x is lesser than y, cleared otherwise
+   */
+  private static long lesserBits(long x, long y){
+    long difference = x - y;
+    return difference ^ ((x ^ y) & (difference ^ x));
   }
 
   /**
-   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
+   * Asserts that array contains only valid port numbers. If it contains invalid port numbers, then an exception will be thrown.
    *
-   * @param <T>   type of array
-   * @param array array to be asserted
-   * @return valid nonempty array
+   * @param ports array to be asserted
+   * @return valid array
    * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static <T> T[] assertNonempty(@Nullable T[] array) throws IllegalArgumentException{
-    return innerAssertNonempty(array, null, 0);
+  public static int[] assertAllValidPortNumbers(@Nullable int[] ports) throws IllegalArgumentException{
+    return innerAssertAllValidPortNumbers(ports, null);
   }
 
   /**
-   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
+   * Asserts that array contains only valid port numbers. If it contains invalid port numbers, then an exception will be thrown.
    *
-   * @param <T>           type of array
-   * @param array         array to be asserted
+   * @param ports         array to be asserted
    * @param variable_name name of variable
-   * @return valid nonempty array
+   * @return valid array
    * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  public static <T> T[] assertNonempty(@Nullable T[] array, @Nonnull String variable_name)
+  public static int[] assertAllValidPortNumbers(@Nullable int[] ports, @Nonnull String variable_name)
   throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
-    return innerAssertNonempty(array, variable_name, 0);
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertAllValidPortNumbers(ports, variable_name);
   }
 
   /**
-   * Asserts that array is not empty. If it is empty, then an exception will be thrown.
+   * Checks if array contains only valid port numbers
    *
-   * @param <T>           type of array
-   * @param array         array to be asserted
+   * @param ports array to be checked
+   * @return true if all port numbers are valid, false if any is invalid or array is null
+   */
+  public static boolean isAllValidPortNumbers(@Nullable int[] ports){
+    if(ports == null) return false;
+
+    // Both differences are nonnegative only within the range, sign bits are gathered without branching so the loop
+    // can be vectorized
+    int bits = 0;
+    for(int port : ports) bits |= (port - 1) | (65535 - port);
+    return bits >= 0;
+  }
+
+  /**
+   * Asserts that array contains only valid port numbers. If it contains invalid port numbers, then an exception will be thrown.
+   *
+   * @param ports         array to be asserted
    * @param variable_name name of variable
-   * @param level         level of calls. This is used to adjust the stacktrace.
-   * @return valid nonempty array
+   * @return valid array
    * @throws IllegalArgumentException thrown if the array is invalid in any way
    */
-  private static <T> T[] innerAssertNonempty(@Nullable T[] array, @Nullable String variable_name, int level)
-  throws IllegalArgumentException{
-
-    // Assert non null
-    innerAssertNonnull(array, variable_name, level + 1);
-
-    // Exit if not empty
-    if(Objects.requireNonNull(array).length != 0) return array;
+  private static int[] innerAssertAllValidPortNumbers(@Nullable int[] ports, @Nullable String variable_name)
+  throws IllegalArgumentException{
 
-    // Otherwise go ahead and throw exception
-    String message = composeMessage(variable_name, EMPTY_ARRAY_MESSAGE);
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.ALL_PORT_NUMBERS)) return ports;
 
-    // Create exception
-    IllegalArgumentException iae = new IllegalArgumentException(message);
+    // Exit if valid
+    Object event = ValidationEvents.beginCheck();
+    boolean valid = ports != null && isAllValidPortNumbers(ports);
+    ValidationEvents.endCheck(event, CheckKind.ALL_PORT_NUMBERS, variable_name);
+    if(valid) return ports;
 
-    // Update stacktrace and throw it
-    throw updateStackTrace(iae, level);
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw failAllValidPortNumbers(ports, variable_name);
   }
 
   /**
@@ -889,7 +3026,7 @@ public final class Validation{
     boolean empty_allowed
   )
   throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
+    innerAssertNonnull(variable_name, "variable_name", -1);
     return innerAssertNonnullElements(set, variable_name, empty_allowed);
   }
 
@@ -910,23 +3047,17 @@ public final class Validation{
     boolean empty_allowed
   ) throws IllegalArgumentException{
 
-    // Assert non null
-    innerAssertNonnull(set, variable_name, 1);
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.NONNULL_ELEMENTS)) return set;
 
-    // Assert nonempty if needed
-    if(!empty_allowed) innerAssertNonempty(set, variable_name, 1);
+    // Assert non null and nonempty if needed
+    if(set == null || !empty_allowed && set.isEmpty()) throw failNonnullElements(set, variable_name, 0);
 
     // Check for any nulls
     if(!set.contains(null)) return set;
 
-    // Otherwise go ahead and throw exception
-    String message = composeMessage(variable_name, NULLS_IN_ARRAY_MESSAGE);
-
-    // Create exception
-    IllegalArgumentException iae = new IllegalArgumentException(message);
-
-    // Update stacktrace and throw it
-    throw updateStackTrace(iae, 0);
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw createException(CheckKind.NONNULL_ELEMENTS, variable_name, NULLS_IN_ARRAY_MESSAGE, null, 0);
   }
 
   /**
@@ -942,7 +3073,7 @@ public final class Validation{
   public static <T> Collection<T> assertNonnullElements(@Nullable Collection<T> collection, boolean empty_allowed)
   throws IllegalArgumentException{
     if(collection instanceof Set) return innerAssertNonnullElements((Set<T>) collection, null, empty_allowed);
-    else return innerAssertNonnullElements(collection, null, empty_allowed);
+    else return innerAssertNonnullElements(collection, null, empty_allowed, false);
   }
 
   /**
@@ -961,10 +3092,132 @@ public final class Validation{
     @Nonnull String variable_name,
     boolean empty_allowed
   ) throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    if(collection instanceof Set)
+      return innerAssertNonnullElements((Set<T>) collection, variable_name, empty_allowed);
+    else return innerAssertNonnullElements(collection, variable_name, empty_allowed, false);
+  }
+
+  /**
+   * Asserts that collection does not contain any null elements, scanning random access lists in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+   * If it does contain null elements, then an exception will be thrown with the same message as {@link #assertNonnullElements(Collection, boolean)}.
+   * Small lists and other collections are scanned in the calling thread. Additionally, it can assert if collection is non-empty if requested.
+   *
+   * @param <T>           type of array
+   * @param collection    collection to be asserted
+   * @param empty_allowed true to allow an empty collection, false to assert a non-empty collection
+   * @return valid nonnull collection
+   * @throws IllegalArgumentException thrown if the collection is invalid in any way
+   */
+  public static <T> Collection<T> assertNonnullElementsParallel(
+    @Nullable Collection<T> collection,
+    boolean empty_allowed
+  ) throws IllegalArgumentException{
+    if(collection instanceof Set) return innerAssertNonnullElements((Set<T>) collection, null, empty_allowed);
+    else return innerAssertNonnullElements(collection, null, empty_allowed, true);
+  }
+
+  /**
+   * Asserts that collection does not contain any null elements, scanning random access lists in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+   * If it does contain null elements, then an exception will be thrown with the same message as {@link #assertNonnullElements(Collection, String, boolean)}.
+   * Small lists and other collections are scanned in the calling thread. Additionally, it can assert if collection is non-empty if requested.
+   *
+   * @param <T>           type of array
+   * @param collection    collection to be asserted
+   * @param variable_name name of variable
+   * @param empty_allowed true to allow an empty collection, false to assert a non-empty collection
+   * @return valid nonnull collection
+   * @throws IllegalArgumentException thrown if the collection is invalid in any way
+   */
+  public static <T> Collection<T> assertNonnullElementsParallel(
+    @Nullable Collection<T> collection,
+    @Nonnull String variable_name,
+    boolean empty_allowed
+  ) throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
     if(collection instanceof Set)
       return innerAssertNonnullElements((Set<T>) collection, variable_name, empty_allowed);
-    else return innerAssertNonnullElements(collection, variable_name, empty_allowed);
+    else return innerAssertNonnullElements(collection, variable_name, empty_allowed, true);
+  }
+
+  /**
+   * Checks if collection contains any null elements
+   *
+   * @param collection collection to be checked
+   * @return true if collection contains null elements, false if it does not or if collection itself is null
+   */
+  public static boolean hasNullElements(@Nullable Collection<?> collection){
+    return collection != null && indexOfNull(collection) != -1;
+  }
+
+  /**
+   * Finds index of first null element in collection. Collection is checked in place, using indices if it's cheap to do so.
+   *
+   * @param collection collection to be checked
+   * @return index of first null element or -1 if there is none
+   */
+  private static int indexOfNull(@Nonnull Collection<?> collection){
+    if(collection instanceof List && collection instanceof RandomAccess){
+      List<?> list = (List<?>) collection;
+      for(int i = 0, size = list.size(); i < size; i++) if(list.get(i) == null) return i;
+    }else{
+      int index = 0;
+      for(Object item : collection){
+        if(item == null) return index;
+        index++;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds indices of null elements in collection
+   *
+   * @param collection collection to be checked
+   * @return indices of null elements or null if there is none
+   */
+  @Nullable
+  static IndexBuffer findNulls(@Nonnull Collection<?> collection){
+    int first = indexOfNull(collection);
+    return first == -1 ? null : collectNulls(collection, first);
+  }
+
+  /**
+   * Finds indices of null elements in collection, in parallel if requested and collection is a random access list
+   *
+   * @param collection collection to be checked
+   * @param parallel   true to check a random access list in parallel, false to check it sequentially
+   * @return indices of null elements or null if there is none
+   */
+  @Nullable
+  private static IndexBuffer findNulls(@Nonnull Collection<?> collection, boolean parallel){
+    if(parallel && collection instanceof List && collection instanceof RandomAccess){
+      return NullScanTask.findNulls((List<?>) collection, max_reported_indices);
+    }
+    return findNulls(collection);
+  }
+
+  /**
+   * Collects indices of null elements in collection
+   *
+   * @param collection collection to be checked
+   * @param first      index of first null element
+   * @return indices of null elements
+   */
+  @Nonnull
+  private static IndexBuffer collectNulls(@Nonnull Collection<?> collection, int first){
+    IndexBuffer nulls = new IndexBuffer(max_reported_indices);
+    if(collection instanceof List && collection instanceof RandomAccess){
+      List<?> list = (List<?>) collection;
+      for(int i = first, size = list.size(); i < size; i++) if(list.get(i) == null) nulls.add(i);
+    }else{
+      int index = 0;
+      for(Object item : collection){
+        if(index >= first && item == null) nulls.add(index);
+        index++;
+      }
+    }
+    return nulls;
   }
 
   /**
@@ -975,23 +3228,33 @@ public final class Validation{
    * @param collection    collection to be asserted
    * @param variable_name name of variable
    * @param empty_allowed true to allow an empty collection, false to assert a non-empty collection
+   * @param parallel      true to scan random access lists in parallel, false to scan sequentially
    * @return valid nonnull collection
    * @throws IllegalArgumentException thrown if the collection is invalid in any way
    */
   private static <T> Collection<T> innerAssertNonnullElements(
     @Nullable Collection<T> collection,
     @Nullable String variable_name,
-    boolean empty_allowed
+    boolean empty_allowed,
+    boolean parallel
   ) throws IllegalArgumentException{
 
-    // Assert non null
-    innerAssertNonnull(collection, variable_name, 1);
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.NONNULL_ELEMENTS)) return collection;
 
-    // Pass it forward
-    innerAssertNonnullElements(collection.toArray(new Object[0]), variable_name, empty_allowed, 1);
+    // Assert non null and nonempty if needed
+    if(collection == null || !empty_allowed && collection.isEmpty()){
+      throw failNonnullElements(collection, variable_name, 0);
+    }
 
-    // Return it
-    return collection;
+    // Check for any nulls
+    Object event = ValidationEvents.beginCheck();
+    IndexBuffer nulls = findNulls(collection, parallel);
+    ValidationEvents.endCheck(event, CheckKind.NONNULL_ELEMENTS, variable_name);
+    if(nulls == null) return collection;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw createException(CheckKind.NONNULL_ELEMENTS, variable_name, NULLS_IN_ARRAY_MESSAGE, nulls, 0);
   }
 
   /**
@@ -1006,7 +3269,7 @@ public final class Validation{
    */
   public static <T> T[] assertNonnullElements(@Nullable T[] array, boolean empty_allowed)
   throws IllegalArgumentException{
-    return innerAssertNonnullElements(array, null, empty_allowed, 0);
+    return innerAssertNonnullElements(array, null, empty_allowed, false, 0);
   }
 
   /**
@@ -1025,8 +3288,104 @@ public final class Validation{
     @Nonnull String variable_name,
     boolean empty_allowed
   ) throws IllegalArgumentException{
-    assertNonnull(variable_name, "variable_name");
-    return innerAssertNonnullElements(array, variable_name, empty_allowed, 0);
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertNonnullElements(array, variable_name, empty_allowed, false, 0);
+  }
+
+  /**
+   * Asserts that array does not contain any null elements, scanning it in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+   * If it does contain null elements, then an exception will be thrown with the same message as {@link #assertNonnullElements(Object[], boolean)}.
+   * Small arrays are scanned in the calling thread. Additionally, it can assert if array is non-empty if requested.
+   *
+   * @param <T>           type of array
+   * @param array         array to be asserted
+   * @param empty_allowed true to allow an empty array, false to assert a non-empty array
+   * @return valid nonnull array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static <T> T[] assertNonnullElementsParallel(@Nullable T[] array, boolean empty_allowed)
+  throws IllegalArgumentException{
+    return innerAssertNonnullElements(array, null, empty_allowed, true, 0);
+  }
+
+  /**
+   * Asserts that array does not contain any null elements, scanning it in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+   * If it does contain null elements, then an exception will be thrown with the same message as {@link #assertNonnullElements(Object[], String, boolean)}.
+   * Small arrays are scanned in the calling thread. Additionally, it can assert if array is non-empty if requested.
+   *
+   * @param <T>           type of array
+   * @param array         array to be asserted
+   * @param variable_name name of variable
+   * @param empty_allowed true to allow an empty array, false to assert a non-empty array
+   * @return valid nonnull array
+   * @throws IllegalArgumentException thrown if the array is invalid in any way
+   */
+  public static <T> T[] assertNonnullElementsParallel(
+    @Nullable T[] array,
+    @Nonnull String variable_name,
+    boolean empty_allowed
+  ) throws IllegalArgumentException{
+    innerAssertNonnull(variable_name, "variable_name", -1);
+    return innerAssertNonnullElements(array, variable_name, empty_allowed, true, 0);
+  }
+
+  /**
+   * Checks if array contains any null elements
+   *
+   * @param array array to be checked
+   * @return true if array contains null elements, false if it does not or if array itself is null
+   */
+  public static boolean hasNullElements(@Nullable Object[] array){
+    return array != null && indexOfNull(array) != -1;
+  }
+
+  /**
+   * Finds index of first null element in array
+   *
+   * @param array array to be checked
+   * @return index of first null element or -1 if there is none
+   */
+  private static int indexOfNull(@Nonnull Object[] array){
+    for(int i = 0; i < array.length; i++) if(array[i] == null) return i;
+    return -1;
+  }
+
+  /**
+   * Finds indices of null elements in array
+   *
+   * @param array array to be checked
+   * @return indices of null elements or null if there is none
+   */
+  @Nullable
+  static IndexBuffer findNulls(@Nonnull Object[] array){
+    int first = indexOfNull(array);
+    return first == -1 ? null : collectNulls(array, first);
+  }
+
+  /**
+   * Finds indices of null elements in array, in parallel if requested
+   *
+   * @param array    array to be checked
+   * @param parallel true to check in parallel, false to check sequentially
+   * @return indices of null elements or null if there is none
+   */
+  @Nullable
+  private static IndexBuffer findNulls(@Nonnull Object[] array, boolean parallel){
+    return parallel ? NullScanTask.findNulls(Arrays.asList(array), max_reported_indices) : findNulls(array);
+  }
+
+  /**
+   * Collects indices of null elements in array
+   *
+   * @param array array to be checked
+   * @param first index of first null element
+   * @return indices of null elements
+   */
+  @Nonnull
+  private static IndexBuffer collectNulls(@Nonnull Object[] array, int first){
+    IndexBuffer nulls = new IndexBuffer(max_reported_indices);
+    for(int i = first; i < array.length; i++) if(array[i] == null) nulls.add(i);
+    return nulls;
   }
 
   /**
@@ -1037,6 +3396,7 @@ public final class Validation{
    * @param array         array to be asserted
    * @param variable_name name of variable
    * @param empty_allowed true to allow an empty array, false to assert a non-empty array
+   * @param parallel      true to scan in parallel, false to scan sequentially
    * @param level         level of calls. This is used to adjust the stacktrace.
    * @return valid nonnull array
    * @throws IllegalArgumentException thrown if the array is invalid in any way
@@ -1046,32 +3406,330 @@ public final class Validation{
     @Nullable T[] array,
     @Nullable String variable_name,
     boolean empty_allowed,
+    boolean parallel,
     int level
   ) throws IllegalArgumentException{
 
-    // Assert non null
-    innerAssertNonnull(array, variable_name, level + 1);
+    // Exit if the check is disabled
+    if(!CheckGuards.enter(CheckGuards.NONNULL_ELEMENTS)) return array;
+
+    // Assert non null and nonempty if needed
+    if(array == null || !empty_allowed && array.length == 0) throw failNonnullElements(array, variable_name, level);
+
+    // Check for any nulls
+    Object event = ValidationEvents.beginCheck();
+    IndexBuffer nulls = findNulls(array, parallel);
+    ValidationEvents.endCheck(event, CheckKind.NONNULL_ELEMENTS, variable_name);
+    if(nulls == null) return array;
+
+    // Otherwise go ahead and throw exception with updated stacktrace
+    throw createException(CheckKind.NONNULL_ELEMENTS, variable_name, NULLS_IN_ARRAY_MESSAGE, nulls, level);
+  }
+
+  /**
+   * Checks that the range is within bounds of an array
+   *
+   * @param size   size of array
+   * @param offset index of first element of range
+   * @param length number of elements of range
+   * @throws IndexOutOfBoundsException thrown if the range is out of bounds
+   */
+  private static void checkRange(@Nonnegative int size, int offset, int length) throws IndexOutOfBoundsException{
+    if((offset | length) < 0 || length > size - offset){
+      throw new IndexOutOfBoundsException(
+        "Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + size
+      );
+    }
+  }
+
+  /**
+   * Creates an exception for a failed check of a value that cannot be null. Failure handling is kept out of the checks,
+   * so they stay small enough to be inlined.
+   *
+   * @param kind          kind of the failed check
+   * @param variable_name name of variable
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException fail(@Nonnull CheckKind kind, @Nullable String variable_name){
+    return createException(kind, variable_name, kind.message, null, 1);
+  }
+
+  /**
+   * Creates an exception for a failed check of a value that is either null or invalid
+   *
+   * @param kind          kind of the failed check
+   * @param value         value that failed the check
+   * @param variable_name name of variable
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException fail(
+    @Nonnull CheckKind kind,
+    @Nullable Object value,
+    @Nullable String variable_name
+  ){
+    return createException(kind, variable_name, value == null ? OBJECT_NULL_MESSAGE : kind.message, null, 1);
+  }
+
+  /**
+   * Creates an exception for a failed check of a string or buffer that is either null, too long to be scanned or
+   * invalid
+   *
+   * @param kind          kind of the failed check
+   * @param value         string or buffer that failed the check
+   * @param variable_name name of variable
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException failScan(
+    @Nonnull CheckKind kind,
+    @Nullable Object value,
+    @Nullable String variable_name
+  ){
+    String reason = value == null ? OBJECT_NULL_MESSAGE :
+                    ScanBudget.exceeds(value) ? SCAN_BUDGET_MESSAGE : kind.message;
+    return createException(kind, variable_name, reason, null, 1);
+  }
+
+  /**
+   * Creates an exception for a failed check of a range of array that is either null, too long to be scanned or invalid
+   *
+   * @param kind          kind of the failed check
+   * @param value         array that failed the check
+   * @param length        length of the range
+   * @param variable_name name of variable
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException failScan(
+    @Nonnull CheckKind kind,
+    @Nullable byte[] value,
+    int length,
+    @Nullable String variable_name
+  ){
+    String reason = value == null ? OBJECT_NULL_MESSAGE :
+                    ScanBudget.exceeds(length) ? SCAN_BUDGET_MESSAGE : kind.message;
+    return createException(kind, variable_name, reason, null, 1);
+  }
+
+  /**
+   * Creates an exception for a failed check of an IP address
+   *
+   * @param ip_address    IP address that failed the check
+   * @param ipv4_allowed  true if IPv4 and IPv6 addresses were accepted, false if only IPv6 addresses were accepted
+   * @param variable_name name of variable
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException failIpAddress(
+    @Nullable String ip_address,
+    boolean ipv4_allowed,
+    @Nullable String variable_name
+  ){
+    String message = ip_address == null ? OBJECT_NULL_MESSAGE :
+                     ScanBudget.exceeds(ip_address) ? SCAN_BUDGET_MESSAGE :
+                     ipv4_allowed ? INVALID_IP_MESSAGE : INVALID_IPV6_MESSAGE;
+    return createException(CheckKind.IP_ADDRESS, variable_name, message, null, 1);
+  }
+
+  /**
+   * Creates an exception for a failed check of a value that is either null or invalid
+   *
+   * @param kind          kind of the failed check
+   * @param value         value that failed the check
+   * @param variable_name name of variable
+   * @param level         level of calls. This is used to adjust the stacktrace.
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException fail(
+    @Nonnull CheckKind kind,
+    @Nullable Object value,
+    @Nullable String variable_name,
+    int level
+  ){
+    String message = value == null ? OBJECT_NULL_MESSAGE : kind.message;
+    return createException(kind, variable_name, message, null, level + 1);
+  }
+
+  /**
+   * Creates an exception for an array or a collection that is either null or empty when asserting non-null elements
+   *
+   * @param value         array or collection
+   * @param variable_name name of variable
+   * @param level         level of calls. This is used to adjust the stacktrace.
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException failNonnullElements(
+    @Nullable Object value,
+    @Nullable String variable_name,
+    int level
+  ){
+    String message = value == null ? OBJECT_NULL_MESSAGE : EMPTY_ARRAY_MESSAGE;
+    return createException(CheckKind.NONNULL_ELEMENTS, variable_name, message, null, level + 1);
+  }
+
+  /**
+   * Creates an exception for an array that is either null or contains negative numbers
+   *
+   * @param array         array that failed the check
+   * @param variable_name name of variable
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException failAllNonnegative(@Nullable int[] array, @Nullable String variable_name){
+    if(array == null) return createException(CheckKind.ALL_NONNEGATIVE, variable_name, OBJECT_NULL_MESSAGE, null, 1);
+    IndexBuffer negatives = new IndexBuffer(max_reported_indices);
+    for(int i = 0; i < array.length; i++) if(array[i] < 0) negatives.add(i);
+    return createException(CheckKind.ALL_NONNEGATIVE, variable_name, NEGATIVES_IN_ARRAY_MESSAGE, negatives, 1);
+  }
 
-    // Assert nonempty if needed
-    if(!empty_allowed) innerAssertNonempty(array, variable_name, level + 1);
+  /**
+   * Creates an exception for an array that is either null or contains negative numbers
+   *
+   * @param array         array that failed the check
+   * @param variable_name name of variable
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException failAllNonnegative(@Nullable long[] array, @Nullable String variable_name){
+    if(array == null) return createException(CheckKind.ALL_NONNEGATIVE, variable_name, OBJECT_NULL_MESSAGE, null, 1);
+    IndexBuffer negatives = new IndexBuffer(max_reported_indices);
+    for(int i = 0; i < array.length; i++) if(array[i] < 0) negatives.add(i);
+    return createException(CheckKind.ALL_NONNEGATIVE, variable_name, NEGATIVES_IN_ARRAY_MESSAGE, negatives, 1);
+  }
 
-    // List to collect any nulls
-    List<Integer> nulls = new LinkedList<>();
+  /**
+   * Creates an exception for an array that is either null or contains numbers that are not greater
+   *
+   * @param kind          kind of the failed check
+   * @param array         array that failed the check
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException failAllGreaterThan(
+    @Nonnull CheckKind kind,
+    @Nullable int[] array,
+    long compare,
+    @Nullable String variable_name
+  ){
+    if(array == null) return createException(kind, variable_name, OBJECT_NULL_MESSAGE, null, 1);
+    IndexBuffer invalid = new IndexBuffer(max_reported_indices);
+    for(int i = 0; i < array.length; i++) if(array[i] <= compare) invalid.add(i);
+    return createException(kind, variable_name, kind.message, invalid, 1);
+  }
 
-    // Check the list
-    for(int i = 0; i < array.length; i++) if(array[i] == null) nulls.add(i);
+  /**
+   * Creates an exception for an array that is either null or contains numbers that are not greater
+   *
+   * @param kind          kind of the failed check
+   * @param array         array that failed the check
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException failAllGreaterThan(
+    @Nonnull CheckKind kind,
+    @Nullable long[] array,
+    long compare,
+    @Nullable String variable_name
+  ){
+    if(array == null) return createException(kind, variable_name, OBJECT_NULL_MESSAGE, null, 1);
+    IndexBuffer invalid = new IndexBuffer(max_reported_indices);
+    for(int i = 0; i < array.length; i++) if(array[i] <= compare) invalid.add(i);
+    return createException(kind, variable_name, kind.message, invalid, 1);
+  }
 
-    // Exit if nothing is null
-    if(nulls.isEmpty()) return array;
+  /**
+   * Creates an exception for an array that is either null or contains numbers that are not lesser
+   *
+   * @param array         array that failed the check
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException failAllLesserThan(
+    @Nullable int[] array,
+    long compare,
+    @Nullable String variable_name
+  ){
+    if(array == null) return createException(CheckKind.ALL_LESSER_THAN, variable_name, OBJECT_NULL_MESSAGE, null, 1);
+    IndexBuffer invalid = new IndexBuffer(max_reported_indices);
+    for(int i = 0; i < array.length; i++) if(array[i] >= compare) invalid.add(i);
+    return createException(CheckKind.ALL_LESSER_THAN, variable_name, LESSER_NUMBERS_IN_ARRAY_MESSAGE, invalid, 1);
+  }
 
-    // Otherwise go ahead and throw exception
-    String message = composeMessageWithArrays(variable_name, NULLS_IN_ARRAY_MESSAGE, nulls);
+  /**
+   * Creates an exception for an array that is either null or contains numbers that are not lesser
+   *
+   * @param array         array that failed the check
+   * @param compare       number being compared
+   * @param variable_name name of variable
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException failAllLesserThan(
+    @Nullable long[] array,
+    long compare,
+    @Nullable String variable_name
+  ){
+    if(array == null) return createException(CheckKind.ALL_LESSER_THAN, variable_name, OBJECT_NULL_MESSAGE, null, 1);
+    IndexBuffer invalid = new IndexBuffer(max_reported_indices);
+    for(int i = 0; i < array.length; i++) if(array[i] >= compare) invalid.add(i);
+    return createException(CheckKind.ALL_LESSER_THAN, variable_name, LESSER_NUMBERS_IN_ARRAY_MESSAGE, invalid, 1);
+  }
 
-    // Create exception
-    IllegalArgumentException iae = new IllegalArgumentException(message);
+  /**
+   * Creates an exception for an array that is either null or contains invalid port numbers
+   *
+   * @param ports         array that failed the check
+   * @param variable_name name of variable
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException failAllValidPortNumbers(
+    @Nullable int[] ports,
+    @Nullable String variable_name
+  ){
+    if(ports == null) return createException(CheckKind.ALL_PORT_NUMBERS, variable_name, OBJECT_NULL_MESSAGE, null, 1);
+    IndexBuffer invalid = new IndexBuffer(max_reported_indices);
+    for(int i = 0; i < ports.length; i++) if(!isValidPortNumber(ports[i])) invalid.add(i);
+    return createException(CheckKind.ALL_PORT_NUMBERS, variable_name, INVALID_PORTS_IN_ARRAY_MESSAGE, invalid, 1);
+  }
 
-    // Update stacktrace and throw it
-    throw updateStackTrace(iae, level);
+  /**
+   * Creates an exception. If stackless exceptions are enabled, the exception will have no stacktrace. Otherwise, the
+   * stacktrace will be updated to start at the caller of the assert method. Message is composed when it's first read.
+   *
+   * @param kind          kind of the failed check
+   * @param variable_name variable name to properly reference to. If variable name is empty, then it will be omitted in the message
+   * @param message       message
+   * @param indices       indices of invalid values or null if not applicable
+   * @param level         the default stacktrace removal is 2 elements from the top but this can be adjusted by adding or removing the level
+   * @return created exception
+   */
+  @Nonnull
+  private static IllegalArgumentException createException(
+    @Nonnull CheckKind kind,
+    @Nullable String variable_name,
+    @Nonnull String message,
+    @Nullable IndexBuffer indices,
+    int level
+  ){
+    Object event = ValidationEvents.beginFailure();
+    long start = ValidationMetrics.startFailure();
+    IllegalArgumentException exception;
+    if(stackless_exceptions) exception = new StacklessValidationException(variable_name, message, indices);
+    else exception = updateStackTrace(new ValidationException(variable_name, message, indices), level + 1);
+    ValidationMetrics.countFailure(kind, start);
+    ValidationEvents.endFailure(event, kind, variable_name);
+    return exception;
   }
 
   /**
@@ -1083,7 +3741,7 @@ public final class Validation{
    * @return modified Throwable
    */
   @Nonnull
-  private static <T extends Throwable> T updateStackTrace(@Nonnull T throwable, int level){
+  static <T extends Throwable> T updateStackTrace(@Nonnull T throwable, int level){
 
     // Get STE
     StackTraceElement[] ste = throwable.getStackTrace();
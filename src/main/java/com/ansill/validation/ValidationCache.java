@@ -0,0 +1,179 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of strings that passed a validation. It is a set-associative cache, each string can only be stored in
+ * one set of few slots. Sets evict with CLOCK algorithm, a hit marks its slot as referenced and a referenced slot gets
+ * a second chance before it's evicted. Lookups only write the reference mark of a slot that is not marked yet, so
+ * repeated hits of the same strings only read. Slots are replaced with compare-and-set, so racing writes never drop
+ * other entries.
+ */
+@ThreadSafe
+final class ValidationCache{
+
+  /** Number of slots in a set */
+  static final int WAYS = 4;
+
+  /** Largest capacity */
+  static final int MAX_CAPACITY = 1 << 24;
+
+  /** Longest string to be stored, longer strings are not worth the memory */
+  static final int MAX_LENGTH = 256;
+
+  /** Slots, sets are laid out one after another */
+  @Nonnull
+  private final AtomicReferenceArray<String> entries;
+
+  /** Reference marks of slots, racy updates only affect which string is evicted */
+  @Nonnull
+  private final boolean[] referenced;
+
+  /** Clock hands of sets, racy updates only affect which string is evicted */
+  @Nonnull
+  private final int[] hands;
+
+  /** Mask that turns hash into index of set */
+  private final int mask;
+
+  /** Number of lookups that found the string */
+  @Nonnull
+  private final LongAdder hits = new LongAdder();
+
+  /** Number of lookups that did not find the string */
+  @Nonnull
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates an empty cache
+   *
+   * @param capacity minimum number of strings to be stored, rounded up to a power of two and limited to
+   *                 {@link #MAX_CAPACITY}
+   */
+  ValidationCache(@Nonnegative int capacity){
+    int sets = Math.max(1, (Math.min(capacity, MAX_CAPACITY) + WAYS - 1) / WAYS);
+    if(Integer.bitCount(sets) != 1) sets = Integer.highestOneBit(sets) << 1;
+    this.entries = new AtomicReferenceArray<>(sets * WAYS);
+    this.referenced = new boolean[sets * WAYS];
+    this.hands = new int[sets];
+    this.mask = sets - 1;
+  }
+
+  /**
+   * Returns index of set where the string belongs
+   *
+   * @param string string
+   * @return index of set
+   */
+  private int setOf(@Nonnull String string){
+    int hash = string.hashCode();
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  /**
+   * Checks if string is in cache and marks it as referenced
+   *
+   * @param string string to be looked up
+   * @return true if found, false otherwise
+   */
+  boolean contains(@Nonnull String string){
+    int start = setOf(string) * WAYS;
+    for(int i = start; i < start + WAYS; i++){
+      if(!string.equals(entries.get(i))) continue;
+      if(!referenced[i]) referenced[i] = true;
+      hits.increment();
+      return true;
+    }
+    misses.increment();
+    return false;
+  }
+
+  /**
+   * Adds string to an empty slot of its set or, if the set is full, to the slot of first string that is not referenced
+   *
+   * @param string string that passed the validation
+   */
+  void add(@Nonnull String string){
+    if(string.length() > MAX_LENGTH) return;
+    int set = setOf(string);
+    int start = set * WAYS;
+
+    // Skip if another thread has added it already, otherwise prefer an empty slot
+    int empty = -1;
+    for(int i = start; i < start + WAYS; i++){
+      String entry = entries.get(i);
+      if(entry == null){
+        if(empty == -1) empty = i;
+      }else if(entry.equals(string)) return;
+    }
+    if(empty != -1){
+      if(entries.compareAndSet(empty, null, string)) removeDuplicate(string, start, empty);
+      return;
+    }
+
+    // Sweep the set, clearing reference marks until a slot that is not referenced is found
+    for(int n = 0; n < 2 * WAYS; n++){
+      int i = start + (hands[set]++ & (WAYS - 1));
+      String entry = entries.get(i);
+      if(entry != null && referenced[i]){
+        referenced[i] = false;
+        continue;
+      }
+
+      // If another writer replaced the slot first, the string is simply not cached
+      referenced[i] = false;
+      if(entries.compareAndSet(i, entry, string)) removeDuplicate(string, start, i);
+      return;
+    }
+  }
+
+  /**
+   * Removes the string from its slot if another thread has added the same string to another slot of the set
+   *
+   * @param string string that was added
+   * @param start  index of first slot of the set
+   * @param index  index of the slot where string was added
+   */
+  private void removeDuplicate(@Nonnull String string, int start, int index){
+    for(int i = start; i < start + WAYS; i++){
+      if(i != index && string.equals(entries.get(i))){
+        entries.compareAndSet(index, string, null);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns number of strings the cache can hold
+   *
+   * @return capacity
+   */
+  @Nonnegative
+  int capacity(){
+    return entries.length();
+  }
+
+  /**
+   * Returns number of lookups that found the string
+   *
+   * @return number of hits
+   */
+  @Nonnegative
+  long hits(){
+    return hits.sum();
+  }
+
+  /**
+   * Returns number of lookups that did not find the string
+   *
+   * @return number of misses
+   */
+  @Nonnegative
+  long misses(){
+    return misses.sum();
+  }
+}
@@ -0,0 +1,60 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Hooks for Flight Recorder events. This base version does nothing so Java 8 runtimes do not pay for it, Java 11 and
+ * newer runtimes load the version in the multi-release layer that emits the events. Handles returned by the begin
+ * methods must be passed to the matching end method.
+ */
+@Immutable
+final class ValidationEvents{
+
+  private ValidationEvents(){
+    // Prevents any instantiation
+  }
+
+  /**
+   * Starts timing a check of many elements or characters
+   *
+   * @return handle or null if the check is not recorded
+   */
+  @Nullable
+  static Object beginCheck(){
+    return null;
+  }
+
+  /**
+   * Finishes timing a check and records it if it's enabled
+   *
+   * @param handle        handle from {@link #beginCheck()}
+   * @param kind          kind of the check
+   * @param variable_name name of variable
+   */
+  static void endCheck(@Nullable Object handle, @Nonnull CheckKind kind, @Nullable String variable_name){
+    // Nothing to record
+  }
+
+  /**
+   * Starts timing construction of an exception for a failed check
+   *
+   * @return handle or null if the failure is not recorded
+   */
+  @Nullable
+  static Object beginFailure(){
+    return null;
+  }
+
+  /**
+   * Finishes timing construction of an exception and records it if it's enabled
+   *
+   * @param handle        handle from {@link #beginFailure()}
+   * @param kind          kind of the failed check
+   * @param variable_name name of variable
+   */
+  static void endFailure(@Nullable Object handle, @Nonnull CheckKind kind, @Nullable String variable_name){
+    // Nothing to record
+  }
+}
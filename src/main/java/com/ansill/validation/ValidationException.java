@@ -0,0 +1,100 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+/**
+ * Exception thrown when a validation fails. The message is composed on first access, so catching the exception
+ * without reading the message does not pay for building it.
+ */
+public class ValidationException extends IllegalArgumentException{
+
+  private static final long serialVersionUID = 1L;
+
+  /** Name of variable that failed the validation */
+  @Nullable
+  private final String variable_name;
+
+  /** Message constant describing the failure */
+  @Nullable
+  private final transient String message;
+
+  /** Indices of invalid members */
+  @Nullable
+  private final transient IndexBuffer indices;
+
+  /** Composed message, created lazily */
+  @Nullable
+  private String composed_message;
+
+  /**
+   * Creates an exception
+   *
+   * @param variable_name name of variable that failed the validation
+   * @param message       message constant describing the failure or null if subclass composes its own message
+   * @param indices       indices of invalid members or null if not applicable
+   */
+  ValidationException(@Nullable String variable_name, @Nullable String message, @Nullable IndexBuffer indices){
+    super((String) null);
+    this.variable_name = variable_name;
+    this.message = message;
+    this.indices = indices;
+  }
+
+  /**
+   * Creates an exception with a message that is already composed
+   *
+   * @param variable_name    name of variable that failed the validation
+   * @param composed_message composed message
+   */
+  ValidationException(@Nullable String variable_name, @Nonnull String composed_message){
+    this(variable_name, null, null);
+    this.composed_message = composed_message;
+  }
+
+  /**
+   * Creates an exception without a single failure. Subclasses that describe several failures compose their own message.
+   */
+  ValidationException(){
+    this(null, null, null);
+  }
+
+  /**
+   * Returns name of variable that failed the validation
+   *
+   * @return variable name or null if it was not provided
+   */
+  @Nullable
+  public String getVariableName(){
+    return variable_name;
+  }
+
+  /**
+   * Returns the message, composing it on first call
+   *
+   * @return message
+   */
+  @Override
+  public String getMessage(){
+    String composed_message = this.composed_message;
+    if(composed_message != null || message == null) return composed_message;
+    composed_message = indices == null ?
+                       Validation.composeMessage(variable_name, message) :
+                       Validation.composeMessageWithArrays(variable_name, message, indices);
+    this.composed_message = composed_message;
+    return composed_message;
+  }
+
+  /**
+   * Composes the message before serialization since the parts to compose it with are not serialized
+   *
+   * @param out output stream
+   * @throws IOException thrown if the serialization fails
+   */
+  private void writeObject(@Nonnull ObjectOutputStream out) throws IOException{
+    getMessage();
+    out.defaultWriteObject();
+  }
+}
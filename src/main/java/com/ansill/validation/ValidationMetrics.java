@@ -0,0 +1,246 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of performed and failed checks of each kind. Counters are striped, so threads running the same check do not
+ * contend on one memory location. Checks are counted by the switches in {@link CheckGuards}, so when metrics are
+ * disabled the counting is compiled out of the checks.
+ */
+@ThreadSafe
+final class ValidationMetrics implements ValidationMetricsMXBean{
+
+  /** Name of MBean */
+  @Nonnull
+  static final String OBJECT_NAME = "com.ansill.validation:type=ValidationMetrics";
+
+  /** Kinds of checks, indexed by ordinal */
+  @Nonnull
+  private static final CheckKind[] KINDS = CheckKind.values();
+
+  /** Numbers of performed checks, indexed by ordinal of kind */
+  @Nonnull
+  private static final LongAdder[] CALLS = createCounters();
+
+  /** Numbers of failed checks, indexed by ordinal of kind */
+  @Nonnull
+  private static final LongAdder[] FAILURES = createCounters();
+
+  /** Time spent creating exceptions in nanoseconds, indexed by ordinal of kind */
+  @Nonnull
+  private static final LongAdder[] FAILURE_NANOS = createCounters();
+
+  /** Number of scans aborted because their input exceeded the budget */
+  @Nonnull
+  private static final LongAdder ABORTED_SCANS = new LongAdder();
+
+  /** True to collect metrics */
+  private static volatile boolean enabled = false;
+
+  /** True if MBean has been registered */
+  private static boolean registered = false;
+
+  static{
+    if(Boolean.getBoolean("com.ansill.validation.metrics")) setCollecting(true);
+  }
+
+  /**
+   * Creates a view of counters for the MBean server
+   */
+  private ValidationMetrics(){
+  }
+
+  /**
+   * Creates a counter for each kind of check
+   *
+   * @return counters
+   */
+  @Nonnull
+  private static LongAdder[] createCounters(){
+    LongAdder[] counters = new LongAdder[KINDS.length];
+    for(int i = 0; i < counters.length; i++) counters[i] = new LongAdder();
+    return counters;
+  }
+
+  /**
+   * Counts a performed check
+   *
+   * @param kind kind of check
+   */
+  static void countCall(@Nonnull CheckKind kind){
+    CALLS[kind.ordinal()].increment();
+  }
+
+  /**
+   * Starts timing creation of an exception
+   *
+   * @return start time or 0 if metrics are disabled
+   */
+  static long startFailure(){
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Counts a failed check and time spent creating its exception
+   *
+   * @param kind  kind of the failed check
+   * @param start start time from {@link #startFailure()}
+   */
+  static void countFailure(@Nonnull CheckKind kind, long start){
+    if(start == 0) return;
+    FAILURES[kind.ordinal()].increment();
+    FAILURE_NANOS[kind.ordinal()].add(System.nanoTime() - start);
+  }
+
+  /**
+   * Counts a scan that was aborted because its input exceeded the budget
+   */
+  static void countAbortedScan(){
+    if(enabled) ABORTED_SCANS.increment();
+  }
+
+  /**
+   * Checks if metrics are being collected
+   *
+   * @return true if enabled, false otherwise
+   */
+  static boolean isCollecting(){
+    return enabled;
+  }
+
+  /**
+   * Starts or stops collecting metrics. MBean is registered when metrics are enabled for the first time.
+   *
+   * @param enabled true to collect metrics, false to stop collecting them
+   * @throws IllegalStateException thrown if the MBean cannot be registered
+   */
+  static synchronized void setCollecting(boolean enabled) throws IllegalStateException{
+    if(enabled && !registered){
+      try{
+        ManagementFactory.getPlatformMBeanServer().registerMBean(new ValidationMetrics(), new ObjectName(OBJECT_NAME));
+      }catch(InstanceAlreadyExistsException ignored){
+        // Another copy of the library has registered it already
+      }catch(JMException e){
+        throw new IllegalStateException("Failed to register validation metrics MBean", e);
+      }
+      registered = true;
+    }
+    ValidationMetrics.enabled = enabled;
+    CheckGuards.setCounting(enabled);
+  }
+
+  /**
+   * Returns number of performed checks
+   *
+   * @param kind kind of check
+   * @return number of checks
+   */
+  @Nonnegative
+  static long calls(@Nonnull CheckKind kind){
+    return CALLS[kind.ordinal()].sum();
+  }
+
+  /**
+   * Returns number of failed checks
+   *
+   * @param kind kind of check
+   * @return number of failed checks
+   */
+  @Nonnegative
+  static long failures(@Nonnull CheckKind kind){
+    return FAILURES[kind.ordinal()].sum();
+  }
+
+  /**
+   * Returns time spent creating exceptions for failed checks
+   *
+   * @param kind kind of check
+   * @return time in nanoseconds
+   */
+  @Nonnegative
+  static long failureNanos(@Nonnull CheckKind kind){
+    return FAILURE_NANOS[kind.ordinal()].sum();
+  }
+
+  /**
+   * Returns number of scans aborted because their input exceeded the budget
+   *
+   * @return number of aborted scans
+   */
+  @Nonnegative
+  static long abortedScans(){
+    return ABORTED_SCANS.sum();
+  }
+
+  /**
+   * Resets all counters to zero
+   */
+  static void resetCounters(){
+    ABORTED_SCANS.reset();
+    for(int i = 0; i < KINDS.length; i++){
+      CALLS[i].reset();
+      FAILURES[i].reset();
+      FAILURE_NANOS[i].reset();
+    }
+  }
+
+  /**
+   * Sums counters into a map keyed by names of kinds
+   *
+   * @param counters counters indexed by ordinal of kind
+   * @return map of sums
+   */
+  @Nonnull
+  private static Map<String, Long> toMap(@Nonnull LongAdder[] counters){
+    Map<String, Long> map = new LinkedHashMap<>();
+    for(CheckKind kind : KINDS) map.put(kind.name(), counters[kind.ordinal()].sum());
+    return map;
+  }
+
+  @Override
+  public boolean isEnabled(){
+    return isCollecting();
+  }
+
+  @Override
+  public void setEnabled(boolean enabled){
+    setCollecting(enabled);
+  }
+
+  @Nonnull
+  @Override
+  public Map<String, Long> getCallCounts(){
+    return toMap(CALLS);
+  }
+
+  @Nonnull
+  @Override
+  public Map<String, Long> getFailureCounts(){
+    return toMap(FAILURES);
+  }
+
+  @Nonnull
+  @Override
+  public Map<String, Long> getFailureNanos(){
+    return toMap(FAILURE_NANOS);
+  }
+
+  @Override
+  public long getAbortedScanCount(){
+    return abortedScans();
+  }
+
+  @Override
+  public void reset(){
+    resetCounters();
+  }
+}
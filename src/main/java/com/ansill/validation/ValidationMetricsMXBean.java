@@ -0,0 +1,62 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+
+/**
+ * Management interface of validation metrics. It is registered in the platform MBean server as
+ * {@value ValidationMetrics#OBJECT_NAME} when metrics are enabled for the first time. Maps are keyed by names of
+ * {@link CheckKind} constants.
+ */
+public interface ValidationMetricsMXBean{
+
+  /**
+   * Checks if metrics are being collected
+   *
+   * @return true if enabled, false otherwise
+   */
+  boolean isEnabled();
+
+  /**
+   * Starts or stops collecting metrics. Counters are kept when stopped.
+   *
+   * @param enabled true to collect metrics, false to stop collecting them
+   */
+  void setEnabled(boolean enabled);
+
+  /**
+   * Returns number of performed checks of each kind
+   *
+   * @return numbers of checks
+   */
+  @Nonnull
+  Map<String, Long> getCallCounts();
+
+  /**
+   * Returns number of failed checks of each kind
+   *
+   * @return numbers of failed checks
+   */
+  @Nonnull
+  Map<String, Long> getFailureCounts();
+
+  /**
+   * Returns time spent creating exceptions for failed checks of each kind
+   *
+   * @return time in nanoseconds
+   */
+  @Nonnull
+  Map<String, Long> getFailureNanos();
+
+  /**
+   * Returns number of validations that were rejected without being scanned because their input exceeded the budget
+   *
+   * @return number of aborted scans
+   */
+  long getAbortedScanCount();
+
+  /**
+   * Resets all counters to zero
+   */
+  void reset();
+}
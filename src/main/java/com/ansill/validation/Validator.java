@@ -0,0 +1,63 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Reusable checker of objects of one type. Obtain one with {@link #of(Class)}, describe the fields to be checked and
+ * build it once. Built validators are immutable and thread-safe.
+ *
+ * @param <T> type of validated objects
+ */
+public interface Validator<T>{
+
+  /**
+   * Starts describing a validator
+   *
+   * @param <T>  type of validated objects
+   * @param type class of validated objects
+   * @return builder of validator
+   * @throws IllegalArgumentException thrown if type is null
+   */
+  @Nonnull
+  static <T> ValidatorBuilder<T> of(@Nonnull Class<T> type) throws IllegalArgumentException{
+    Validation.innerAssertNonnull(type, "type", -1);
+    return new ValidatorBuilder<>();
+  }
+
+  /**
+   * Returns validator created from validation annotations of class, see {@link com.ansill.validation.annotation}.
+   * Class is introspected once and the validator is cached. Annotated fields are checked first in the order they are
+   * declared, then annotated getters in the order of their names. Use this for classes that are not compiled with the
+   * annotation processor.
+   *
+   * @param <T>  type of validated objects
+   * @param type class of validated objects
+   * @return validator
+   * @throws IllegalArgumentException thrown if type is null or if annotations cannot be applied to its members
+   */
+  @Nonnull
+  static <T> Validator<T> fromAnnotations(@Nonnull Class<T> type) throws IllegalArgumentException{
+    Validation.innerAssertNonnull(type, "type", -1);
+    return AnnotatedValidators.get(type);
+  }
+
+  /**
+   * Asserts that object satisfies every rule. If it does not, then an exception describing the first violation will be
+   * thrown.
+   *
+   * @param object object to be asserted
+   * @return valid object
+   * @throws IllegalArgumentException thrown if the object is invalid in any way
+   */
+  @Nonnull
+  T validate(@Nullable T object) throws IllegalArgumentException;
+
+  /**
+   * Checks if object satisfies every rule
+   *
+   * @param object object to be checked
+   * @return true if valid, false if invalid or null
+   */
+  boolean isValid(@Nullable T object);
+}
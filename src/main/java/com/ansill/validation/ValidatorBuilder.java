@@ -0,0 +1,107 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Describes fields of a {@link Validator}. Obtain one with {@link Validator#of(Class)}. Fields are checked in the
+ * order they are described.
+ *
+ * @param <T> type of validated objects
+ */
+@NotThreadSafe
+public final class ValidatorBuilder<T>{
+
+  /** Described fields */
+  @Nonnull
+  private final List<CompiledValidator.Field<T>> fields = new ArrayList<>();
+
+  /**
+   * Creates an empty builder
+   */
+  ValidatorBuilder(){
+  }
+
+  /**
+   * Describes a field that has to satisfy rule
+   *
+   * @param <V>           type of field
+   * @param variable_name name of field
+   * @param getter        function that reads field from object
+   * @param rule          rule to be satisfied
+   * @return this builder
+   * @throws IllegalArgumentException thrown if any of parameters is null
+   */
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  public <V> ValidatorBuilder<T> field(
+    @Nonnull String variable_name,
+    @Nonnull Function<? super T, ? extends V> getter,
+    @Nonnull Rule<? super V> rule
+  ) throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    Validation.innerAssertNonnull(getter, "getter", -1);
+    Validation.innerAssertNonnull(rule, "rule", -1);
+    fields.add(new CompiledValidator.ObjectField<>(variable_name, getter, new Rule[]{rule}));
+    return this;
+  }
+
+  /**
+   * Describes a field that has to satisfy two rules. Field is read once and the first rule is checked first.
+   *
+   * @param <V>           type of field
+   * @param variable_name name of field
+   * @param getter        function that reads field from object
+   * @param first_rule    rule to be satisfied first
+   * @param rule          rule to be satisfied next
+   * @return this builder
+   */
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  <V> ValidatorBuilder<T> field(
+    @Nonnull String variable_name,
+    @Nonnull Function<? super T, ? extends V> getter,
+    @Nonnull Rule<? super V> first_rule,
+    @Nonnull Rule<? super V> rule
+  ){
+    fields.add(new CompiledValidator.ObjectField<>(variable_name, getter, new Rule[]{first_rule, rule}));
+    return this;
+  }
+
+  /**
+   * Describes a numeric field that has to satisfy rule. Field is read without boxing.
+   *
+   * @param variable_name name of field
+   * @param getter        function that reads field from object
+   * @param rule          rule to be satisfied
+   * @return this builder
+   * @throws IllegalArgumentException thrown if any of parameters is null
+   */
+  @Nonnull
+  public ValidatorBuilder<T> field(
+    @Nonnull String variable_name,
+    @Nonnull ToLongFunction<? super T> getter,
+    @Nonnull NumberRule rule
+  ) throws IllegalArgumentException{
+    Validation.innerAssertNonnull(variable_name, "variable_name", -1);
+    Validation.innerAssertNonnull(getter, "getter", -1);
+    Validation.innerAssertNonnull(rule, "rule", -1);
+    fields.add(new CompiledValidator.NumberField<>(variable_name, getter, rule));
+    return this;
+  }
+
+  /**
+   * Builds validator with described fields. Builder can be reused afterwards, it does not affect built validators.
+   *
+   * @return validator
+   */
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  public Validator<T> build(){
+    return new CompiledValidator<>(fields.toArray(new CompiledValidator.Field[0]));
+  }
+}
@@ -0,0 +1,17 @@
+package com.ansill.validation.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Field or getter that has to be a non-empty string, collection or array, see {@link com.ansill.validation.Validation#assertNonemptyString(String, String)}
+ * and {@link com.ansill.validation.Validation#assertNonempty(java.util.Collection, String)}
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface NonEmpty{
+}
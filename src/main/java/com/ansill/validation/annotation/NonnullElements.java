@@ -0,0 +1,24 @@
+package com.ansill.validation.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Field or getter that has to be a collection or array without null elements, see
+ * {@link com.ansill.validation.Validation#assertNonnullElements(java.util.Collection, String, boolean)}
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface NonnullElements{
+
+  /**
+   * Whether an empty collection or array is allowed
+   *
+   * @return true to allow an empty collection or array, false otherwise
+   */
+  boolean emptyAllowed() default true;
+}
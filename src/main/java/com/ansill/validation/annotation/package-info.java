@@ -0,0 +1,5 @@
+/**
+ * Annotations that map fields and getters onto the checks of {@link com.ansill.validation.Validation}. Validators are
+ * generated from them by the annotation processor in the validation-processor module.
+ */
+package com.ansill.validation.annotation;
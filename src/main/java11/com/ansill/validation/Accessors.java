@@ -0,0 +1,453 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Accessors of members of validated classes, created with a lookup that has private access to the class. Getters are
+ * bound through {@link LambdaMetafactory}. Fields cannot be bound that way, so a small class is defined next to the
+ * validated class for each of them. It keeps the getter handle of the field in a static final field, which the JIT
+ * treats as a constant, so reading the field is inlined like a handwritten accessor.
+ */
+@Immutable
+final class Accessors{
+
+  /** Number of defined accessor classes, used to make their names unique */
+  @Nonnull
+  private static final AtomicLong DEFINED = new AtomicLong();
+
+  private Accessors(){
+    // Prevents any instantiation
+  }
+
+  /**
+   * Creates accessor that reads member
+   *
+   * @param type   class that declares member
+   * @param member member to be read, field or method
+   * @return accessor or null if it cannot be created
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  static Function<Object, Object> bind(@Nonnull Class<?> type, @Nonnull AccessibleObject member){
+    return (Function<Object, Object>) create(
+      type,
+      member,
+      Function.class,
+      "apply",
+      MethodType.methodType(Object.class, Object.class)
+    );
+  }
+
+  /**
+   * Creates accessor that reads numeric member without boxing
+   *
+   * @param type   class that declares member
+   * @param member member to be read, field or method
+   * @return accessor or null if it cannot be created
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  static ToLongFunction<Object> bindNumber(@Nonnull Class<?> type, @Nonnull AccessibleObject member){
+    return (ToLongFunction<Object>) create(
+      type,
+      member,
+      ToLongFunction.class,
+      "applyAsLong",
+      MethodType.methodType(long.class, Object.class)
+    );
+  }
+
+  /**
+   * Creates accessor that implements functional interface
+   *
+   * @param type           class that declares member
+   * @param member         member to be read, field or method
+   * @param interface_type functional interface
+   * @param method_name    name of method of functional interface
+   * @param method_type    type of method of functional interface
+   * @return accessor or null if it cannot be created
+   */
+  @Nullable
+  private static Object create(
+    @Nonnull Class<?> type,
+    @Nonnull AccessibleObject member,
+    @Nonnull Class<?> interface_type,
+    @Nonnull String method_name,
+    @Nonnull MethodType method_type
+  ){
+    try{
+      MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+
+      // Bind getter
+      if(member instanceof Method){
+        MethodHandle handle = lookup.unreflect((Method) member);
+        CallSite site = LambdaMetafactory.metafactory(
+          lookup,
+          method_name,
+          MethodType.methodType(interface_type),
+          method_type,
+          handle,
+          method_type.returnType() == long.class ? handle.type().changeReturnType(long.class) : handle.type().wrap()
+        );
+        return site.getTarget().invoke();
+      }
+
+      // Otherwise define class that reads field
+      byte[] bytes = defineFieldAccessor(
+        type.getName().replace('.', '/') + "$$Accessor" + DEFINED.incrementAndGet(),
+        type.getName().replace('.', '/'),
+        ((Field) member).getName(),
+        interface_type.getName().replace('.', '/'),
+        method_name,
+        method_type.toMethodDescriptorString()
+      );
+      Class<?> accessor = lookup.defineClass(bytes);
+      return lookup.findConstructor(accessor, MethodType.methodType(void.class)).invoke();
+    }catch(Throwable ignored){
+      // Class cannot be accessed, e.g. it's in a module that is not open to this library
+      return null;
+    }
+  }
+
+  /**
+   * Writes class file of a class that reads field. It implements the functional interface as follows:
+   *
+   * <pre>
+   * private static final MethodHandle GETTER;
+   *
+   * static{
+   *   GETTER = MethodHandles.privateLookupIn(Type.class, MethodHandles.lookup())
+   *                         .unreflectGetter(Type.class.getDeclaredField("field"))
+   *                         .asType(METHOD_TYPE);
+   * }
+   *
+   * public RETURN_TYPE method(Object object){
+   *   return (RETURN_TYPE) GETTER.invokeExact(object);
+   * }
+   * </pre>
+   *
+   * @param class_name        internal name of class
+   * @param type_name         internal name of class that declares field
+   * @param field_name        name of field
+   * @param interface_name    internal name of functional interface
+   * @param method_name       name of method of functional interface
+   * @param method_descriptor descriptor of method of functional interface
+   * @return class file
+   */
+  @Nonnull
+  private static byte[] defineFieldAccessor(
+    @Nonnull String class_name,
+    @Nonnull String type_name,
+    @Nonnull String field_name,
+    @Nonnull String interface_name,
+    @Nonnull String method_name,
+    @Nonnull String method_descriptor
+  ){
+    String handle_type = "java/lang/invoke/MethodHandle";
+    String handles_type = "java/lang/invoke/MethodHandles";
+    String lookup_type = "java/lang/invoke/MethodHandles$Lookup";
+    ConstantPool pool = new ConstantPool();
+    int this_class = pool.type(class_name);
+    int object_class = pool.type("java/lang/Object");
+    int interface_class = pool.type(interface_name);
+    int getter = pool.field(class_name, "GETTER", "L" + handle_type + ";");
+
+    // Constructor calls Object's constructor
+    ByteArrayOutputStream constructor = new ByteArrayOutputStream();
+    constructor.write(0x2a); // aload_0
+    writeInstruction(constructor, 0xb7, pool.method("java/lang/Object", "<init>", "()V")); // invokespecial
+    constructor.write(0xb1); // return
+
+    // Static initializer looks up the getter
+    ByteArrayOutputStream initializer = new ByteArrayOutputStream();
+    writeInstruction(initializer, 0x13, pool.type(type_name)); // ldc_w
+    writeInstruction(initializer, 0xb8, pool.method(handles_type, "lookup", "()L" + lookup_type + ";")); // invokestatic
+    writeInstruction(initializer, 0xb8, pool.method( // invokestatic
+      handles_type,
+      "privateLookupIn",
+      "(Ljava/lang/Class;L" + lookup_type + ";)L" + lookup_type + ";"
+    ));
+    writeInstruction(initializer, 0x13, pool.type(type_name)); // ldc_w
+    writeInstruction(initializer, 0x13, pool.string(field_name)); // ldc_w
+    writeInstruction(initializer, 0xb6, pool.method( // invokevirtual
+      "java/lang/Class",
+      "getDeclaredField",
+      "(Ljava/lang/String;)Ljava/lang/reflect/Field;"
+    ));
+    writeInstruction(initializer, 0xb6, pool.method( // invokevirtual
+      lookup_type,
+      "unreflectGetter",
+      "(Ljava/lang/reflect/Field;)L" + handle_type + ";"
+    ));
+    writeInstruction(initializer, 0x13, pool.methodType(method_descriptor)); // ldc_w
+    writeInstruction(initializer, 0xb6, pool.method( // invokevirtual
+      handle_type,
+      "asType",
+      "(Ljava/lang/invoke/MethodType;)L" + handle_type + ";"
+    ));
+    writeInstruction(initializer, 0xb3, getter); // putstatic
+    initializer.write(0xb1); // return
+
+    // Method of functional interface invokes the getter
+    ByteArrayOutputStream method = new ByteArrayOutputStream();
+    writeInstruction(method, 0xb2, getter); // getstatic
+    method.write(0x2b); // aload_1
+    writeInstruction(method, 0xb6, pool.method(handle_type, "invokeExact", method_descriptor)); // invokevirtual
+    method.write(method_descriptor.endsWith("J") ? 0xad : 0xb0); // lreturn or areturn
+
+    // Write class file
+    try{
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream output = new DataOutputStream(bytes);
+      output.writeInt(0xcafebabe);
+      output.writeShort(0); // minor version
+      output.writeShort(52); // major version, Java 8
+      int code = pool.utf8("Code");
+      int init = pool.utf8("<init>");
+      int clinit = pool.utf8("<clinit>");
+      int method_name_index = pool.utf8(method_name);
+      int void_descriptor = pool.utf8("()V");
+      int method_descriptor_index = pool.utf8(method_descriptor);
+      int getter_name = pool.utf8("GETTER");
+      int getter_descriptor = pool.utf8("L" + handle_type + ";");
+      pool.writeTo(output);
+      output.writeShort(0x1031); // public, final, super, synthetic
+      output.writeShort(this_class);
+      output.writeShort(object_class);
+      output.writeShort(1);
+      output.writeShort(interface_class);
+
+      // Field that keeps the getter
+      output.writeShort(1);
+      output.writeShort(0x101a); // private, static, final, synthetic
+      output.writeShort(getter_name);
+      output.writeShort(getter_descriptor);
+      output.writeShort(0);
+
+      // Methods
+      output.writeShort(3);
+      writeMethod(output, 0x0001, init, void_descriptor, code, 1, 1, constructor); // public
+      writeMethod(output, 0x0008, clinit, void_descriptor, code, 3, 0, initializer); // static
+      writeMethod(output, 0x0001, method_name_index, method_descriptor_index, code, 2, 2, method); // public
+      output.writeShort(0);
+      return bytes.toByteArray();
+    }catch(IOException e){
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes instruction with an index into the constant pool
+   *
+   * @param code   code of method
+   * @param opcode opcode of instruction
+   * @param index  index into the constant pool
+   */
+  private static void writeInstruction(@Nonnull ByteArrayOutputStream code, int opcode, int index){
+    code.write(opcode);
+    code.write(index >> 8);
+    code.write(index);
+  }
+
+  /**
+   * Writes method with its code
+   *
+   * @param output     class file
+   * @param access     access flags
+   * @param name       index of name
+   * @param descriptor index of descriptor
+   * @param attribute  index of code attribute name
+   * @param max_stack  maximum depth of operand stack
+   * @param max_locals number of local variables
+   * @param code       code of method
+   * @throws IOException thrown if it cannot be written
+   */
+  private static void writeMethod(
+    @Nonnull DataOutputStream output,
+    int access,
+    int name,
+    int descriptor,
+    int attribute,
+    int max_stack,
+    int max_locals,
+    @Nonnull ByteArrayOutputStream code
+  ) throws IOException{
+    output.writeShort(access);
+    output.writeShort(name);
+    output.writeShort(descriptor);
+    output.writeShort(1);
+    output.writeShort(attribute);
+    output.writeInt(12 + code.size());
+    output.writeShort(max_stack);
+    output.writeShort(max_locals);
+    output.writeInt(code.size());
+    code.writeTo(output);
+    output.writeShort(0); // exception table
+    output.writeShort(0); // attributes
+  }
+
+  /**
+   * Constant pool of a class file. Equal constants share their index.
+   */
+  private static final class ConstantPool{
+
+    /** Indices of constants */
+    @Nonnull
+    private final Map<String, Integer> indices = new HashMap<>();
+
+    /** Written constants */
+    @Nonnull
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    /** Written constants as data */
+    @Nonnull
+    private final DataOutputStream output = new DataOutputStream(bytes);
+
+    /** Index of next constant */
+    private int next = 1;
+
+    /**
+     * Adds UTF-8 constant
+     *
+     * @param value value of constant
+     * @return index of constant
+     */
+    int utf8(@Nonnull String value){
+      Integer index = indices.get("Utf8 " + value);
+      if(index != null) return index;
+      try{
+        output.writeByte(1);
+        output.writeUTF(value);
+      }catch(IOException e){
+        throw new UncheckedIOException(e);
+      }
+      return add("Utf8 " + value);
+    }
+
+    /**
+     * Adds class constant
+     *
+     * @param name internal name of class
+     * @return index of constant
+     */
+    int type(@Nonnull String name){
+      return add(7, "Class " + name, utf8(name));
+    }
+
+    /**
+     * Adds string constant
+     *
+     * @param value value of string
+     * @return index of constant
+     */
+    int string(@Nonnull String value){
+      return add(8, "String " + value, utf8(value));
+    }
+
+    /**
+     * Adds method type constant
+     *
+     * @param descriptor descriptor of method type
+     * @return index of constant
+     */
+    int methodType(@Nonnull String descriptor){
+      return add(16, "MethodType " + descriptor, utf8(descriptor));
+    }
+
+    /**
+     * Adds field reference constant
+     *
+     * @param owner      internal name of class that declares field
+     * @param name       name of field
+     * @param descriptor descriptor of field
+     * @return index of constant
+     */
+    int field(@Nonnull String owner, @Nonnull String name, @Nonnull String descriptor){
+      return add(9, "Field " + owner + "." + name + ":" + descriptor, type(owner), nameAndType(name, descriptor));
+    }
+
+    /**
+     * Adds method reference constant
+     *
+     * @param owner      internal name of class that declares method
+     * @param name       name of method
+     * @param descriptor descriptor of method
+     * @return index of constant
+     */
+    int method(@Nonnull String owner, @Nonnull String name, @Nonnull String descriptor){
+      return add(10, "Method " + owner + "." + name + descriptor, type(owner), nameAndType(name, descriptor));
+    }
+
+    /**
+     * Adds name and type constant
+     *
+     * @param name       name of member
+     * @param descriptor descriptor of member
+     * @return index of constant
+     */
+    private int nameAndType(@Nonnull String name, @Nonnull String descriptor){
+      return add(12, "NameAndType " + name + ":" + descriptor, utf8(name), utf8(descriptor));
+    }
+
+    /**
+     * Adds constant that refers to other constants
+     *
+     * @param tag        tag of constant
+     * @param key        key of constant
+     * @param references indices of referred constants
+     * @return index of constant
+     */
+    private int add(int tag, @Nonnull String key, @Nonnull int... references){
+      Integer index = indices.get(key);
+      if(index != null) return index;
+      try{
+        output.writeByte(tag);
+        for(int reference : references) output.writeShort(reference);
+      }catch(IOException e){
+        throw new UncheckedIOException(e);
+      }
+      return add(key);
+    }
+
+    /**
+     * Assigns index to the constant that was written last
+     *
+     * @param key key of constant
+     * @return index of constant
+     */
+    private int add(@Nonnull String key){
+      indices.put(key, next);
+      return next++;
+    }
+
+    /**
+     * Writes constant pool with its count
+     *
+     * @param output class file
+     * @throws IOException thrown if it cannot be written
+     */
+    void writeTo(@Nonnull DataOutputStream output) throws IOException{
+      output.writeShort(next);
+      bytes.writeTo(output);
+    }
+  }
+}
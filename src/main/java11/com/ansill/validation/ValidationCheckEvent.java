@@ -0,0 +1,31 @@
+package com.ansill.validation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a check of many elements or characters, such as null element checks and streaming scans.
+ * It is disabled by default and only checks that take longer than the threshold are recorded when it's enabled.
+ */
+@Name("com.ansill.validation.ValidationCheck")
+@Label("Validation Check")
+@Category("Validation")
+@Description("Check of array, collection or streamed input that took longer than the threshold")
+@Enabled(false)
+@Threshold("20 us")
+@StackTrace(false)
+final class ValidationCheckEvent extends jdk.jfr.Event{
+
+  /** Name of check kind */
+  @Label("Check")
+  String check;
+
+  /** Name of variable */
+  @Label("Variable Name")
+  String variable_name;
+}
@@ -0,0 +1,76 @@
+package com.ansill.validation;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Hooks for Flight Recorder events. Events are created for every call, when recording is disabled the event methods
+ * are empty and the JIT removes the allocation. Handles returned by the begin methods must be passed to the matching
+ * end method.
+ */
+@Immutable
+final class ValidationEvents{
+
+  private ValidationEvents(){
+    // Prevents any instantiation
+  }
+
+  /**
+   * Starts timing a check of many elements or characters
+   *
+   * @return handle
+   */
+  @Nonnull
+  static Object beginCheck(){
+    ValidationCheckEvent event = new ValidationCheckEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Finishes timing a check and records it if it's enabled
+   *
+   * @param handle        handle from {@link #beginCheck()}
+   * @param kind          kind of the check
+   * @param variable_name name of variable
+   */
+  static void endCheck(@Nullable Object handle, @Nonnull CheckKind kind, @Nullable String variable_name){
+    ValidationCheckEvent event = (ValidationCheckEvent) handle;
+    if(event == null) return;
+    event.end();
+    if(!event.shouldCommit()) return;
+    event.check = kind.name();
+    event.variable_name = variable_name;
+    event.commit();
+  }
+
+  /**
+   * Starts timing construction of an exception for a failed check
+   *
+   * @return handle
+   */
+  @Nonnull
+  static Object beginFailure(){
+    ValidationFailureEvent event = new ValidationFailureEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Finishes timing construction of an exception and records it if it's enabled
+   *
+   * @param handle        handle from {@link #beginFailure()}
+   * @param kind          kind of the failed check
+   * @param variable_name name of variable
+   */
+  static void endFailure(@Nullable Object handle, @Nonnull CheckKind kind, @Nullable String variable_name){
+    ValidationFailureEvent event = (ValidationFailureEvent) handle;
+    if(event == null) return;
+    event.end();
+    if(!event.shouldCommit()) return;
+    event.check = kind.name();
+    event.variable_name = variable_name;
+    event.commit();
+  }
+}
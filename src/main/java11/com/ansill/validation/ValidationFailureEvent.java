@@ -0,0 +1,27 @@
+package com.ansill.validation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a failed check. Its duration is the time spent constructing the exception, including
+ * trimming of its stacktrace.
+ */
+@Name("com.ansill.validation.ValidationFailure")
+@Label("Validation Failure")
+@Category("Validation")
+@Description("Check that failed and time spent constructing its exception")
+@StackTrace(false)
+final class ValidationFailureEvent extends jdk.jfr.Event{
+
+  /** Name of check kind */
+  @Label("Check")
+  String check;
+
+  /** Name of variable */
+  @Label("Variable Name")
+  String variable_name;
+}
@@ -2,6 +2,8 @@ package com.ansill.validation;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.List;
 
 /**
@@ -15,15 +17,33 @@ public final class Bypass{
   @Nonnull
   public static final String INVALID_HOSTNAME_MESSAGE = Validation.INVALID_HOSTNAME_MESSAGE;
 
+  @Nonnull
+  public static final String INVALID_IPV6_MESSAGE = Validation.INVALID_IPV6_MESSAGE;
+
+  @Nonnull
+  public static final String INVALID_IP_MESSAGE = Validation.INVALID_IP_MESSAGE;
+
+  @Nonnull
+  public static final String INVALID_HOST_AND_PORT_MESSAGE = Validation.INVALID_HOST_AND_PORT_MESSAGE;
+
   @Nonnull
   public static final String INVALID_PORT_MESSAGE = Validation.INVALID_PORT_MESSAGE;
 
+  @Nonnull
+  public static final String SCAN_BUDGET_MESSAGE = Validation.SCAN_BUDGET_MESSAGE;
+
   @Nonnull
   public static final String OBJECT_NULL_MESSAGE = Validation.OBJECT_NULL_MESSAGE;
 
   @Nonnull
   public static final String NATURAL_NUMBER_MESSAGE = Validation.NATURAL_NUMBER_MESSAGE;
 
+  @Nonnull
+  public static final String GREATER_NUMBER_MESSAGE = Validation.GREATER_NUMBER_MESSAGE;
+
+  @Nonnull
+  public static final String LESSER_NUMBER_MESSAGE = Validation.LESSER_NUMBER_MESSAGE;
+
   @Nonnull
   public static final String NONNEGATIVE_NUMBER_MESSAGE = Validation.NONNEGATIVE_NUMBER_MESSAGE;
 
@@ -36,6 +56,25 @@ public final class Bypass{
   @Nonnull
   public static final String NULLS_IN_ARRAY_MESSAGE = Validation.NULLS_IN_ARRAY_MESSAGE;
 
+  @Nonnull
+  public static final String NEGATIVES_IN_ARRAY_MESSAGE = Validation.NEGATIVES_IN_ARRAY_MESSAGE;
+
+  @Nonnull
+  public static final String INVALID_PORTS_IN_ARRAY_MESSAGE = Validation.INVALID_PORTS_IN_ARRAY_MESSAGE;
+
+  @Nonnull
+  public static final String NATURAL_NUMBERS_IN_ARRAY_MESSAGE = Validation.NATURAL_NUMBERS_IN_ARRAY_MESSAGE;
+
+  @Nonnull
+  public static final String GREATER_NUMBERS_IN_ARRAY_MESSAGE = Validation.GREATER_NUMBERS_IN_ARRAY_MESSAGE;
+
+  @Nonnull
+  public static final String LESSER_NUMBERS_IN_ARRAY_MESSAGE = Validation.LESSER_NUMBERS_IN_ARRAY_MESSAGE;
+
+  public static final int DEFAULT_MAX_REPORTED_INDICES = Validation.DEFAULT_MAX_REPORTED_INDICES;
+
+  public static final int DEFAULT_MAX_SCAN_LENGTH = ScanBudget.DEFAULT_MAX_LENGTH;
+
   private Bypass(){
   }
 
@@ -48,7 +87,22 @@ public final class Bypass{
     @Nonnull String message,
     @Nonnull List<Integer> indices
   ){
-    return Validation.composeMessageWithArrays(variable_name, message, indices);
+    IndexBuffer buffer = new IndexBuffer(Validation.getMaxReportedIndices());
+    for(int index : indices) buffer.add(index);
+    return Validation.composeMessageWithArrays(variable_name, message, buffer);
+  }
+
+  public static boolean isValidHostname(@Nonnull CharSequence hostname){
+    return HostnameScanner.isValid(hostname);
+  }
+
+  public static boolean isValidEmailAddress(@Nonnull CharSequence email_address){
+    return EmailAddressScanner.isValid(email_address);
+  }
+
+  public static Class<?> reload(@Nonnull Class<?> type) throws ClassNotFoundException{
+    URL classes = Validation.class.getProtectionDomain().getCodeSource().getLocation();
+    return Class.forName(type.getName(), true, new URLClassLoader(new URL[]{classes}, null));
   }
 
 }
@@ -10,7 +10,9 @@ public class TestValues{
     "cloudflare.com",
     "foo.bar.something.lse.com",
     "192.192.129.112",
-    "something.else"
+    "something.else",
+    "2001:db8::1",
+    "fe80::1%eth0"
   ));
 
   public static final HashSet<String> INVALID_HOSTNAMES = new HashSet<>(Arrays.asList(
@@ -18,7 +20,53 @@ public class TestValues{
     "google.$$#com",
     "cloudf##@lare.com",
     "foo.ba$$#r.something.lse.com",
-    "192.192.12#$9.112"
+    "192.192.12#$9.112",
+    "2001:db8:::1",
+    "[2001:db8::1]"
+  ));
+
+  public static final HashSet<String> VALID_IPV6_ADDRESSES = new HashSet<>(Arrays.asList(
+    "::",
+    "::1",
+    "1::",
+    "2001:db8::1",
+    "2001:DB8:0:0:8:800:200C:417A",
+    "2001:db8:0:0:8:800:200c::",
+    "1:2:3:4:5:6:7:8",
+    "1::8",
+    "1:2:3:4:5:6::8",
+    "::ffff:192.0.2.128",
+    "::192.0.2.128",
+    "1:2:3:4:5:6:192.0.2.128",
+    "64:ff9b::192.0.2.33",
+    "fe80::1%eth0",
+    "fe80::a:b%en0.100",
+    "::ffff:10.0.0.1%1"
+  ));
+
+  public static final HashSet<String> INVALID_IPV6_ADDRESSES = new HashSet<>(Arrays.asList(
+    "",
+    ":",
+    ":::",
+    "1:",
+    ":1",
+    "1:2:3:4:5:6:7",
+    "1:2:3:4:5:6:7:8:9",
+    "1:2:3:4:5:6:7::8",
+    "1::2::3",
+    "12345::",
+    "g::1",
+    "::ffff:192.0.2.256",
+    "::ffff:192.0.2",
+    "1:2:3:4:5:6:7:192.0.2.128",
+    "1:2:3:4:5:6::192.0.2.128",
+    "::192.0.2.128:1",
+    "fe80::1%",
+    "fe80::1%eth0%1",
+    "fe80::1%eth 0",
+    "[::1]",
+    "192.0.2.128",
+    "2001:db8::1 "
   ));
 
   public static final HashSet<String> VALID_EMAIL_ADDRESSES = new HashSet<>(Arrays.asList(
@@ -30,6 +78,8 @@ public class TestValues{
     "firstname+lastname@example.com",
     "email@123.123.123.123",
     "email@[123.123.123.123]",
+    "email@[IPv6:2001:db8::1]",
+    "email@[ipv6:::ffff:192.0.2.128]",
     //"“email”@example.com",
     "1234567890@example.com",
     "email@example-one.com",
@@ -45,6 +95,9 @@ public class TestValues{
 
   public static final HashSet<String> INVALID_EMAIL_ADDRESSES = new HashSet<>(Arrays.asList(
     "plainaddress",
+    "email@[IPv6:2001:db8:::1]",
+    "email@[IPv6:fe80::1%eth0]",
+    "email@[IPv6:]",
     "#@%^%#$@#$@#.com",
     "@example.com",
     "Joe Smith <email@example.com>",
@@ -0,0 +1,92 @@
+package com.ansill.validation.test;
+
+import com.ansill.validation.Batch;
+import com.ansill.validation.BatchValidationException;
+import com.ansill.validation.Bypass;
+import com.ansill.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchTest{
+
+  @DisplayName("Test validating a batch without violations")
+  @Test
+  void testValidBatch(){
+
+    Batch batch = Validation.batch()
+                            .nonnull(new Object(), "object")
+                            .validHostname("ansill.com", "hostname")
+                            .validPortNumber(8080, "port")
+                            .validEmailAddress("email@example.com", "email_address")
+                            .naturalNumber(1, "natural")
+                            .nonnegative(0, "nonnegative")
+                            .greaterThan(2, 1, "greater")
+                            .lesserThan(1, 2, "lesser")
+                            .nonemptyString("something", "string")
+                            .nonempty(Collections.singleton("something"), "collection")
+                            .nonempty(new String[]{"something"}, "array")
+                            .nonnullElements(Arrays.asList("something", "else"), "list", false)
+                            .nonnullElements(new String[0], "empty", true);
+
+    assertTrue(batch.isValid());
+    assertEquals(0, batch.getViolationCount());
+    assertDoesNotThrow(batch::validate);
+  }
+
+  @DisplayName("Test validating a batch with violations")
+  @Test
+  void testInvalidBatch(){
+
+    Batch batch = Validation.batch(1)
+                            .validHostname("google.$$#com", "hostname")
+                            .validPortNumber(0, "port")
+                            .validEmailAddress(null, "email_address")
+                            .naturalNumber(1, "natural")
+                            .nonnullElements(new String[]{"something", null, null}, "array", true);
+
+    assertFalse(batch.isValid());
+    assertEquals(4, batch.getViolationCount());
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+    BatchValidationException bve = assertThrows(
+      BatchValidationException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        batch.validate();
+      }
+    );
+
+    assertEquals(4, bve.getViolationCount());
+    assertEquals(Arrays.asList("hostname", "port", "email_address", "array"), bve.getVariableNames());
+    assertEquals(
+      "4 violation(s) found: " +
+      Bypass.composeMessage("hostname", Bypass.INVALID_HOSTNAME_MESSAGE) + "; " +
+      Bypass.composeMessage("port", Bypass.INVALID_PORT_MESSAGE) + "; " +
+      Bypass.composeMessage("email_address", Bypass.OBJECT_NULL_MESSAGE) + "; " +
+      Bypass.composeMessageWithArrays("array", Bypass.NULLS_IN_ARRAY_MESSAGE, Arrays.asList(1, 2)),
+      bve.getMessage()
+    );
+
+    ValidationTest.assertStackTrace(ste.get()[0], bve.getStackTrace()[0], 2);
+  }
+
+  @DisplayName("Test validating a batch with null variable name")
+  @Test
+  void testNullVariableName(){
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validation.batch().validPortNumber(0, null)
+    );
+
+    assertEquals(Bypass.composeMessage("variable_name", Bypass.OBJECT_NULL_MESSAGE), iae.getMessage());
+  }
+}
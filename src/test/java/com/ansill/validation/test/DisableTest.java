@@ -0,0 +1,87 @@
+package com.ansill.validation.test;
+
+import com.ansill.validation.Bypass;
+import com.ansill.validation.CheckKind;
+import com.ansill.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DisableTest{
+
+  @AfterEach
+  void enableAll(){
+    for(CheckKind kind : CheckKind.values()) if(kind != CheckKind.HOST_AND_PORT) Validation.enable(kind);
+  }
+
+  @DisplayName("Test disabling and enabling checks")
+  @Test
+  void testDisable(){
+
+    String hostname = "google.$$#com";
+
+    Validation.disable(CheckKind.HOSTNAME);
+    assertFalse(Validation.isEnabled(CheckKind.HOSTNAME));
+    assertSame(hostname, Validation.assertValidHostname(hostname, "hostname"));
+    assertNull(Validation.assertValidHostname(null));
+    assertThrows(IllegalArgumentException.class, () -> Validation.assertValidEmailAddress(hostname));
+
+    Validation.enable(CheckKind.HOSTNAME);
+    assertTrue(Validation.isEnabled(CheckKind.HOSTNAME));
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validation.assertValidHostname(hostname, "hostname")
+    );
+    assertEquals(Bypass.composeMessage("hostname", Bypass.INVALID_HOSTNAME_MESSAGE), iae.getMessage());
+  }
+
+  @DisplayName("Test disabling null checks")
+  @Test
+  void testDisableNonnull(){
+
+    Validation.disable(CheckKind.NONNULL);
+    assertNull(Validation.assertNonnull(null, "object"));
+
+    // Null checks of other checks are not affected
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validation.assertAllNonnegative((int[]) null, "array")
+    );
+    assertEquals(Bypass.composeMessage("array", Bypass.OBJECT_NULL_MESSAGE), iae.getMessage());
+  }
+
+  @DisplayName("Test that arguments of the library are checked when checks are disabled")
+  @Test
+  void testDisableArguments(){
+
+    Validation.disable(CheckKind.NONNULL);
+    Validation.disable(CheckKind.NATURAL_NUMBER);
+    Validation.disable(CheckKind.NONNEGATIVE);
+
+    assertThrows(IllegalArgumentException.class, () -> Validation.assertNonnull("a", null));
+    assertThrows(IllegalArgumentException.class, () -> Validation.batch().nonnull(null, null));
+    assertThrows(IllegalArgumentException.class, () -> Validation.getCallCount(null));
+    assertThrows(IllegalArgumentException.class, () -> Validation.setMaxReportedIndices(0));
+    assertThrows(IllegalArgumentException.class, () -> Validation.batch(-1));
+  }
+
+  @DisplayName("Test disabling checks of arrays that share an implementation")
+  @Test
+  void testDisableArrays(){
+
+    int[] array = {1, 0, -1};
+
+    Validation.disable(CheckKind.ALL_NATURAL_NUMBERS);
+    assertSame(array, Validation.assertAllNaturalNumbers(array));
+    assertThrows(IllegalArgumentException.class, () -> Validation.assertAllGreaterThan(array, 0));
+  }
+
+  @DisplayName("Test disabling host and port checks")
+  @Test
+  void testDisableHostAndPort(){
+    assertThrows(IllegalArgumentException.class, () -> Validation.disable(CheckKind.HOST_AND_PORT));
+    assertTrue(Validation.isEnabled(CheckKind.HOST_AND_PORT));
+  }
+}
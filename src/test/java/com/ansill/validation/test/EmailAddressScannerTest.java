@@ -0,0 +1,88 @@
+package com.ansill.validation.test;
+
+import com.ansill.validation.Bypass;
+import com.ansill.validation.TestValues;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailAddressScannerTest{
+
+  /** Original regex pattern for valid email address */
+  private static final Pattern EMAIL_REGEX = Pattern.compile(
+    "(?:[a-z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\.[a-z0-9!#$%&'*+/=?^_`{|}~-]+)*|\"(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21\\x23-\\x5b\\x5d-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])*\")@(?:(?:[a-z0-9](?:[a-z0-9-]*[a-z0-9])?\\.)+[a-z0-9](?:[a-z0-9-]*[a-z0-9])?|\\[(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?|[a-z0-9-]*[a-z0-9]:(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21-\\x5a\\x53-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])+)])");
+
+  /** Regex pattern for valid email address with IPv6 address literal */
+  private static final Pattern IPV6_EMAIL_REGEX = Pattern.compile(
+    "(?:[a-z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\.[a-z0-9!#$%&'*+/=?^_`{|}~-]+)*|\"(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21\\x23-\\x5b\\x5d-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])*\")@\\[ipv6:" +
+    IpAddressScannerTest.IPV6 + "]");
+
+  /** Fragments to build random email addresses from */
+  private static final String[] FRAGMENTS = {
+    "a", "Z", "0", "1", "25", "255", "256", "099", "1234", ".", ".", "@", "@", "-", "\"", "\\", "[", "]", ":",
+    " ", "\t", "\n", "!", "~", "(", "é", "\u0001", "example.com", "[1.2.3", "x:", "[IPv6:", "::", "%"
+  };
+
+  static void assertSameAsRegex(String email_address){
+    String lowercase = email_address.toLowerCase(Locale.ROOT);
+    boolean expected = EMAIL_REGEX.matcher(lowercase).matches() || IPV6_EMAIL_REGEX.matcher(lowercase).matches();
+    assertEquals(expected, Bypass.isValidEmailAddress(email_address), email_address);
+  }
+
+  static String repeat(String string, int count){
+    StringBuilder sb = new StringBuilder(string.length() * count);
+    for(int i = 0; i < count; i++) sb.append(string);
+    return sb.toString();
+  }
+
+  @DisplayName("Test scanner against regex with test values")
+  @Test
+  void testTestValues(){
+    TestValues.VALID_EMAIL_ADDRESSES.forEach(EmailAddressScannerTest::assertSameAsRegex);
+    TestValues.INVALID_EMAIL_ADDRESSES.forEach(EmailAddressScannerTest::assertSameAsRegex);
+  }
+
+  @DisplayName("Test scanner against regex with hand-picked edge cases")
+  @Test
+  void testEdgeCases(){
+    String[] values = {
+      "\"\"@example.com", "\"a\\\"b\"@example.com", "\"a b\"@example.com", "\"a\\ b\"@example.com",
+      "a@[1.2.3.4]", "a@[01.02.003.255]", "a@[1.2.3.256]", "a@[1.2.3]", "a@[1.2.3.4", "a@[1.2.3.4]]",
+      "a@[1.2.3.ipv6:a]", "a@[1.2.3.x-:a]", "a@[1.2.3.x:]", "a@[1.2.3.x:\\ ]", "a@[1.2.3.x: ]",
+      "a@[1.2.3.x:]]", "a@[1.2.3.x:\\]", "a@[1.2.3.x:\\\\ ]", "A.B@EXAMPLE.COM", "a@b", "a@b.", "a@.b.c",
+      "a.@b.c", "a@b-.c", "a@b.c-d", "", "@", "a@", "\"@b.c", "\"a\"b@c.d",
+      "a@[IPv6:::1]", "a@[IPV6:1:2:3:4:5:6:7:8]", "a@[IPv6:1:2:3:4:5:6:1.2.3.4]", "a@[IPv6::1]", "a@[IPv6:1::2::3]",
+      "a@[IPv6:fe80::1%eth0]", "a@[IPv6:::1", "a@[IPv6:::1]]", "a@[IPv6:1.2.3.4]", "a@[IPv6 :::1]"
+    };
+    for(String value : values) assertSameAsRegex(value);
+  }
+
+  @DisplayName("Test scanner against regex with random strings")
+  @Test
+  void testRandom(){
+    Random random = new Random(42);
+    for(int n = 0; n < 200_000; n++){
+      StringBuilder sb = new StringBuilder();
+      int fragments = random.nextInt(12);
+      for(int i = 0; i < fragments; i++) sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+      assertSameAsRegex(sb.toString());
+    }
+  }
+
+  @DisplayName("Test scanner with long adversarial inputs")
+  @Test
+  void testAdversarial(){
+    assertFalse(Bypass.isValidEmailAddress(repeat("a.", 500_000) + "@"));
+    assertFalse(Bypass.isValidEmailAddress("\"" + repeat("\\a", 500_000)));
+    assertFalse(Bypass.isValidEmailAddress("a@" + repeat("a-", 500_000)));
+    assertFalse(Bypass.isValidEmailAddress("a@[1.2.3.x:" + repeat("\\ ", 500_000)));
+    assertTrue(Bypass.isValidEmailAddress(repeat("a.", 500_000) + "a@example.com"));
+  }
+}
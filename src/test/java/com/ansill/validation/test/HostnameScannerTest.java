@@ -0,0 +1,67 @@
+package com.ansill.validation.test;
+
+import com.ansill.validation.Bypass;
+import com.ansill.validation.TestValues;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HostnameScannerTest{
+
+  /** Original regex pattern for valid IPv4 address */
+  private static final Pattern IP_REGEX = Pattern.compile(
+    "^(([0-9]|[1-9][0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])\\.){3}([0-9]|[1-9][0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])$");
+
+  /** Original regex pattern for valid hostname */
+  private static final Pattern HOSTNAME_REGEX = Pattern.compile(
+    "^(([a-zA-Z0-9]|[a-zA-Z0-9][a-zA-Z0-9\\-]*[a-zA-Z0-9])\\.)*([A-Za-z0-9]|[A-Za-z0-9][A-Za-z0-9\\-]*[A-Za-z0-9])$");
+
+  static void assertSameAsRegex(String hostname){
+    boolean expected = IP_REGEX.matcher(hostname).matches() ||
+                       HOSTNAME_REGEX.matcher(hostname).matches() ||
+                       IpAddressScannerTest.IPV6_REGEX.matcher(hostname).matches();
+    assertEquals(expected, Bypass.isValidHostname(hostname), hostname);
+  }
+
+  @DisplayName("Test scanner against regex with test values")
+  @Test
+  void testTestValues(){
+    TestValues.VALID_HOSTNAMES.forEach(HostnameScannerTest::assertSameAsRegex);
+    TestValues.INVALID_HOSTNAMES.forEach(HostnameScannerTest::assertSameAsRegex);
+  }
+
+  @DisplayName("Test scanner against regex with every short string")
+  @Test
+  void testExhaustive(){
+    char[] alphabet = {'a', 'Z', '0', '-', '.', '_'};
+    for(int length = 0; length <= 7; length++){
+      int[] digits = new int[length];
+      char[] buffer = new char[length];
+      while(true){
+        for(int i = 0; i < length; i++) buffer[i] = alphabet[digits[i]];
+        assertSameAsRegex(new String(buffer));
+
+        // Increment like an odometer
+        int position = 0;
+        while(position < length && ++digits[position] == alphabet.length) digits[position++] = 0;
+        if(position == length) break;
+      }
+    }
+  }
+
+  @DisplayName("Test scanner against regex with random strings")
+  @Test
+  void testRandom(){
+    char[] alphabet = {'1', '2', '5', '0', '9', '.', '.', 'x', 'X', '-', ' ', 'é'};
+    Random random = new Random(42);
+    for(int n = 0; n < 100_000; n++){
+      char[] buffer = new char[random.nextInt(24)];
+      for(int i = 0; i < buffer.length; i++) buffer[i] = alphabet[random.nextInt(alphabet.length)];
+      assertSameAsRegex(new String(buffer));
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.ansill.validation.test;
+
+import com.ansill.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InliningTest{
+
+  /** Default HotSpot MaxInlineSize, methods up to this size are inlined even when they are not hot */
+  private static final int MAX_INLINE_SIZE = 35;
+
+  /** Size allowed for checks that loop over elements */
+  private static final int MAX_LOOP_SIZE = 80;
+
+  /**
+   * Reads sizes of bytecode of methods in a class file
+   *
+   * @param input class file
+   * @return map of method names with descriptors to largest size of their bytecode
+   * @throws IOException thrown if class file cannot be read
+   */
+  @Nonnull
+  private static Map<String, Integer> readCodeLengths(@Nonnull InputStream input) throws IOException{
+    DataInputStream data = new DataInputStream(input);
+    data.readInt(); // magic
+    data.readInt(); // minor and major versions
+
+    // Read constant pool, only UTF-8 constants are kept
+    int count = data.readUnsignedShort();
+    String[] utf8 = new String[count];
+    for(int i = 1; i < count; i++){
+      int tag = data.readUnsignedByte();
+      switch(tag){
+        case 1:
+          utf8[i] = data.readUTF();
+          break;
+        case 5: // long
+        case 6: // double
+          data.skipBytes(8);
+          i++;
+          break;
+        case 3: // integer
+        case 4: // float
+        case 9: // field reference
+        case 10: // method reference
+        case 11: // interface method reference
+        case 12: // name and type
+        case 17: // dynamic
+        case 18: // invoke dynamic
+          data.skipBytes(4);
+          break;
+        case 15: // method handle
+          data.skipBytes(3);
+          break;
+        case 7: // class
+        case 8: // string
+        case 16: // method type
+        case 19: // module
+        case 20: // package
+          data.skipBytes(2);
+          break;
+        default:
+          throw new IOException("Unknown constant tag " + tag);
+      }
+    }
+
+    // Skip access flags, this class, super class and interfaces
+    data.skipBytes(6);
+    data.skipBytes(data.readUnsignedShort() * 2);
+
+    // Skip fields
+    int fields = data.readUnsignedShort();
+    for(int i = 0; i < fields; i++){
+      data.skipBytes(6);
+      skipAttributes(data);
+    }
+
+    // Read methods
+    Map<String, Integer> lengths = new HashMap<>();
+    int methods = data.readUnsignedShort();
+    for(int i = 0; i < methods; i++){
+      data.skipBytes(2);
+      String name = utf8[data.readUnsignedShort()] + utf8[data.readUnsignedShort()];
+      int attributes = data.readUnsignedShort();
+      for(int j = 0; j < attributes; j++){
+        String attribute = utf8[data.readUnsignedShort()];
+        int length = data.readInt();
+        if(!attribute.equals("Code")){
+          data.skipBytes(length);
+          continue;
+        }
+        data.skipBytes(4); // max stack and max locals
+        int code_length = data.readInt();
+        data.skipBytes(length - 8);
+        lengths.merge(name, code_length, Math::max);
+      }
+    }
+    return lengths;
+  }
+
+  /**
+   * Skips attributes of a field
+   *
+   * @param data class file
+   * @throws IOException thrown if class file cannot be read
+   */
+  private static void skipAttributes(@Nonnull DataInputStream data) throws IOException{
+    int attributes = data.readUnsignedShort();
+    for(int i = 0; i < attributes; i++){
+      data.skipBytes(2);
+      data.skipBytes(data.readInt());
+    }
+  }
+
+  @DisplayName("Test that checks are small enough to be inlined")
+  @Test
+  void testCheckSizes() throws IOException{
+
+    Map<String, Integer> lengths;
+    try(InputStream input = Validation.class.getResourceAsStream("Validation.class")){
+      assertNotNull(input);
+      lengths = readCodeLengths(input);
+    }
+
+    int checked = 0;
+    for(Map.Entry<String, Integer> entry : lengths.entrySet()){
+      String name = entry.getKey();
+      if(!name.startsWith("assert") && !name.startsWith("innerAssert")) continue;
+      boolean loop = name.startsWith("innerAssertAll") || name.startsWith("innerAssertNonnullElements");
+      int limit = loop ? MAX_LOOP_SIZE : MAX_INLINE_SIZE;
+      assertTrue(entry.getValue() <= limit, name + " is " + entry.getValue() + " bytes, limit is " + limit);
+      checked++;
+    }
+    assertTrue(checked > 0);
+  }
+}
@@ -0,0 +1,92 @@
+package com.ansill.validation.test;
+
+import com.ansill.validation.TestValues;
+import com.ansill.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class IpAddressScannerTest{
+
+  /** Regex for 16-bit group of IPv6 address */
+  private static final String H16 = "[0-9a-fA-F]{1,4}";
+
+  /** Regex for IPv4 address, octets may have leading zeros */
+  private static final String IPV4 = "(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)";
+
+  /** Regex for last 32 bits of IPv6 address */
+  private static final String LS32 = "(?:" + H16 + ":" + H16 + "|" + IPV4 + ")";
+
+  /** Regex for IPv6 address without zone ID, translated from RFC 3986 grammar */
+  static final String IPV6 = "(?:" +
+                             "(?:" + H16 + ":){6}" + LS32 +
+                             "|::(?:" + H16 + ":){5}" + LS32 +
+                             "|(?:" + H16 + ")?::(?:" + H16 + ":){4}" + LS32 +
+                             "|(?:(?:" + H16 + ":){0,1}" + H16 + ")?::(?:" + H16 + ":){3}" + LS32 +
+                             "|(?:(?:" + H16 + ":){0,2}" + H16 + ")?::(?:" + H16 + ":){2}" + LS32 +
+                             "|(?:(?:" + H16 + ":){0,3}" + H16 + ")?::" + H16 + ":" + LS32 +
+                             "|(?:(?:" + H16 + ":){0,4}" + H16 + ")?::" + LS32 +
+                             "|(?:(?:" + H16 + ":){0,5}" + H16 + ")?::" + H16 +
+                             "|(?:(?:" + H16 + ":){0,6}" + H16 + ")?::" +
+                             ")";
+
+  /** Regex pattern for valid IPv6 address with optional zone ID */
+  static final Pattern IPV6_REGEX = Pattern.compile(IPV6 + "(?:%[0-9a-zA-Z._~-]+)?");
+
+  static void assertSameAsRegex(String address){
+    assertEquals(IPV6_REGEX.matcher(address).matches(), Validation.isValidIpv6Address(address), address);
+  }
+
+  @DisplayName("Test scanner against regex with test values")
+  @Test
+  void testTestValues(){
+    TestValues.VALID_IPV6_ADDRESSES.forEach(IpAddressScannerTest::assertSameAsRegex);
+    TestValues.INVALID_IPV6_ADDRESSES.forEach(IpAddressScannerTest::assertSameAsRegex);
+  }
+
+  @DisplayName("Test scanner against regex with every short string")
+  @Test
+  void testExhaustive(){
+    char[] alphabet = {'1', 'f', ':', ':', '.', '%', 'x'};
+    for(int length = 0; length <= 7; length++){
+      int[] digits = new int[length];
+      char[] buffer = new char[length];
+      while(true){
+        for(int i = 0; i < length; i++) buffer[i] = alphabet[digits[i]];
+        assertSameAsRegex(new String(buffer));
+
+        // Increment like an odometer
+        int position = 0;
+        while(position < length && ++digits[position] == alphabet.length) digits[position++] = 0;
+        if(position == length) break;
+      }
+    }
+  }
+
+  @DisplayName("Test scanner against regex with random strings")
+  @Test
+  void testRandom(){
+    String[] fragments = {"0", "1", "ff", "FFFF", "12345", ":", ":", "::", ".", "1.2.3.4", "256", "%", "eth0", "g", " "};
+    Random random = new Random(42);
+    for(int n = 0; n < 200_000; n++){
+      StringBuilder sb = new StringBuilder();
+      int count = random.nextInt(16);
+      for(int i = 0; i < count; i++) sb.append(fragments[random.nextInt(fragments.length)]);
+      assertSameAsRegex(sb.toString());
+    }
+  }
+
+  @DisplayName("Test scanner with long inputs")
+  @Test
+  void testLongInputs(){
+    StringBuilder sb = new StringBuilder();
+    for(int i = 0; i < 100_000; i++) sb.append("1:");
+    assertFalse(Validation.isValidIpv6Address(sb.toString()));
+    assertFalse(Validation.isValidIpv6Address("::" + sb));
+  }
+}
@@ -0,0 +1,124 @@
+package com.ansill.validation.test;
+
+import com.ansill.validation.CheckKind;
+import com.ansill.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsTest{
+
+  @BeforeEach
+  void enableMetrics(){
+    Validation.resetMetrics();
+    Validation.setMetricsEnabled(true);
+  }
+
+  @AfterEach
+  void disableMetrics(){
+    Validation.setMetricsEnabled(false);
+    Validation.resetMetrics();
+  }
+
+  @DisplayName("Test counting checks and failures")
+  @Test
+  void testCounting(){
+
+    Validation.assertValidPortNumber(80, "port");
+    Validation.assertValidPortNumber(443);
+    assertThrows(IllegalArgumentException.class, () -> Validation.assertValidPortNumber(0, "port"));
+
+    assertTrue(Validation.isMetricsEnabled());
+    assertEquals(3, Validation.getCallCount(CheckKind.PORT_NUMBER));
+    assertEquals(1, Validation.getFailureCount(CheckKind.PORT_NUMBER));
+    assertTrue(Validation.getFailureNanos(CheckKind.PORT_NUMBER) > 0);
+    assertEquals(0, Validation.getFailureCount(CheckKind.NONNULL));
+  }
+
+  @DisplayName("Test counting null value as a failure of its check")
+  @Test
+  void testCountingNullValue(){
+
+    assertThrows(IllegalArgumentException.class, () -> Validation.assertValidHostname(null, "hostname"));
+    assertThrows(IllegalArgumentException.class, () -> Validation.assertAllNonnegative((int[]) null));
+
+    assertEquals(1, Validation.getCallCount(CheckKind.HOSTNAME));
+    assertEquals(1, Validation.getFailureCount(CheckKind.HOSTNAME));
+    assertEquals(1, Validation.getCallCount(CheckKind.ALL_NONNEGATIVE));
+    assertEquals(1, Validation.getFailureCount(CheckKind.ALL_NONNEGATIVE));
+    assertEquals(0, Validation.getFailureCount(CheckKind.NONNULL));
+  }
+
+  @DisplayName("Test counting failures of checks that share failure handling")
+  @Test
+  void testCountingSharedFailures(){
+
+    assertThrows(IllegalArgumentException.class, () -> Validation.assertAllNaturalNumbers(new int[]{0}, "workers"));
+    assertThrows(IllegalArgumentException.class, () -> Validation.assertValidHostAndPort("ansill.com", "host"));
+    assertThrows(IllegalArgumentException.class, () -> Validation.assertNonempty(new String[0], "names"));
+
+    assertEquals(1, Validation.getFailureCount(CheckKind.ALL_NATURAL_NUMBERS));
+    assertEquals(0, Validation.getFailureCount(CheckKind.ALL_GREATER_THAN));
+    assertEquals(1, Validation.getFailureCount(CheckKind.HOST_AND_PORT));
+    assertEquals(1, Validation.getFailureCount(CheckKind.NONEMPTY));
+  }
+
+  @DisplayName("Test that checks are not counted when metrics are disabled")
+  @Test
+  void testDisabled(){
+
+    Validation.setMetricsEnabled(false);
+    Validation.assertNaturalNumber(1);
+    assertThrows(IllegalArgumentException.class, () -> Validation.assertNaturalNumber(0));
+
+    assertFalse(Validation.isMetricsEnabled());
+    assertEquals(0, Validation.getCallCount(CheckKind.NATURAL_NUMBER));
+    assertEquals(0, Validation.getFailureCount(CheckKind.NATURAL_NUMBER));
+    assertEquals(0, Validation.getFailureNanos(CheckKind.NATURAL_NUMBER));
+  }
+
+  @DisplayName("Test reading and resetting metrics through the MBean")
+  @Test
+  void testMBean() throws JMException{
+
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName("com.ansill.validation:type=ValidationMetrics");
+
+    Validation.assertAllNonnegative(new int[]{1, 2, 3});
+
+    assertTrue(server.isRegistered(name));
+    assertEquals(true, server.getAttribute(name, "Enabled"));
+    TabularData calls = (TabularData) server.getAttribute(name, "CallCounts");
+    assertEquals(1L, calls.get(new Object[]{CheckKind.ALL_NONNEGATIVE.name()}).get("value"));
+    assertEquals(CheckKind.values().length, calls.size());
+
+    server.invoke(name, "reset", new Object[0], new String[0]);
+    assertEquals(0, Validation.getCallCount(CheckKind.ALL_NONNEGATIVE));
+  }
+
+  @DisplayName("Test null kind")
+  @Test
+  void testNullKind(){
+    assertThrows(IllegalArgumentException.class, () -> Validation.getCallCount(null));
+  }
+
+  @DisplayName("Test that reading metrics is not counted as a check")
+  @Test
+  void testReadingNotCounted(){
+
+    Validation.getCallCount(CheckKind.HOSTNAME);
+    Validation.getFailureCount(CheckKind.HOSTNAME);
+    Validation.getFailureNanos(CheckKind.HOSTNAME);
+
+    assertEquals(0, Validation.getCallCount(CheckKind.NONNULL));
+  }
+}
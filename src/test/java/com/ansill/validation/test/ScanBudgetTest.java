@@ -0,0 +1,183 @@
+package com.ansill.validation.test;
+
+import com.ansill.validation.BatchValidationException;
+import com.ansill.validation.Bypass;
+import com.ansill.validation.ScanReport;
+import com.ansill.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScanBudgetTest{
+
+  private static final int MAX_SCAN_LENGTH = 16;
+
+  private int previous;
+
+  @BeforeEach
+  void setBudget(){
+    previous = Validation.getMaxScanLength();
+    Validation.setMaxScanLength(MAX_SCAN_LENGTH);
+    Validation.resetMetrics();
+    Validation.setMetricsEnabled(true);
+  }
+
+  @AfterEach
+  void resetBudget(){
+    Validation.setMaxScanLength(previous);
+    Validation.setMetricsEnabled(false);
+    Validation.resetMetrics();
+  }
+
+  @DisplayName("Test that inputs within the budget are scanned")
+  @Test
+  void testWithinBudget(){
+
+    assertEquals("subdomain.ansill", Validation.assertValidHostname("subdomain.ansill"));
+    assertEquals("a@ansill.com", Validation.assertValidEmailAddress("a@ansill.com"));
+    assertEquals("fe80::1%eth0", Validation.assertValidIpAddress("fe80::1%eth0"));
+
+    assertEquals(0, Validation.getAbortedScanCount());
+  }
+
+  @DisplayName("Test that inputs over the budget are rejected with a distinct message")
+  @Test
+  void testOverBudget(){
+
+    String hostname = "subdomain.ansill.com";
+    String email_address = "email@ansill.com.";
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validation.assertValidHostname(hostname, "hostname")
+    );
+    assertEquals(Bypass.composeMessage("hostname", Bypass.SCAN_BUDGET_MESSAGE), iae.getMessage());
+
+    iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validation.assertValidEmailAddress(email_address, "email_address")
+    );
+    assertEquals(Bypass.composeMessage("email_address", Bypass.SCAN_BUDGET_MESSAGE), iae.getMessage());
+
+    iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validation.assertValidIpAddress("fe80::1%eth0.eth0", "ip_address")
+    );
+    assertEquals(Bypass.composeMessage("ip_address", Bypass.SCAN_BUDGET_MESSAGE), iae.getMessage());
+
+    byte[] bytes = hostname.getBytes(StandardCharsets.US_ASCII);
+    iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validation.assertValidHostname(bytes, 0, bytes.length, "hostname")
+    );
+    assertEquals(Bypass.composeMessage("hostname", Bypass.SCAN_BUDGET_MESSAGE), iae.getMessage());
+    assertTrue(Validation.isValidHostname(bytes, 10, 6));
+
+    assertFalse(Validation.isValidHostnameBytes(ByteBuffer.wrap(bytes)));
+    assertFalse(Validation.isValidHostAndPort(hostname + ":80"));
+
+    assertEquals(6, Validation.getAbortedScanCount());
+  }
+
+  @DisplayName("Test that invalid inputs within the budget keep their message")
+  @Test
+  void testInvalidWithinBudget(){
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validation.assertValidHostname("ansill..com", "hostname")
+    );
+    assertEquals(Bypass.composeMessage("hostname", Bypass.INVALID_HOSTNAME_MESSAGE), iae.getMessage());
+    assertEquals(0, Validation.getAbortedScanCount());
+  }
+
+  @DisplayName("Test that checks that do not scan keep their message")
+  @Test
+  void testNotScanned(){
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validation.assertNonemptyString("                    ", "string")
+    );
+    assertEquals(Bypass.composeMessage("string", Bypass.EMPTY_STRING_MESSAGE), iae.getMessage());
+    assertEquals(0, Validation.getAbortedScanCount());
+  }
+
+  @DisplayName("Test that cached values over the budget are rejected")
+  @Test
+  void testCached(){
+
+    int cache_size = Validation.getCacheSize();
+    try{
+      Validation.setCacheSize(16);
+      Validation.setMaxScanLength(previous);
+      assertTrue(Validation.isValidHostname("subdomain.ansill.com"));
+      assertTrue(Validation.isValidEmailAddress("email@subdomain.ansill.com"));
+
+      Validation.setMaxScanLength(MAX_SCAN_LENGTH);
+      assertFalse(Validation.isValidHostname("subdomain.ansill.com"));
+      assertFalse(Validation.isValidEmailAddress("email@subdomain.ansill.com"));
+      assertThrows(IllegalArgumentException.class, () -> Validation.assertValidHostname("subdomain.ansill.com"));
+      assertEquals(3, Validation.getAbortedScanCount());
+    }finally{
+      Validation.setCacheSize(cache_size);
+    }
+  }
+
+  @DisplayName("Test batch violation of input over the budget")
+  @Test
+  void testBatch(){
+
+    BatchValidationException bve = assertThrows(
+      BatchValidationException.class,
+      () -> Validation.batch().validHostname("subdomain.ansill.com", "hostname").validate()
+    );
+    assertEquals(1, bve.getViolationCount());
+    assertTrue(bve.getMessage().contains(Bypass.SCAN_BUDGET_MESSAGE));
+  }
+
+  @DisplayName("Test scanning lines over the budget")
+  @Test
+  void testScan(){
+
+    ByteBuffer buffer = ByteBuffer.wrap("ansill.com\nsubdomain.ansill.com\n".getBytes(StandardCharsets.US_ASCII));
+    ScanReport report = Validation.scanHostnames(buffer);
+
+    assertEquals(2, report.getLineCount());
+    assertArrayEquals(new long[]{2}, report.getInvalidLineNumbers());
+    assertEquals(1, Validation.getAbortedScanCount());
+  }
+
+  @DisplayName("Test invalid budget")
+  @Test
+  void testInvalidBudget(){
+    assertThrows(IllegalArgumentException.class, () -> Validation.setMaxScanLength(0));
+    assertEquals(MAX_SCAN_LENGTH, Validation.getMaxScanLength());
+  }
+
+  @DisplayName("Test invalid budget in system property")
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "-1"})
+  void testInvalidBudgetProperty(String max_scan_length) throws ReflectiveOperationException{
+
+    System.setProperty("com.ansill.validation.maxScanLength", max_scan_length);
+    try{
+      Class<?> validation = Bypass.reload(Validation.class);
+      assertEquals(Bypass.DEFAULT_MAX_SCAN_LENGTH, validation.getMethod("getMaxScanLength").invoke(null));
+
+      Method method = validation.getMethod("isValidHostname", String.class);
+      assertTrue((boolean) method.invoke(null, "ansill.com"));
+    }finally{
+      System.clearProperty("com.ansill.validation.maxScanLength");
+    }
+  }
+}
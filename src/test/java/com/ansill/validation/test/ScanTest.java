@@ -0,0 +1,174 @@
+package com.ansill.validation.test;
+
+import com.ansill.validation.Bypass;
+import com.ansill.validation.ScanReport;
+import com.ansill.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScanTest{
+
+  /** Hostnames where lines 2, 4 and 5 are invalid */
+  private static final String HOSTNAMES = "ansill.com\ngoogle.$$#com\r\n127.0.0.1\r\n\n-foo.com\nfoo.bar.com";
+
+  /** Email addresses where lines 1 and 3 are invalid */
+  private static final String EMAIL_ADDRESSES = "email@@example.com\nemail@example.com\nemail@éxample.com\n";
+
+  @DisplayName("Test scanning hostnames in a buffer")
+  @Test
+  void testHostnamesInBuffer(){
+
+    ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+    buffer.put("junk\n".getBytes(StandardCharsets.US_ASCII));
+    buffer.put(HOSTNAMES.getBytes(StandardCharsets.US_ASCII));
+    buffer.flip();
+    buffer.position(5);
+
+    ScanReport report = Validation.scanHostnames(buffer);
+
+    assertFalse(report.isValid());
+    assertEquals(6, report.getLineCount());
+    assertEquals(3, report.getInvalidLineCount());
+    assertArrayEquals(new long[]{2, 4, 5}, report.getInvalidLineNumbers());
+    assertArrayEquals(new long[]{11, 37, 38}, report.getInvalidLineOffsets());
+    assertEquals(5, buffer.position());
+  }
+
+  @DisplayName("Test scanning email addresses in a file")
+  @Test
+  void testEmailAddressesInFile(@TempDir Path directory) throws IOException{
+
+    Path path = Files.write(directory.resolve("emails.txt"), EMAIL_ADDRESSES.getBytes(StandardCharsets.UTF_8));
+
+    ScanReport report = Validation.scanEmailAddresses(path);
+
+    assertEquals(3, report.getLineCount());
+    assertEquals(2, report.getInvalidLineCount());
+    assertArrayEquals(new long[]{1, 3}, report.getInvalidLineNumbers());
+    assertArrayEquals(new long[]{0, 37}, report.getInvalidLineOffsets());
+  }
+
+  @DisplayName("Test skipping oversized lines in a channel")
+  @Test
+  void testOversizedLinesInChannel() throws IOException{
+
+    String long_hostname = hostname(100_000);
+    String longest_hostname = hostname(254);
+    String input = "ansill.com\n" + long_hostname + "\n$\n" + long_hostname + "$\n" + longest_hostname + "\r\n" +
+                   "ansill.com\n" + long_hostname;
+
+    ScanReport report = Validation.scanHostnames(new TrickleChannel(input.getBytes(StandardCharsets.US_ASCII)));
+
+    assertEquals(7, report.getLineCount());
+    assertEquals(4, report.getInvalidLineCount());
+    assertArrayEquals(new long[]{2, 3, 4, 7}, report.getInvalidLineNumbers());
+    assertArrayEquals(
+      new long[]{11, 11 + 100_001, 11 + 100_001 + 2, 11 + 100_001 + 2 + 100_002 + 256 + 11},
+      report.getInvalidLineOffsets()
+    );
+  }
+
+  @DisplayName("Test scanning oversized lines in a buffer")
+  @Test
+  void testOversizedLinesInBuffer(){
+
+    String input = hostname(254) + "\r\n" + hostname(255) + "\n" + hostname(254);
+    ScanReport report = Validation.scanHostnames(ByteBuffer.wrap(input.getBytes(StandardCharsets.US_ASCII)));
+
+    assertEquals(3, report.getLineCount());
+    assertArrayEquals(new long[]{2}, report.getInvalidLineNumbers());
+    assertArrayEquals(new long[]{256}, report.getInvalidLineOffsets());
+  }
+
+  @DisplayName("Test scanning more invalid lines than reported")
+  @Test
+  void testTooManyInvalidLines(){
+
+    int max_reported_indices = Validation.getMaxReportedIndices();
+
+    try{
+      Validation.setMaxReportedIndices(2);
+
+      ByteBuffer buffer = ByteBuffer.wrap(HOSTNAMES.getBytes(StandardCharsets.US_ASCII));
+      ScanReport report = Validation.scanHostnames(buffer);
+
+      assertEquals(3, report.getInvalidLineCount());
+      assertArrayEquals(new long[]{2, 4}, report.getInvalidLineNumbers());
+      assertArrayEquals(new long[]{11, 37}, report.getInvalidLineOffsets());
+    }finally{
+      Validation.setMaxReportedIndices(max_reported_indices);
+    }
+  }
+
+  @DisplayName("Test scanning empty input")
+  @Test
+  void testEmptyInput(){
+
+    ScanReport report = Validation.scanEmailAddresses(ByteBuffer.allocate(0));
+
+    assertTrue(report.isValid());
+    assertEquals(0, report.getLineCount());
+    assertEquals(0, report.getInvalidLineNumbers().length);
+  }
+
+  @DisplayName("Test scanning null input")
+  @Test
+  void testNullInput(){
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validation.scanHostnames((Path) null)
+    );
+
+    assertEquals(Bypass.composeMessage("path", Bypass.OBJECT_NULL_MESSAGE), iae.getMessage());
+  }
+
+  private static String hostname(int length){
+    char[] label = new char[length - 4];
+    Arrays.fill(label, 'a');
+    return new String(label) + ".com";
+  }
+
+  /**
+   * Channel that returns at most 100 bytes for each read
+   */
+  private static final class TrickleChannel implements ReadableByteChannel{
+
+    private final ByteBuffer input;
+
+    TrickleChannel(byte[] input){
+      this.input = ByteBuffer.wrap(input);
+    }
+
+    @Override
+    public int read(ByteBuffer destination){
+      if(!input.hasRemaining()) return -1;
+      ByteBuffer chunk = input.slice();
+      chunk.limit(Math.min(Math.min(100, chunk.remaining()), destination.remaining()));
+      destination.put(chunk);
+      input.position(input.position() + chunk.limit());
+      return chunk.limit();
+    }
+
+    @Override
+    public boolean isOpen(){
+      return true;
+    }
+
+    @Override
+    public void close(){
+      // Nothing to close
+    }
+  }
+}
@@ -1,8 +1,10 @@
 package com.ansill.validation.test;
 
 import com.ansill.validation.Bypass;
+import com.ansill.validation.HostAndPort;
 import com.ansill.validation.TestValues;
 import com.ansill.validation.Validation;
+import com.ansill.validation.ValidationException;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import org.junit.jupiter.api.DisplayName;
@@ -12,13 +14,23 @@ import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -529,6 +541,28 @@ class ValidationTest{
     assertEquals(Bypass.composeMessage("variable_name", Bypass.OBJECT_NULL_MESSAGE), iae.getMessage());
   }
 
+  @DisplayName("Test validating a null object with stackless exceptions")
+  @Test
+  void testNullObjectWithStacklessExceptions(){
+
+    boolean stackless_exceptions = Validation.isStacklessExceptions();
+
+    try{
+      Validation.setStacklessExceptions(true);
+
+      ValidationException ve = assertThrows(
+        ValidationException.class,
+        () -> Validation.assertNonnull(null, "object")
+      );
+
+      assertEquals(Bypass.composeMessage("object", Bypass.OBJECT_NULL_MESSAGE), ve.getMessage());
+
+      assertEquals(0, ve.getStackTrace().length);
+    }finally{
+      Validation.setStacklessExceptions(stackless_exceptions);
+    }
+  }
+
   @DisplayName("Test validating a valid natural number")
   @ParameterizedTest
   @ValueSource(longs = {1, 2, 3, 4, 5, Long.MAX_VALUE})
@@ -1150,6 +1184,37 @@ class ValidationTest{
   }
 
 
+  @DisplayName("Test validating a linked list with nulls")
+  @ParameterizedTest
+  @ValueSource(strings = {"['something', null, 'hello']", "[null]", "[null, null, 'hello']"})
+  void testLinkedListWithNulls(String parameters){
+
+    Collection<String> collection = new LinkedList<>(convertJson(parameters.replaceAll("'", "\"")));
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertNonnullElements(collection, false);
+      }
+    );
+
+    assertEquals(
+      Bypass.composeMessageWithArrays(
+        null,
+        Bypass.NULLS_IN_ARRAY_MESSAGE,
+        findNulls(collection)
+      ),
+      iae.getMessage()
+    );
+
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+
+  }
+
   @DisplayName("Test validating an empty collection that is supposed to contain nonnull members ")
   @Test
   void testNonnullEmptyCollection(){
@@ -1342,6 +1407,67 @@ class ValidationTest{
   }
 
 
+  @DisplayName("Test validating an array with more nulls than reported")
+  @Test
+  void testArrayWithTooManyNulls(){
+
+    int max_reported_indices = Validation.getMaxReportedIndices();
+
+    try{
+      Validation.setMaxReportedIndices(2);
+
+      IllegalArgumentException iae = assertThrows(
+        IllegalArgumentException.class,
+        () -> Validation.assertNonnullElements(new String[]{"something", null, null, "else", null, null}, "array", true)
+      );
+
+      assertEquals(
+        Bypass.composeMessage("array", Bypass.NULLS_IN_ARRAY_MESSAGE) +
+        ". Invalid members are located at indices [1, 2, ...] (4 in total)",
+        iae.getMessage()
+      );
+    }finally{
+      Validation.setMaxReportedIndices(max_reported_indices);
+    }
+  }
+
+  @DisplayName("Test setting invalid maximum number of reported indices")
+  @ParameterizedTest
+  @ValueSource(ints = {0, -1})
+  void testInvalidMaxReportedIndices(int max_reported_indices){
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validation.setMaxReportedIndices(max_reported_indices)
+    );
+
+    assertEquals(Bypass.composeMessage("max_reported_indices", Bypass.NATURAL_NUMBER_MESSAGE), iae.getMessage());
+  }
+
+  @DisplayName("Test invalid maximum number of reported indices in system property")
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "-1"})
+  void testInvalidMaxReportedIndicesProperty(String max_reported_indices) throws ReflectiveOperationException{
+
+    System.setProperty("com.ansill.validation.maxReportedIndices", max_reported_indices);
+    try{
+      Class<?> validation = Bypass.reload(Validation.class);
+      assertEquals(Bypass.DEFAULT_MAX_REPORTED_INDICES, validation.getMethod("getMaxReportedIndices").invoke(null));
+
+      Method method = validation.getMethod("assertNonnullElements", Object[].class, String.class, boolean.class);
+      InvocationTargetException ite = assertThrows(
+        InvocationTargetException.class,
+        () -> method.invoke(null, new String[]{"something", null}, "array", true)
+      );
+      assertEquals(
+        Bypass.composeMessageWithArrays("array", Bypass.NULLS_IN_ARRAY_MESSAGE, Collections.singletonList(1)),
+        ite.getCause().getMessage()
+      );
+    }finally{
+      System.clearProperty("com.ansill.validation.maxReportedIndices");
+    }
+  }
+
   @DisplayName("Test validating an empty collection that is supposed to contain nonnull members ")
   @Test
   void testNonnullEmptyArray(){
@@ -1695,4 +1821,799 @@ class ValidationTest{
     assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
 
   }
-}
\ No newline at end of file
+
+  @DisplayName("Test checking hostnames without exceptions")
+  @Test
+  void testIsValidHostname(){
+    TestValues.VALID_HOSTNAMES.forEach(item -> assertTrue(Validation.isValidHostname(item), item));
+    TestValues.INVALID_HOSTNAMES.forEach(item -> assertFalse(Validation.isValidHostname(item), item));
+    assertFalse(Validation.isValidHostname(null));
+  }
+
+  @DisplayName("Test checking email addresses without exceptions")
+  @Test
+  void testIsValidEmailAddress(){
+    TestValues.VALID_EMAIL_ADDRESSES.forEach(item -> assertTrue(Validation.isValidEmailAddress(item), item));
+    TestValues.INVALID_EMAIL_ADDRESSES.forEach(item -> assertFalse(Validation.isValidEmailAddress(item), item));
+    assertFalse(Validation.isValidEmailAddress(null));
+  }
+
+  @DisplayName("Test checking numbers without exceptions")
+  @ParameterizedTest
+  @ValueSource(longs = {Long.MIN_VALUE, -65536, -1, 0, 1, 80, 65535, 65536, Long.MAX_VALUE})
+  void testIsNumber(long number){
+    if(number == (int) number) assertEquals(number > 0 && number <= 65535, Validation.isValidPortNumber((int) number));
+    assertEquals(number > 0, Validation.isNaturalNumber(number));
+    assertEquals(number >= 0, Validation.isNonnegative(number));
+  }
+
+  @DisplayName("Test checking strings without exceptions")
+  @ParameterizedTest
+  @ValueSource(strings = {"", " ", "    ", "\t\n", "a", "  a  "})
+  void testIsNonemptyString(String string){
+    assertEquals(!string.trim().isEmpty(), Validation.isNonemptyString(string));
+    assertFalse(Validation.isNonemptyString(null));
+  }
+
+  @DisplayName("Test checking arrays and collections without exceptions")
+  @ParameterizedTest
+  @ValueSource(strings = {"['something', 'else']", "['something']", "[]", "['something', null, 'hello']", "[null]"})
+  void testIsNonemptyAndHasNullElements(String parameters){
+
+    Collection<String> collection = convertJson(parameters.replaceAll("'", "\""));
+    boolean has_nulls = collection.contains(null);
+
+    assertEquals(!collection.isEmpty(), Validation.isNonempty(collection));
+    assertEquals(!collection.isEmpty(), Validation.isNonempty(collection.toArray()));
+    assertEquals(has_nulls, Validation.hasNullElements(collection));
+    assertEquals(has_nulls, Validation.hasNullElements(new LinkedList<>(collection)));
+    assertEquals(has_nulls, Validation.hasNullElements(collection.toArray()));
+    assertFalse(Validation.isNonempty((Collection<?>) null));
+    assertFalse(Validation.hasNullElements((Object[]) null));
+  }
+
+  @DisplayName("Test exception keeps its variable name and message through serialization")
+  @Test
+  void testValidationExceptionSerialization() throws Exception{
+
+    ValidationException ve = assertThrows(
+      ValidationException.class,
+      () -> Validation.assertNonnullElements(new String[]{null, "something", null}, "array", true)
+    );
+
+    assertEquals("array", ve.getVariableName());
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try(ObjectOutputStream oos = new ObjectOutputStream(baos)){
+      oos.writeObject(ve);
+    }
+
+    ValidationException deserialized;
+    try(ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))){
+      deserialized = (ValidationException) ois.readObject();
+    }
+
+    assertEquals(ve.getMessage(), deserialized.getMessage());
+    assertEquals("array", deserialized.getVariableName());
+  }
+
+  @DisplayName("Test validating a large array with nulls in parallel")
+  @ParameterizedTest
+  @ValueSource(ints = {1, 1000})
+  void testLargeArrayWithNullsInParallel(int max_reported_indices){
+
+    String[] array = new String[1 << 20];
+    Arrays.fill(array, "something");
+    for(int i = 7; i < array.length; i += 4099) array[i] = null;
+
+    int original_max_reported_indices = Validation.getMaxReportedIndices();
+
+    try{
+      Validation.setMaxReportedIndices(max_reported_indices);
+
+      IllegalArgumentException sequential = assertThrows(
+        IllegalArgumentException.class,
+        () -> Validation.assertNonnullElements(array, "array", false)
+      );
+
+      AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+      IllegalArgumentException iae = assertThrows(
+        IllegalArgumentException.class,
+        () -> {
+          StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+          ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+          Validation.assertNonnullElementsParallel(array, "array", false);
+        }
+      );
+
+      assertEquals(sequential.getMessage(), iae.getMessage());
+      assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+
+      IllegalArgumentException collection_iae = assertThrows(
+        IllegalArgumentException.class,
+        () -> {
+          StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+          ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+          Validation.assertNonnullElementsParallel(Arrays.asList(array), "array", false);
+        }
+      );
+
+      assertEquals(sequential.getMessage(), collection_iae.getMessage());
+      assertStackTrace(ste.get()[0], collection_iae.getStackTrace()[0], 2);
+    }finally{
+      Validation.setMaxReportedIndices(original_max_reported_indices);
+    }
+  }
+
+  @DisplayName("Test validating a large array without nulls in parallel")
+  @Test
+  void testLargeArrayWithoutNullsInParallel(){
+
+    String[] array = new String[1 << 20];
+    Arrays.fill(array, "something");
+
+    assertSame(array, Validation.assertNonnullElementsParallel(array, false));
+    List<String> list = Arrays.asList(array);
+    assertSame(list, Validation.assertNonnullElementsParallel(list, false));
+  }
+
+  @DisplayName("Test validating small and non-list collections with nulls in parallel")
+  @Test
+  void testSmallCollectionsWithNullsInParallel(){
+
+    List<String> list = new LinkedList<>(Arrays.asList("something", null, "else", null));
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validation.assertNonnullElementsParallel(list, false)
+    );
+
+    assertEquals(
+      Bypass.composeMessageWithArrays(null, Bypass.NULLS_IN_ARRAY_MESSAGE, Arrays.asList(1, 3)),
+      iae.getMessage()
+    );
+
+    iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validation.assertNonnullElementsParallel(new String[]{null, "something"}, "array", true)
+    );
+
+    assertEquals(
+      Bypass.composeMessageWithArrays("array", Bypass.NULLS_IN_ARRAY_MESSAGE, Collections.singletonList(0)),
+      iae.getMessage()
+    );
+  }
+
+  @DisplayName("Test validating primitive arrays that are supposed to be nonempty")
+  @Test
+  void testNonemptyPrimitiveArrays(){
+
+    int[] ints = {1};
+    long[] longs = {1L};
+    byte[] bytes = {1};
+    double[] doubles = {1.0};
+
+    assertSame(ints, Validation.assertNonempty(ints));
+    assertSame(longs, Validation.assertNonempty(longs, "longs"));
+    assertSame(bytes, Validation.assertNonempty(bytes));
+    assertSame(doubles, Validation.assertNonempty(doubles, "doubles"));
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertNonempty(new long[0], "longs");
+      }
+    );
+
+    assertEquals(Bypass.composeMessage("longs", Bypass.EMPTY_ARRAY_MESSAGE), iae.getMessage());
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+
+    iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertNonempty((int[]) null);
+      }
+    );
+
+    assertEquals(Bypass.composeMessage(null, Bypass.OBJECT_NULL_MESSAGE), iae.getMessage());
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+
+    iae = assertThrows(IllegalArgumentException.class, () -> Validation.assertNonempty(new byte[0]));
+    assertEquals(Bypass.composeMessage(null, Bypass.EMPTY_ARRAY_MESSAGE), iae.getMessage());
+
+    iae = assertThrows(IllegalArgumentException.class, () -> Validation.assertNonempty(new double[0], "doubles"));
+    assertEquals(Bypass.composeMessage("doubles", Bypass.EMPTY_ARRAY_MESSAGE), iae.getMessage());
+  }
+
+  @DisplayName("Test validating primitive arrays that are supposed to contain nonnegative numbers")
+  @Test
+  void testAllNonnegative(){
+
+    long[] longs = new long[1000];
+    for(int i = 0; i < longs.length; i++) longs[i] = i * 1000000000L;
+    int[] ints = {0, 1, Integer.MAX_VALUE};
+
+    assertSame(longs, Validation.assertAllNonnegative(longs));
+    assertSame(ints, Validation.assertAllNonnegative(ints, "ints"));
+    assertEquals(0, Validation.assertAllNonnegative(new long[0]).length);
+    assertFalse(Validation.isAllNonnegative((long[]) null));
+
+    longs[3] = -1;
+    longs[999] = Long.MIN_VALUE;
+    assertFalse(Validation.isAllNonnegative(longs));
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertAllNonnegative(longs, "longs");
+      }
+    );
+
+    assertEquals(
+      Bypass.composeMessageWithArrays("longs", Bypass.NEGATIVES_IN_ARRAY_MESSAGE, Arrays.asList(3, 999)),
+      iae.getMessage()
+    );
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+
+    iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertAllNonnegative(new int[]{Integer.MIN_VALUE, 0, -5});
+      }
+    );
+
+    assertEquals(
+      Bypass.composeMessageWithArrays(null, Bypass.NEGATIVES_IN_ARRAY_MESSAGE, Arrays.asList(0, 2)),
+      iae.getMessage()
+    );
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+
+    iae = assertThrows(IllegalArgumentException.class, () -> Validation.assertAllNonnegative((long[]) null, "longs"));
+    assertEquals(Bypass.composeMessage("longs", Bypass.OBJECT_NULL_MESSAGE), iae.getMessage());
+  }
+
+  @DisplayName("Test validating primitive arrays that are supposed to contain valid port numbers")
+  @Test
+  void testAllValidPortNumbers(){
+
+    int[] ports = {1, 80, 443, 8080, 65535};
+
+    assertSame(ports, Validation.assertAllValidPortNumbers(ports));
+    assertSame(ports, Validation.assertAllValidPortNumbers(ports, "ports"));
+    assertFalse(Validation.isAllValidPortNumbers(null));
+
+    int[] invalid = {Integer.MIN_VALUE, -1, 0, 1, 65535, 65536, Integer.MAX_VALUE};
+    for(int port : invalid) assertEquals(Validation.isValidPortNumber(port), Validation.isAllValidPortNumbers(new int[]{port}));
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertAllValidPortNumbers(invalid, "ports");
+      }
+    );
+
+    assertEquals(
+      Bypass.composeMessageWithArrays("ports", Bypass.INVALID_PORTS_IN_ARRAY_MESSAGE, Arrays.asList(0, 1, 2, 5, 6)),
+      iae.getMessage()
+    );
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+
+    iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertAllValidPortNumbers(null);
+      }
+    );
+
+    assertEquals(Bypass.composeMessage(null, Bypass.OBJECT_NULL_MESSAGE), iae.getMessage());
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+  }
+
+  @DisplayName("Test checking range of primitive array members against scalar checks")
+  @Test
+  void testAllInRangeAgainstScalarChecks(){
+
+    long[] edges = {
+      Long.MIN_VALUE, Long.MIN_VALUE + 1, Integer.MIN_VALUE - 1L, Integer.MIN_VALUE, -1, 0, 1,
+      Integer.MAX_VALUE, Integer.MAX_VALUE + 1L, Long.MAX_VALUE - 1, Long.MAX_VALUE
+    };
+
+    Random random = new Random(0);
+    long[] compares = new long[edges.length + 100];
+    System.arraycopy(edges, 0, compares, 0, edges.length);
+    for(int i = edges.length; i < compares.length; i++) compares[i] = random.nextInt(2001) - 1000;
+
+    for(long compare : compares){
+      for(long number : edges){
+        long[] longs = {number};
+        assertEquals(number > compare, Validation.isAllGreaterThan(longs, compare), number + " > " + compare);
+        assertEquals(number < compare, Validation.isAllLesserThan(longs, compare), number + " < " + compare);
+        if(number < Integer.MIN_VALUE || number > Integer.MAX_VALUE) continue;
+        int[] ints = {(int) number};
+        assertEquals(number > compare, Validation.isAllGreaterThan(ints, compare), number + " > " + compare);
+        assertEquals(number < compare, Validation.isAllLesserThan(ints, compare), number + " < " + compare);
+      }
+
+      long[] longs = new long[1000];
+      int[] ints = new int[longs.length];
+      for(int i = 0; i < longs.length; i++) longs[i] = ints[i] = random.nextInt(2001) - 1000;
+      assertEquals(Arrays.stream(longs).allMatch(number -> number > compare), Validation.isAllGreaterThan(longs, compare));
+      assertEquals(Arrays.stream(longs).allMatch(number -> number < compare), Validation.isAllLesserThan(longs, compare));
+      assertEquals(Arrays.stream(ints).allMatch(number -> number > compare), Validation.isAllGreaterThan(ints, compare));
+      assertEquals(Arrays.stream(ints).allMatch(number -> number < compare), Validation.isAllLesserThan(ints, compare));
+    }
+
+    assertTrue(Validation.isAllGreaterThan(new int[0], Long.MAX_VALUE));
+    assertTrue(Validation.isAllLesserThan(new long[0], Long.MIN_VALUE));
+    assertFalse(Validation.isAllGreaterThan((int[]) null, 0));
+    assertFalse(Validation.isAllLesserThan((long[]) null, 0));
+    assertTrue(Validation.isAllNaturalNumbers(new int[]{1, Integer.MAX_VALUE}));
+    assertFalse(Validation.isAllNaturalNumbers(new long[]{1, 0}));
+  }
+
+  @DisplayName("Test validating range of primitive array members")
+  @Test
+  void testAllInRange(){
+
+    int[] ints = {5, 10, 15, 20};
+    long[] longs = {5, 10, 15, 20};
+
+    assertSame(ints, Validation.assertAllGreaterThan(ints, 4));
+    assertSame(longs, Validation.assertAllGreaterThan(longs, 4, "longs"));
+    assertSame(ints, Validation.assertAllLesserThan(ints, 21, "ints"));
+    assertSame(longs, Validation.assertAllLesserThan(longs, 21));
+    assertSame(ints, Validation.assertAllNaturalNumbers(ints));
+    assertSame(longs, Validation.assertAllNaturalNumbers(longs, "longs"));
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertAllGreaterThan(ints, 10, "ints");
+      }
+    );
+
+    assertEquals(
+      Bypass.composeMessageWithArrays("ints", Bypass.GREATER_NUMBERS_IN_ARRAY_MESSAGE, Arrays.asList(0, 1)),
+      iae.getMessage()
+    );
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+
+    iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertAllLesserThan(longs, 15);
+      }
+    );
+
+    assertEquals(
+      Bypass.composeMessageWithArrays(null, Bypass.LESSER_NUMBERS_IN_ARRAY_MESSAGE, Arrays.asList(2, 3)),
+      iae.getMessage()
+    );
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+
+    iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertAllNaturalNumbers(new long[]{1, 0, -1, 2}, "longs");
+      }
+    );
+
+    assertEquals(
+      Bypass.composeMessageWithArrays("longs", Bypass.NATURAL_NUMBERS_IN_ARRAY_MESSAGE, Arrays.asList(1, 2)),
+      iae.getMessage()
+    );
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+
+    iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertAllNaturalNumbers((int[]) null);
+      }
+    );
+
+    assertEquals(Bypass.composeMessage(null, Bypass.OBJECT_NULL_MESSAGE), iae.getMessage());
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+
+    iae = assertThrows(IllegalArgumentException.class, () -> Validation.assertAllLesserThan(ints, Integer.MIN_VALUE));
+    assertEquals(
+      Bypass.composeMessageWithArrays(null, Bypass.LESSER_NUMBERS_IN_ARRAY_MESSAGE, Arrays.asList(0, 1, 2, 3)),
+      iae.getMessage()
+    );
+  }
+
+  @DisplayName("Test caching valid hostnames and email addresses")
+  @Test
+  void testCache(){
+
+    int cache_size = Validation.getCacheSize();
+
+    try{
+      Validation.setCacheSize(16);
+      assertEquals(16, Validation.getCacheSize());
+      assertEquals(0, Validation.getCacheHitCount());
+      assertEquals(0, Validation.getCacheMissCount());
+
+      // First lookups miss, following ones hit
+      assertTrue(Validation.isValidHostname("ansill.com"));
+      assertTrue(Validation.isValidHostname("ansill.com"));
+      assertEquals("ansill.com", Validation.assertValidHostname("ansill.com"));
+      assertTrue(Validation.isValidEmailAddress("email@example.com"));
+      assertEquals("email@example.com", Validation.assertValidEmailAddress("email@example.com"));
+      assertEquals(2, Validation.getCacheMissCount());
+      assertEquals(3, Validation.getCacheHitCount());
+
+      // Invalid values are never cached
+      assertFalse(Validation.isValidHostname("google.$$#com"));
+      assertFalse(Validation.isValidHostname("google.$$#com"));
+      assertThrows(IllegalArgumentException.class, () -> Validation.assertValidEmailAddress("email@@example.com"));
+      assertEquals(5, Validation.getCacheMissCount());
+      assertEquals(3, Validation.getCacheHitCount());
+
+      // Nulls do not reach the cache
+      assertFalse(Validation.isValidHostname(null));
+      assertEquals(5, Validation.getCacheMissCount());
+    }finally{
+      Validation.setCacheSize(cache_size);
+    }
+  }
+
+  @DisplayName("Test evicting hostname that was not used from cache")
+  @Test
+  void testCacheEviction(){
+
+    int cache_size = Validation.getCacheSize();
+
+    try{
+
+      // Single set of slots so every hostname competes for it
+      Validation.setCacheSize(4);
+      for(String hostname : new String[]{"a.com", "b.com", "c.com", "d.com"}) Validation.assertValidHostname(hostname);
+      assertEquals(4, Validation.getCacheMissCount());
+
+      // Use first one so second one becomes least recently used
+      assertTrue(Validation.isValidHostname("a.com"));
+      assertEquals(1, Validation.getCacheHitCount());
+
+      // Evicts second one
+      assertTrue(Validation.isValidHostname("e.com"));
+      assertTrue(Validation.isValidHostname("a.com"));
+      assertEquals(2, Validation.getCacheHitCount());
+      assertTrue(Validation.isValidHostname("b.com"));
+      assertEquals(2, Validation.getCacheHitCount());
+      assertEquals(6, Validation.getCacheMissCount());
+    }finally{
+      Validation.setCacheSize(cache_size);
+    }
+  }
+
+  @DisplayName("Test disabling cache")
+  @Test
+  void testCacheDisabled(){
+
+    int cache_size = Validation.getCacheSize();
+
+    try{
+      Validation.setCacheSize(0);
+      assertEquals(0, Validation.getCacheSize());
+      assertTrue(Validation.isValidHostname("ansill.com"));
+      assertTrue(Validation.isValidEmailAddress("email@example.com"));
+      assertEquals(0, Validation.getCacheHitCount());
+      assertEquals(0, Validation.getCacheMissCount());
+
+      IllegalArgumentException iae = assertThrows(IllegalArgumentException.class, () -> Validation.setCacheSize(-1));
+      assertEquals(Bypass.composeMessage("cache_size", Bypass.NONNEGATIVE_NUMBER_MESSAGE), iae.getMessage());
+    }finally{
+      Validation.setCacheSize(cache_size);
+    }
+  }
+
+  /**
+   * Copies string into the middle of a byte array surrounded by invalid bytes
+   *
+   * @param string string
+   * @return array with string at index 3
+   */
+  static byte[] embed(String string){
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    byte[] array = new byte[bytes.length + 6];
+    Arrays.fill(array, (byte) '$');
+    System.arraycopy(bytes, 0, array, 3, bytes.length);
+    return array;
+  }
+
+  /**
+   * Copies string into the middle of a direct buffer surrounded by invalid bytes, the buffer's position and limit
+   * surround the string
+   *
+   * @param string string
+   * @return buffer with string between position and limit
+   */
+  static ByteBuffer embedDirect(String string){
+    byte[] array = embed(string);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(array.length);
+    buffer.put(array);
+    buffer.limit(array.length - 3);
+    buffer.position(3);
+    return buffer;
+  }
+
+  @DisplayName("Test validating hostnames in character sequences, byte arrays and buffers")
+  @Test
+  void testHostnameWithoutString(){
+    for(String item : TestValues.VALID_HOSTNAMES){
+      int length = item.getBytes(StandardCharsets.UTF_8).length;
+      StringBuilder builder = new StringBuilder(item);
+      byte[] array = embed(item);
+      ByteBuffer buffer = embedDirect(item);
+      assertSame(builder, Validation.assertValidHostname(builder), item);
+      assertSame(array, Validation.assertValidHostname(array, 3, length, "hostname"), item);
+      assertSame(buffer, Validation.assertValidHostnameBytes(buffer), item);
+      assertEquals(3, buffer.position(), item);
+    }
+    for(String item : TestValues.INVALID_HOSTNAMES){
+      int length = item.getBytes(StandardCharsets.UTF_8).length;
+      assertFalse(Validation.isValidHostname(new StringBuilder(item)), item);
+      assertFalse(Validation.isValidHostname(embed(item), 3, length), item);
+      assertFalse(Validation.isValidHostnameBytes(embedDirect(item)), item);
+    }
+  }
+
+  @DisplayName("Test validating email addresses in character sequences, byte arrays and buffers")
+  @Test
+  void testEmailAddressWithoutString(){
+    for(String item : TestValues.VALID_EMAIL_ADDRESSES){
+      int length = item.getBytes(StandardCharsets.UTF_8).length;
+      CharBuffer chars = CharBuffer.wrap(item);
+      byte[] array = embed(item);
+      ByteBuffer buffer = embedDirect(item);
+      assertSame(chars, Validation.assertValidEmailAddress(chars), item);
+      assertSame(array, Validation.assertValidEmailAddress(array, 3, length), item);
+      assertSame(buffer, Validation.assertValidEmailAddressBytes(buffer, "email_address"), item);
+    }
+    for(String item : TestValues.INVALID_EMAIL_ADDRESSES){
+      int length = item.getBytes(StandardCharsets.UTF_8).length;
+      assertFalse(Validation.isValidEmailAddress(CharBuffer.wrap(item)), item);
+      assertFalse(Validation.isValidEmailAddress(embed(item), 3, length), item);
+      assertFalse(Validation.isValidEmailAddressBytes(embedDirect(item)), item);
+    }
+  }
+
+  @DisplayName("Test checking strings in character sequences, byte arrays and buffers")
+  @ParameterizedTest
+  @ValueSource(strings = {"", " ", "    ", "\t\n", "a", "  a  ", "  é  "})
+  void testNonemptyStringWithoutString(String string){
+    boolean nonempty = !string.trim().isEmpty();
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 2).put(new byte[]{'a'}).put(bytes);
+    buffer.limit(bytes.length + 1).position(1);
+    assertEquals(nonempty, Validation.isNonemptyString(new StringBuilder(string)));
+    assertEquals(nonempty, Validation.isNonemptyStringBytes(buffer));
+    assertEquals(nonempty, Validation.isNonemptyString(embed(string), 3, bytes.length));
+    assertFalse(Validation.isNonemptyStringBytes(null));
+    assertFalse(Validation.isNonemptyString(null, 0, 0));
+  }
+
+  @DisplayName("Test validating an invalid hostname in byte array")
+  @Test
+  void testInvalidHostnameInByteArray(){
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+    byte[] array = embed("ansill.com");
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertValidHostname(array, 2, 10, "hostname");
+      }
+    );
+
+    assertEquals(Bypass.composeMessage("hostname", Bypass.INVALID_HOSTNAME_MESSAGE), iae.getMessage());
+
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+  }
+
+  @DisplayName("Test validating an empty string in buffer")
+  @Test
+  void testEmptyStringInBuffer(){
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertNonemptyStringBytes(ByteBuffer.wrap(new byte[]{' ', '\t'}));
+      }
+    );
+
+    assertEquals(Bypass.composeMessage(null, Bypass.EMPTY_STRING_MESSAGE), iae.getMessage());
+
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+  }
+
+  @DisplayName("Test validating a null character sequence")
+  @Test
+  void testNullCharSequence(){
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertValidEmailAddress((CharSequence) null, "email_address");
+      }
+    );
+
+    assertEquals(Bypass.composeMessage("email_address", Bypass.OBJECT_NULL_MESSAGE), iae.getMessage());
+
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+  }
+
+  @DisplayName("Test validating a range out of bounds of byte array")
+  @Test
+  void testByteArrayRangeOutOfBounds(){
+    byte[] array = "ansill.com".getBytes(StandardCharsets.US_ASCII);
+    assertThrows(IndexOutOfBoundsException.class, () -> Validation.isValidHostname(array, -1, 5));
+    assertThrows(IndexOutOfBoundsException.class, () -> Validation.isValidEmailAddress(array, 5, 6));
+    assertThrows(IndexOutOfBoundsException.class, () -> Validation.assertNonemptyString(array, 0, -1));
+    assertThrows(IndexOutOfBoundsException.class, () -> Validation.assertValidHostname(array, 1, Integer.MAX_VALUE));
+  }
+
+  @DisplayName("Test validating IPv6 addresses")
+  @Test
+  void testIpv6Address(){
+    for(String item : TestValues.VALID_IPV6_ADDRESSES){
+      assertTrue(Validation.isValidIpv6Address(item), item);
+      assertTrue(Validation.isValidIpAddress(item), item);
+      assertEquals(item, Validation.assertValidIpv6Address(item, "address"));
+    }
+    for(String item : TestValues.INVALID_IPV6_ADDRESSES){
+      assertFalse(Validation.isValidIpv6Address(item), item);
+    }
+    assertFalse(Validation.isValidIpv6Address(null));
+  }
+
+  @DisplayName("Test validating IP addresses")
+  @ParameterizedTest
+  @ValueSource(strings = {"0.0.0.0", "127.0.0.1", "255.255.255.255", "::1", "256.0.0.1", "1.2.3", "1.2.3.4.5", "a.b.c.d"})
+  void testIpAddress(String address){
+    boolean valid = address.indexOf(':') != -1 || address.matches("(25[0-5]|2[0-4]\\d|1?\\d?\\d)(\\.(25[0-5]|2[0-4]\\d|1?\\d?\\d)){3}");
+    assertEquals(valid, Validation.isValidIpAddress(address));
+    assertFalse(Validation.isValidIpv6Address(address) && address.indexOf(':') == -1);
+  }
+
+  @DisplayName("Test validating an invalid IPv6 address")
+  @Test
+  void testInvalidIpv6Address(){
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertValidIpv6Address("127.0.0.1", "address");
+      }
+    );
+
+    assertEquals(Bypass.composeMessage("address", Bypass.INVALID_IPV6_MESSAGE), iae.getMessage());
+
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+  }
+
+  @DisplayName("Test validating an invalid IP address")
+  @Test
+  void testInvalidIpAddress(){
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertValidIpAddress("ansill.com");
+      }
+    );
+
+    assertEquals(Bypass.composeMessage(null, Bypass.INVALID_IP_MESSAGE), iae.getMessage());
+
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+  }
+
+  @DisplayName("Test parsing valid hosts and ports")
+  @Test
+  void testValidHostAndPort(){
+    for(String host : TestValues.VALID_HOSTNAMES){
+      if(host.indexOf(':') != -1) host = "[" + host + "]";
+      for(int port : new int[]{1, 80, 8080, 65535}){
+        String input = host + ":" + port;
+        HostAndPort parsed = Validation.assertValidHostAndPort(input, "address");
+        assertEquals(host.replace("[", "").replace("]", ""), parsed.getHost(), input);
+        assertEquals(port, parsed.getPort(), input);
+        assertEquals(host.startsWith("["), parsed.isIpv6Address(), input);
+        assertEquals(parsed.getHost(), input.substring(parsed.getHostStart(), parsed.getHostEnd()), input);
+        assertSame(input, parsed.getSource(), input);
+        assertTrue(Validation.isValidHostAndPort(new StringBuilder(input)), input);
+      }
+    }
+    assertEquals(Validation.assertValidHostAndPort("ansill.com:080"), Validation.assertValidHostAndPort("ansill.com:80"));
+  }
+
+  @DisplayName("Test that host and port does not change with its mutable input")
+  @Test
+  void testHostAndPortMutableInput(){
+    StringBuilder input = new StringBuilder("ansill.com:80");
+    HostAndPort parsed = Validation.assertValidHostAndPort(input);
+    input.setCharAt(0, '$');
+    assertEquals("ansill.com", parsed.getHost());
+    assertEquals("ansill.com:80", parsed.toString());
+    assertEquals("ansill.com:80", parsed.getSource());
+  }
+
+  @DisplayName("Test checking invalid hosts and ports")
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "", ":", "ansill.com", "ansill.com:", ":80", "ansill.com:0", "ansill.com:65536", "ansill.com:000080",
+    "ansill.com:-1", "ansill.com:8 0", "ansill.com:80:80", "google.$$#com:80", "::1:80", "[::1]", "[::1]80",
+    "[::1:80", "::1]:80", "[]:80", "[ansill.com]:80", "[1.2.3.4]:80", "[::1]]:80", "a[::1]:80"
+  })
+  void testInvalidHostAndPort(String input){
+    assertFalse(Validation.isValidHostAndPort(input));
+  }
+
+  @DisplayName("Test validating an invalid host and port")
+  @Test
+  void testInvalidHostAndPortException(){
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        Validation.assertValidHostAndPort("ansill.com:0", "address");
+      }
+    );
+
+    assertEquals(Bypass.composeMessage("address", Bypass.INVALID_HOST_AND_PORT_MESSAGE), iae.getMessage());
+
+    assertStackTrace(ste.get()[0], iae.getStackTrace()[0], 2);
+  }
+}
@@ -0,0 +1,448 @@
+package com.ansill.validation.test;
+
+import com.ansill.validation.Bypass;
+import com.ansill.validation.NumberRule;
+import com.ansill.validation.Validation;
+import com.ansill.validation.Validator;
+import com.ansill.validation.ValidationException;
+import com.ansill.validation.annotation.Email;
+import com.ansill.validation.annotation.Hostname;
+import com.ansill.validation.annotation.Natural;
+import com.ansill.validation.annotation.NonEmpty;
+import com.ansill.validation.annotation.NonnullElements;
+import com.ansill.validation.annotation.Port;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.ansill.validation.Rules.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatorTest{
+
+  private static final Validator<Config> VALIDATOR = Validator.of(Config.class)
+                                                             .field("host", Config::getHost, hostname())
+                                                             .field("port", Config::getPort, portNumber())
+                                                             .field("admin", Config::getAdmin, emailAddress())
+                                                             .field("workers", Config::getWorkers, naturalNumber())
+                                                             .field("aliases", Config::getAliases, nonempty())
+                                                             .field("aliases", Config::getAliases, nonnullElements())
+                                                             .build();
+
+  @DisplayName("Test validating a valid object")
+  @Test
+  void testValidObject(){
+
+    Config config = new Config("ansill.com", 8080, "admin@ansill.com", 4, Arrays.asList("a", "b"));
+
+    assertTrue(VALIDATOR.isValid(config));
+    assertSame(config, VALIDATOR.validate(config));
+  }
+
+  @DisplayName("Test validating invalid objects")
+  @Test
+  void testInvalidObjects(){
+
+    assertInvalid(
+      new Config("google.$$#com", 8080, "admin@ansill.com", 4, Collections.singletonList("a")),
+      Bypass.composeMessage("host", Bypass.INVALID_HOSTNAME_MESSAGE)
+    );
+    assertInvalid(
+      new Config(null, 8080, "admin@ansill.com", 4, Collections.singletonList("a")),
+      Bypass.composeMessage("host", Bypass.OBJECT_NULL_MESSAGE)
+    );
+    assertInvalid(
+      new Config("ansill.com", 65536, "admin@ansill.com", 4, Collections.singletonList("a")),
+      Bypass.composeMessage("port", Bypass.INVALID_PORT_MESSAGE)
+    );
+    assertInvalid(
+      new Config("ansill.com", 8080, "admin", 4, Collections.singletonList("a")),
+      Bypass.composeMessage("admin", Bypass.INVALID_EMAIL_MESSAGE)
+    );
+    assertInvalid(
+      new Config("ansill.com", 8080, "admin@ansill.com", 0, Collections.singletonList("a")),
+      Bypass.composeMessage("workers", Bypass.NATURAL_NUMBER_MESSAGE)
+    );
+    assertInvalid(
+      new Config("ansill.com", 8080, "admin@ansill.com", 4, Collections.emptyList()),
+      Bypass.composeMessage("aliases", Bypass.EMPTY_ARRAY_MESSAGE)
+    );
+    assertInvalid(
+      new Config("ansill.com", 8080, "admin@ansill.com", 4, Arrays.asList("a", null, "b", null)),
+      Bypass.composeMessageWithArrays("aliases", Bypass.NULLS_IN_ARRAY_MESSAGE, Arrays.asList(1, 3))
+    );
+    assertInvalid(null, Bypass.composeMessage(null, Bypass.OBJECT_NULL_MESSAGE));
+  }
+
+  @DisplayName("Test validating an invalid object without stacktrace")
+  @Test
+  void testInvalidObjectStackless(){
+
+    Validation.setStacklessExceptions(true);
+
+    try{
+      ValidationException ve = assertThrows(
+        ValidationException.class,
+        () -> VALIDATOR.validate(new Config("ansill.com", 0, "admin@ansill.com", 4, Collections.singletonList("a")))
+      );
+
+      assertEquals(Bypass.composeMessage("port", Bypass.INVALID_PORT_MESSAGE), ve.getMessage());
+      assertEquals("port", ve.getVariableName());
+      assertEquals(0, ve.getStackTrace().length);
+    }finally{
+      Validation.setStacklessExceptions(false);
+    }
+  }
+
+  @DisplayName("Test numeric rules")
+  @Test
+  void testNumberRules(){
+
+    Validator<Config> validator = Validator.of(Config.class)
+                                           .field("workers", Config::getWorkers, greaterThan(1))
+                                           .field("workers", Config::getWorkers, lesserThan(10))
+                                           .field("workers", Config::getWorkers, nonnegative())
+                                           .build();
+
+    assertTrue(validator.isValid(new Config("ansill.com", 1, "admin@ansill.com", 5, null)));
+    assertFalse(validator.isValid(new Config("ansill.com", 1, "admin@ansill.com", 1, null)));
+    assertFalse(validator.isValid(new Config("ansill.com", 1, "admin@ansill.com", 10, null)));
+    assertFalse(validator.isValid(null));
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> validator.validate(new Config("ansill.com", 1, "admin@ansill.com", 10, null))
+    );
+
+    assertEquals(Bypass.composeMessage("workers", Bypass.LESSER_NUMBER_MESSAGE), iae.getMessage());
+  }
+
+  @DisplayName("Test object and array rules")
+  @Test
+  void testObjectRules(){
+
+    Validator<String[]> validator = Validator.of(String[].class)
+                                             .field("array", array -> array, nonemptyArray())
+                                             .field("array", array -> array, nonnullArrayElements())
+                                             .field("first", array -> array[0], nonnull())
+                                             .field("first", array -> array[0], nonemptyString())
+                                             .build();
+
+    assertTrue(validator.isValid(new String[]{"something"}));
+    assertFalse(validator.isValid(new String[0]));
+    assertFalse(validator.isValid(new String[]{" "}));
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> validator.validate(new String[]{"something", null})
+    );
+
+    assertEquals(
+      Bypass.composeMessageWithArrays("array", Bypass.NULLS_IN_ARRAY_MESSAGE, Collections.singletonList(1)),
+      iae.getMessage()
+    );
+  }
+
+  @DisplayName("Test that fields are read once when validating")
+  @Test
+  void testFieldReadOnce(){
+
+    AtomicInteger reads = new AtomicInteger();
+    Validator<Config> validator = Validator.of(Config.class)
+                                           .field("aliases", config -> {
+                                             reads.incrementAndGet();
+                                             return reads.get() == 1 ? config.getAliases() : null;
+                                           }, nonnullElements())
+                                           .build();
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> validator.validate(new Config("ansill.com", 1, "admin@ansill.com", 1, Arrays.asList("a", null)))
+    );
+
+    assertEquals(
+      Bypass.composeMessageWithArrays("aliases", Bypass.NULLS_IN_ARRAY_MESSAGE, Collections.singletonList(1)),
+      iae.getMessage()
+    );
+    assertEquals(1, reads.get());
+  }
+
+  @DisplayName("Test building validator with null parameters")
+  @Test
+  void testNullParameters(){
+
+    IllegalArgumentException iae = assertThrows(IllegalArgumentException.class, () -> Validator.of(null));
+    assertEquals(Bypass.composeMessage("type", Bypass.OBJECT_NULL_MESSAGE), iae.getMessage());
+
+    iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validator.of(Config.class).field(null, Config::getHost, hostname())
+    );
+    assertEquals(Bypass.composeMessage("variable_name", Bypass.OBJECT_NULL_MESSAGE), iae.getMessage());
+
+    iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validator.of(Config.class).field("port", Config::getPort, (NumberRule) null)
+    );
+    assertEquals(Bypass.composeMessage("rule", Bypass.OBJECT_NULL_MESSAGE), iae.getMessage());
+  }
+
+  @DisplayName("Test validating objects with validator created from annotations")
+  @Test
+  void testValidatorFromAnnotations(){
+
+    Validator<AnnotatedConfig> validator = Validator.fromAnnotations(AnnotatedConfig.class);
+    assertSame(validator, Validator.fromAnnotations(AnnotatedConfig.class));
+
+    AnnotatedConfig config = new AnnotatedConfig();
+    assertTrue(validator.isValid(config));
+    assertSame(config, validator.validate(config));
+
+    config.host = "google.$$#com";
+    assertAnnotatedInvalid(validator, config, Bypass.composeMessage("host", Bypass.INVALID_HOSTNAME_MESSAGE));
+    config.host = "ansill.com";
+
+    config.port = 0;
+    assertAnnotatedInvalid(validator, config, Bypass.composeMessage("port", Bypass.INVALID_PORT_MESSAGE));
+    config.port = 8080;
+
+    config.workers = 0;
+    assertAnnotatedInvalid(validator, config, Bypass.composeMessage("workers", Bypass.NATURAL_NUMBER_MESSAGE));
+    config.workers = 4;
+
+    config.names = new String[0];
+    assertAnnotatedInvalid(validator, config, Bypass.composeMessage("names", Bypass.EMPTY_ARRAY_MESSAGE));
+    config.names = new String[]{"a", null};
+    assertAnnotatedInvalid(
+      validator,
+      config,
+      Bypass.composeMessageWithArrays("names", Bypass.NULLS_IN_ARRAY_MESSAGE, Collections.singletonList(1))
+    );
+    config.names = new String[]{"a"};
+
+    config.ports = new int[0];
+    assertAnnotatedInvalid(validator, config, Bypass.composeMessage("ports", Bypass.EMPTY_ARRAY_MESSAGE));
+    config.ports = new int[]{1};
+
+    config.admin = null;
+    assertAnnotatedInvalid(validator, config, Bypass.composeMessage("admin", Bypass.OBJECT_NULL_MESSAGE));
+    config.admin = "admin";
+    assertAnnotatedInvalid(validator, config, Bypass.composeMessage("admin", Bypass.INVALID_EMAIL_MESSAGE));
+    config.admin = "admin@ansill.com";
+
+    config.aliases = Arrays.asList("a", null);
+    assertAnnotatedInvalid(
+      validator,
+      config,
+      Bypass.composeMessageWithArrays("aliases", Bypass.NULLS_IN_ARRAY_MESSAGE, Collections.singletonList(1))
+    );
+  }
+
+  @DisplayName("Test validating objects with validator created from annotations on public getters")
+  @Test
+  void testValidatorFromAnnotatedGetters(){
+
+    Validator<PublicConfig> validator = Validator.fromAnnotations(PublicConfig.class);
+
+    assertTrue(validator.isValid(new PublicConfig("ansill.com", 8080)));
+    assertFalse(validator.isValid(new PublicConfig(null, 8080)));
+    assertFalse(validator.isValid(new PublicConfig("ansill.com", 65536)));
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> validator.validate(new PublicConfig("ansill.com", -1))
+    );
+
+    assertEquals(Bypass.composeMessage("port", Bypass.INVALID_PORT_MESSAGE), iae.getMessage());
+  }
+
+  @DisplayName("Test that members with two rules are read once by validator created from annotations")
+  @Test
+  void testValidatorFromAnnotationsReadOnce(){
+
+    Validator<CountedConfig> validator = Validator.fromAnnotations(CountedConfig.class);
+    CountedConfig config = new CountedConfig();
+
+    assertSame(config, validator.validate(config));
+    assertEquals(1, config.reads);
+    assertTrue(validator.isValid(config));
+    assertEquals(2, config.reads);
+
+    config.names = Collections.emptyList();
+    assertAnnotatedInvalid(validator, config, Bypass.composeMessage("names", Bypass.EMPTY_ARRAY_MESSAGE));
+    assertEquals(4, config.reads);
+  }
+
+  @DisplayName("Test creating validator from annotations on unsupported members")
+  @Test
+  void testValidatorFromInvalidAnnotations(){
+
+    IllegalArgumentException iae = assertThrows(
+      IllegalArgumentException.class,
+      () -> Validator.fromAnnotations(InvalidConfig.class)
+    );
+
+    assertTrue(iae.getMessage().startsWith("@Port cannot be placed on members of type java.lang.String"));
+
+    iae = assertThrows(IllegalArgumentException.class, () -> Validator.fromAnnotations(null));
+    assertEquals(Bypass.composeMessage("type", Bypass.OBJECT_NULL_MESSAGE), iae.getMessage());
+  }
+
+  private static <T> void assertAnnotatedInvalid(Validator<T> validator, T object, String message){
+
+    assertFalse(validator.isValid(object));
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+    ValidationException ve = assertThrows(
+      ValidationException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        validator.validate(object);
+      }
+    );
+
+    assertEquals(message, ve.getMessage());
+    ValidationTest.assertStackTrace(ste.get()[0], ve.getStackTrace()[0], 2);
+  }
+
+  private static void assertInvalid(Config config, String message){
+
+    assertFalse(VALIDATOR.isValid(config));
+
+    AtomicReference<StackTraceElement[]> ste = new AtomicReference<>();
+
+    ValidationException ve = assertThrows(
+      ValidationException.class,
+      () -> {
+        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
+        ste.set(Arrays.copyOfRange(stack, 1, stack.length));
+        VALIDATOR.validate(config);
+      }
+    );
+
+    assertEquals(message, ve.getMessage());
+    ValidationTest.assertStackTrace(ste.get()[0], ve.getStackTrace()[0], 2);
+  }
+
+  static final class Config{
+
+    private final String host;
+
+    private final int port;
+
+    private final String admin;
+
+    private final long workers;
+
+    private final List<String> aliases;
+
+    Config(String host, int port, String admin, long workers, List<String> aliases){
+      this.host = host;
+      this.port = port;
+      this.admin = admin;
+      this.workers = workers;
+      this.aliases = aliases;
+    }
+
+    String getHost(){
+      return host;
+    }
+
+    int getPort(){
+      return port;
+    }
+
+    String getAdmin(){
+      return admin;
+    }
+
+    long getWorkers(){
+      return workers;
+    }
+
+    List<String> getAliases(){
+      return aliases;
+    }
+  }
+
+  static final class AnnotatedConfig{
+
+    @Hostname
+    private String host = "ansill.com";
+
+    @Port
+    private int port = 8080;
+
+    @Natural
+    private long workers = 4;
+
+    @NonnullElements(emptyAllowed = false)
+    private String[] names = {"a"};
+
+    @NonEmpty
+    private int[] ports = {1};
+
+    private String admin = "admin@ansill.com";
+
+    private List<String> aliases = Collections.singletonList("a");
+
+    @Email
+    String getAdmin(){
+      return admin;
+    }
+
+    @NonEmpty
+    @NonnullElements
+    private List<String> getAliases(){
+      return aliases;
+    }
+  }
+
+  static final class CountedConfig{
+
+    private List<String> names = Collections.singletonList("a");
+
+    private int reads;
+
+    @NonnullElements(emptyAllowed = false)
+    private List<String> getNames(){
+      reads++;
+      return names;
+    }
+  }
+
+  public static final class PublicConfig{
+
+    private final String host;
+
+    private final int port;
+
+    PublicConfig(String host, int port){
+      this.host = host;
+      this.port = port;
+    }
+
+    @Hostname
+    public String getHost(){
+      return host;
+    }
+
+    @Port
+    public int getPort(){
+      return port;
+    }
+  }
+
+  static final class InvalidConfig{
+
+    @Port
+    String port;
+  }
+}
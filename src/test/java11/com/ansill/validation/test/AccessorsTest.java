@@ -0,0 +1,136 @@
+package com.ansill.validation.test;
+
+import com.ansill.validation.Bypass;
+import com.ansill.validation.Validation;
+import com.ansill.validation.annotation.Hostname;
+import com.ansill.validation.annotation.NonEmpty;
+import com.ansill.validation.annotation.Port;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of accessors generated for validators created from annotations. Like {@link FlightRecorderTest}, the library
+ * is loaded again with the Java 11 layer in front of the base layer. Tests are loaded by the same class loader, so
+ * they are in the same module as the library.
+ */
+class AccessorsTest{
+
+  private static ClassLoader loader;
+
+  private static Class<?> config;
+
+  @BeforeAll
+  static void loadJava11Layer() throws Exception{
+    URL classes = Validation.class.getProtectionDomain().getCodeSource().getLocation();
+    URL test_classes = AccessorsTest.class.getProtectionDomain().getCodeSource().getLocation();
+    URL versions = new URL(classes, "META-INF/versions/11/");
+    loader = new URLClassLoader(new URL[]{versions, classes, test_classes}, ClassLoader.getPlatformClassLoader());
+    config = Class.forName(Config.class.getName(), true, loader);
+  }
+
+  /**
+   * Binds member of configuration with accessors of the library that was loaded with the Java 11 layer
+   *
+   * @param method_name name of method of accessors
+   * @param member      member to be bound
+   * @return accessor
+   * @throws ReflectiveOperationException thrown if accessors cannot be invoked
+   */
+  private static Object bind(String method_name, AccessibleObject member) throws ReflectiveOperationException{
+    Class<?> accessors = Class.forName("com.ansill.validation.Accessors", true, loader);
+    Method method = accessors.getDeclaredMethod(method_name, Class.class, AccessibleObject.class);
+    method.setAccessible(true);
+    return method.invoke(null, config, member);
+  }
+
+  @DisplayName("Test generating accessors of fields")
+  @Test
+  @SuppressWarnings("unchecked")
+  void testFields() throws Exception{
+
+    Object object = config.getConstructor().newInstance();
+
+    Function<Object, Object> aliases = (Function<Object, Object>) bind("bind", config.getDeclaredField("aliases"));
+    assertNotNull(aliases);
+    assertTrue(aliases.getClass().getName().startsWith(Config.class.getName() + "$$Accessor"));
+    assertEquals(Collections.singletonList("a"), aliases.apply(object));
+
+    Function<Object, Object> host = (Function<Object, Object>) bind("bind", config.getDeclaredField("host"));
+    assertNotNull(host);
+    assertEquals("ansill.com", host.apply(object));
+
+    ToLongFunction<Object> port = (ToLongFunction<Object>) bind("bindNumber", config.getDeclaredField("port"));
+    assertNotNull(port);
+    assertEquals(8080L, port.applyAsLong(object));
+  }
+
+  @DisplayName("Test binding private getters")
+  @Test
+  @SuppressWarnings("unchecked")
+  void testGetters() throws Exception{
+
+    Object object = config.getConstructor().newInstance();
+
+    Function<Object, Object> name = (Function<Object, Object>) bind("bind", config.getDeclaredMethod("getName"));
+    assertNotNull(name);
+    assertEquals("name", name.apply(object));
+  }
+
+  @DisplayName("Test validating with generated accessors")
+  @Test
+  void testValidate() throws Exception{
+
+    Object object = config.getConstructor().newInstance();
+    Class<?> validator_type = Class.forName("com.ansill.validation.Validator", true, loader);
+    Object validator = validator_type.getMethod("fromAnnotations", Class.class).invoke(null, config);
+    Method validate = validator_type.getMethod("validate", Object.class);
+
+    assertSame(object, validate.invoke(validator, object));
+
+    config.getMethod("setPort", int.class).invoke(object, 0);
+    InvocationTargetException ite = assertThrows(
+      InvocationTargetException.class,
+      () -> validate.invoke(validator, object)
+    );
+    assertEquals(Bypass.composeMessage("port", Bypass.INVALID_PORT_MESSAGE), ite.getCause().getMessage());
+  }
+
+  /**
+   * Configuration with members that the library cannot access without private access
+   */
+  public static class Config{
+
+    @Port
+    private int port = 8080;
+
+    @NonEmpty
+    private List<String> aliases = Collections.singletonList("a");
+
+    @Hostname
+    String host = "ansill.com";
+
+    private String name = "name";
+
+    public void setPort(int port){
+      this.port = port;
+    }
+
+    @NonEmpty
+    private String getName(){
+      return name;
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.ansill.validation.test;
+
+import com.ansill.validation.Validation;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of Flight Recorder events. Tests run against class directories where the Java 11 layer is not picked up, so
+ * the library is loaded again with the Java 11 layer in front of the base layer, the same way a multi-release jar is
+ * loaded.
+ */
+class FlightRecorderTest{
+
+  private static final String FAILURE_EVENT = "com.ansill.validation.ValidationFailure";
+
+  private static final String CHECK_EVENT = "com.ansill.validation.ValidationCheck";
+
+  private static Class<?> validation;
+
+  @BeforeAll
+  static void loadJava11Layer() throws Exception{
+    URL classes = Validation.class.getProtectionDomain().getCodeSource().getLocation();
+    URL versions = new URL(classes, "META-INF/versions/11/");
+    ClassLoader loader = new URLClassLoader(new URL[]{versions, classes}, ClassLoader.getPlatformClassLoader());
+    validation = Class.forName(Validation.class.getName(), true, loader);
+    assertNotSame(Validation.class, validation);
+  }
+
+  /**
+   * Records events while running the action. Events of the library that are not listed are disabled.
+   *
+   * @param action action to be recorded
+   * @param names  names of events to be enabled
+   * @return recorded events of the library
+   * @throws Exception thrown if recording fails
+   */
+  @Nonnull
+  private static List<RecordedEvent> record(@Nonnull Action action, @Nonnull String... names) throws Exception{
+    Path file = Files.createTempFile("validation", ".jfr");
+    try(Recording recording = new Recording()){
+      recording.disable(FAILURE_EVENT);
+      recording.disable(CHECK_EVENT);
+      for(String name : names) recording.enable(name).withThreshold(Duration.ZERO);
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file)
+                          .stream()
+                          .filter(event -> event.getEventType().getName().startsWith("com.ansill.validation."))
+                          .collect(Collectors.toList());
+    }finally{
+      Files.deleteIfExists(file);
+    }
+  }
+
+  /**
+   * Invokes a method of the library that was loaded with the Java 11 layer
+   *
+   * @param name      name of method
+   * @param types     parameter types
+   * @param arguments arguments
+   * @return exception thrown by the method or null if it returned normally
+   * @throws ReflectiveOperationException thrown if the method cannot be invoked
+   */
+  private static Throwable invoke(@Nonnull String name, @Nonnull Class<?>[] types, @Nonnull Object... arguments)
+  throws ReflectiveOperationException{
+    Method method = validation.getMethod(name, types);
+    try{
+      method.invoke(null, arguments);
+      return null;
+    }catch(InvocationTargetException e){
+      return e.getCause();
+    }
+  }
+
+  @DisplayName("Test recording failed checks")
+  @Test
+  void testFailureEvent() throws Exception{
+
+    Class<?>[] types = {long.class, String.class};
+    List<RecordedEvent> events = record(() -> {
+      assertNull(invoke("assertNaturalNumber", types, 1L, "port"));
+      assertTrue(invoke("assertNaturalNumber", types, 0L, "port") instanceof IllegalArgumentException);
+    }, FAILURE_EVENT);
+
+    assertEquals(1, events.size());
+    RecordedEvent event = events.get(0);
+    assertEquals(FAILURE_EVENT, event.getEventType().getName());
+    assertEquals("NATURAL_NUMBER", event.getString("check"));
+    assertEquals("port", event.getString("variable_name"));
+    assertFalse(event.getDuration().isNegative());
+  }
+
+  @DisplayName("Test recording checks of arrays")
+  @Test
+  void testCheckEvent() throws Exception{
+
+    Class<?>[] types = {int[].class, String.class};
+    List<RecordedEvent> events = record(() -> {
+      assertNull(invoke("assertAllNonnegative", types, new int[]{1, 2, 3}, "array"));
+      assertNull(invoke("assertAllNaturalNumbers", types, new int[]{1, 2, 3}, "workers"));
+    }, CHECK_EVENT);
+
+    assertEquals(2, events.size());
+    RecordedEvent event = events.get(0);
+    assertEquals(CHECK_EVENT, event.getEventType().getName());
+    assertEquals("ALL_NONNEGATIVE", event.getString("check"));
+    assertEquals("array", event.getString("variable_name"));
+    assertEquals("ALL_NATURAL_NUMBERS", events.get(1).getString("check"));
+    assertEquals("workers", events.get(1).getString("variable_name"));
+  }
+
+  @DisplayName("Test that nothing is recorded when events are not enabled")
+  @Test
+  void testDisabled() throws Exception{
+
+    Class<?>[] types = {long.class, String.class};
+    List<RecordedEvent> events = record(
+      () -> assertTrue(invoke("assertNaturalNumber", types, 0L, "port") instanceof IllegalArgumentException)
+    );
+
+    assertTrue(events.isEmpty());
+  }
+
+  /**
+   * Action that may throw checked exceptions
+   */
+  @FunctionalInterface
+  private interface Action{
+
+    /**
+     * Runs action
+     *
+     * @throws Exception thrown if action fails
+     */
+    void run() throws Exception;
+  }
+}